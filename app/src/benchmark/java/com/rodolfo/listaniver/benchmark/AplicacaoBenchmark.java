@@ -0,0 +1,100 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.rodolfo.listaniver.ListaNiverApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sobe a aplicação completa numa porta livre com o H2 em memória do perfil de teste, sem logs de
+ * depuração, para os benchmarks baterem via HTTP como um cliente real.
+ */
+final class AplicacaoBenchmark implements AutoCloseable {
+
+    private final ConfigurableApplicationContext contexto;
+
+    private AplicacaoBenchmark(ConfigurableApplicationContext contexto) {
+        this.contexto = contexto;
+    }
+
+    static AplicacaoBenchmark iniciar(Map<String, Object> propriedades, Duration latenciaJdbc) {
+        Map<String, Object> todas = new HashMap<>();
+        todas.put("server.port", 0);
+        todas.put("spring.jpa.show-sql", false);
+        todas.put("logging.level.root", "WARN");
+        todas.put("logging.level.org.springframework.web", "WARN");
+        todas.put("logging.level.com.rodolfo.listaniver", "WARN");
+        todas.put("lista-niver.aniversarios.cron", "-");
+        todas.putAll(propriedades);
+
+        // Como argumentos de linha de comando para valerem sobre o application.properties
+        String[] argumentos = todas.entrySet().stream()
+                .map(propriedade -> "--" + propriedade.getKey() + "=" + propriedade.getValue())
+                .toArray(String[]::new);
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ListaNiverApplication.class)
+                .profiles("test");
+        if (!latenciaJdbc.isZero()) {
+            builder.initializers(contexto -> contexto.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String nome) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof LatenciaDataSource)
+                            ? new LatenciaDataSource(dataSource, latenciaJdbc)
+                            : bean;
+                }
+            }));
+        }
+        return new AplicacaoBenchmark(builder.run(argumentos));
+    }
+
+    String url(String caminho) {
+        int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+        return "http://localhost:" + porta + caminho;
+    }
+
+    /**
+     * Carrega "Pessoa i" (IDs 1 a {@code pessoas} no banco recém-criado), cada uma com o email
+     * {@code pessoa<i>@email.com}, pelo endpoint de importação.
+     */
+    void importarPessoas(HttpClient http, int pessoas) throws IOException, InterruptedException {
+        String ndjson = IntStream.range(0, pessoas)
+                .mapToObj(i -> "{\"nome\":\"Pessoa %d\",\"dataNascimento\":\"%s\",\"emails\":[{\"email\":\"pessoa%d@email.com\"}]}"
+                        .formatted(i, dataNascimento(i), i))
+                .collect(Collectors.joining("\n"));
+
+        HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(URI.create(url("/api/pessoas/importar")))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Falha ao importar pessoas: " + resposta.statusCode() + " " + resposta.body());
+        }
+    }
+
+    static LocalDate dataNascimento(int i) {
+        return LocalDate.of(1960, 1, 1).plusDays(i % 20_000);
+    }
+
+    <T> T bean(Class<T> tipo) {
+        return contexto.getBean(tipo);
+    }
+
+    @Override
+    public void close() {
+        contexto.close();
+    }
+}
@@ -0,0 +1,340 @@
+package com.rodolfo.listaniver.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga em modelo aberto dos fluxos de pessoa-crud.http: as requisições chegam a uma taxa
+ * fixa, cada uma numa thread virtual, não importa quanto o servidor demore a responder.
+ * <p>
+ * Sobe a aplicação com o H2 em memória (nada de rede além do localhost), importa as pessoas, aquece
+ * e mede. A latência conta a partir do instante em que a requisição deveria ter saído, então um
+ * despachante atrasado ou uma fila no servidor aparecem nos percentis em vez de sumirem. Se as
+ * requisições em andamento passam de {@code max-pendentes}, as novas são descartadas e contadas.
+ * <pre>
+ * ./mvnw -pl app -Pbenchmark test-compile exec:exec@carga -Dbenchmark.args="--taxa=500 --duracao=60"
+ * </pre>
+ * Parâmetros (padrão): taxa em requisições por segundo (200), duracao e aquecimento em segundos
+ * (30 e 10), pessoas (5000), latencia-jdbc-ms (0), max-pendentes (10000), mix em
+ * {@code operacao:peso,...} (ver {@link #MIX_PADRAO}) e saida (target/benchmark/carga).
+ * <p>
+ * Na saída ficam carga.csv com o resumo e um .hgrm por operação com a distribuição completa do
+ * HdrHistogram (em ms), para comparar builds no plotter do HdrHistogram.
+ */
+public final class CargaBenchmark {
+
+    private static final long LATENCIA_MAXIMA_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    private static final List<String> OPERACOES = List.of("buscarPorId", "listar", "buscarPorNome", "aniversariantes",
+            "criar", "atualizar", "deletar", "adicionarEmail", "listarEmails", "buscarEmail");
+
+    // Sem deletar pessoas importadas: leituras e atualizações continuam achando os IDs de 1 a pessoas
+    private static final String MIX_PADRAO = "buscarPorId:25,listar:15,buscarPorNome:15,aniversariantes:5,criar:10,"
+            + "atualizar:10,deletar:5,adicionarEmail:5,listarEmails:5,buscarEmail:5";
+
+    private final AplicacaoBenchmark aplicacao;
+    private final HttpClient http;
+    private final int pessoas;
+    private final Map<String, Integer> mix;
+    private final int pesoTotal;
+    private final int maxPendentes;
+
+    // Pessoas criadas pela carga, as únicas que deletar remove
+    private final ConcurrentLinkedDeque<Long> criadas = new ConcurrentLinkedDeque<>();
+    private final AtomicLong sequencia = new AtomicLong();
+
+    private CargaBenchmark(AplicacaoBenchmark aplicacao, HttpClient http, int pessoas, Map<String, Integer> mix, int maxPendentes) {
+        this.aplicacao = aplicacao;
+        this.http = http;
+        this.pessoas = pessoas;
+        this.mix = mix;
+        this.pesoTotal = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.maxPendentes = maxPendentes;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> parametros = lerParametros(args);
+        int taxa = inteiro(parametros, "taxa", 200);
+        Duration duracao = Duration.ofSeconds(inteiro(parametros, "duracao", 30));
+        Duration aquecimento = Duration.ofSeconds(inteiro(parametros, "aquecimento", 10));
+        int pessoas = inteiro(parametros, "pessoas", 5000);
+        Duration latenciaJdbc = Duration.ofMillis(inteiro(parametros, "latencia-jdbc-ms", 0));
+        int maxPendentes = inteiro(parametros, "max-pendentes", 10_000);
+        Map<String, Integer> mix = lerMix(parametros.getOrDefault("mix", MIX_PADRAO));
+        Path saida = Path.of(parametros.getOrDefault("saida", "target/benchmark/carga"));
+
+        System.out.printf("Taxa: %d req/s | duração: %ds (+%ds aquecimento) | pessoas: %d | latência JDBC: %dms | mix: %s%n",
+                taxa, duracao.toSeconds(), aquecimento.toSeconds(), pessoas, latenciaJdbc.toMillis(), mix);
+
+        try (AplicacaoBenchmark aplicacao = AplicacaoBenchmark.iniciar(Map.of(), latenciaJdbc);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(executor).version(HttpClient.Version.HTTP_1_1).build()) {
+
+            aplicacao.importarPessoas(http, pessoas);
+            CargaBenchmark carga = new CargaBenchmark(aplicacao, http, pessoas, mix, maxPendentes);
+            carga.executar(taxa, aquecimento);
+            Resultado resultado = carga.executar(taxa, duracao);
+
+            resultado.imprimir();
+            resultado.gravar(saida);
+        }
+    }
+
+    private Resultado executar(int taxa, Duration duracao) {
+        Resultado resultado = new Resultado(taxa, duracao, mix.keySet());
+        AtomicInteger pendentes = new AtomicInteger();
+        long intervalo = 1_000_000_000L / taxa;
+        long inicio = System.nanoTime();
+        long fim = inicio + duracao.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long previsto = inicio + i * intervalo;
+                if (previsto >= fim) {
+                    break;
+                }
+                long espera = previsto - System.nanoTime();
+                if (espera <= 0) {
+                    resultado.atrasoDespacho.accumulateAndGet(-espera, Math::max);
+                }
+                // parkNanos pode voltar antes do prazo
+                while (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                    espera = previsto - System.nanoTime();
+                }
+
+                if (pendentes.get() >= maxPendentes) {
+                    resultado.descartadas.increment();
+                    continue;
+                }
+                String operacao = sortear(ThreadLocalRandom.current().nextInt(pesoTotal));
+                pendentes.incrementAndGet();
+                executor.submit(() -> {
+                    try {
+                        executar(operacao, previsto, resultado);
+                    } finally {
+                        pendentes.decrementAndGet();
+                    }
+                });
+            }
+        }
+        return resultado;
+    }
+
+    private void executar(String sorteada, long previsto, Resultado resultado) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        Long removida = sorteada.equals("deletar") ? criadas.poll() : null;
+        // Sem pessoa criada para remover, cria uma: a proporção de escritas do mix se mantém
+        String operacao = sorteada.equals("deletar") && removida == null ? "criar" : sorteada;
+
+        boolean sucesso;
+        try {
+            HttpResponse<String> resposta = http.send(requisicao(operacao, aleatorio, removida), HttpResponse.BodyHandlers.ofString());
+            sucesso = resposta.statusCode() < 400;
+            if (sucesso && operacao.equals("criar")) {
+                Matcher id = ID.matcher(resposta.body());
+                if (id.find()) {
+                    criadas.add(Long.parseLong(id.group(1)));
+                }
+            }
+        } catch (IOException e) {
+            sucesso = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        resultado.medicoes.get(operacao).registrar(System.nanoTime() - previsto, sucesso);
+    }
+
+    private HttpRequest requisicao(String operacao, ThreadLocalRandom aleatorio, Long removida) {
+        int i = aleatorio.nextInt(pessoas);
+        long id = i + 1L;
+        long n = sequencia.incrementAndGet();
+        return switch (operacao) {
+            case "buscarPorId" -> get("/api/pessoas/" + id);
+            case "listar" -> get("/api/pessoas?tamanho=20");
+            case "buscarPorNome" -> get("/api/pessoas/buscar?nome=pessoa%20" + aleatorio.nextInt(100));
+            case "aniversariantes" -> get("/api/pessoas/aniversariantes?dias=7");
+            case "criar" -> enviar("POST", "/api/pessoas", pessoa("Carga " + n, AplicacaoBenchmark.dataNascimento((int) n), "carga" + n + "@email.com"));
+            case "atualizar" -> enviar("PUT", "/api/pessoas/" + id, pessoa("Pessoa " + i, AplicacaoBenchmark.dataNascimento(i), "pessoa" + i + "@email.com"));
+            case "deletar" -> HttpRequest.newBuilder(URI.create(aplicacao.url("/api/pessoas/" + removida))).timeout(TIMEOUT).DELETE().build();
+            case "adicionarEmail" -> enviar("POST", "/api/emails/pessoa/" + id, "{\"email\":\"carga" + n + "@email.com\"}");
+            case "listarEmails" -> get("/api/emails/pessoa/" + id);
+            case "buscarEmail" -> get("/api/emails?address=pessoa" + i + "@email.com");
+            default -> throw new IllegalArgumentException("Operação desconhecida: " + operacao);
+        };
+    }
+
+    private HttpRequest get(String caminho) {
+        return HttpRequest.newBuilder(URI.create(aplicacao.url(caminho))).timeout(TIMEOUT).build();
+    }
+
+    private HttpRequest enviar(String metodo, String caminho, String json) {
+        return HttpRequest.newBuilder(URI.create(aplicacao.url(caminho)))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static String pessoa(String nome, Object dataNascimento, String email) {
+        return "{\"nome\":\"%s\",\"dataNascimento\":\"%s\",\"emails\":[{\"email\":\"%s\"}]}".formatted(nome, dataNascimento, email);
+    }
+
+    private String sortear(int sorteio) {
+        for (Map.Entry<String, Integer> operacao : mix.entrySet()) {
+            sorteio -= operacao.getValue();
+            if (sorteio < 0) {
+                return operacao.getKey();
+            }
+        }
+        throw new IllegalStateException("Sorteio fora do peso total: " + sorteio);
+    }
+
+    private static Map<String, Integer> lerMix(String valor) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String item : valor.split(",")) {
+            String[] partes = item.split(":");
+            if (partes.length != 2 || !OPERACOES.contains(partes[0].strip())) {
+                throw new IllegalArgumentException("Item de mix inválido (use operacao:peso, com operacao em " + OPERACOES + "): " + item);
+            }
+            int peso = Integer.parseInt(partes[1].strip());
+            if (peso > 0) {
+                mix.put(partes[0].strip(), peso);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix sem nenhuma operação com peso positivo: " + valor);
+        }
+        // Um deletar sem pessoa criada vira criar, que precisa de medição mesmo fora do mix
+        if (mix.containsKey("deletar")) {
+            mix.putIfAbsent("criar", 0);
+        }
+        return mix;
+    }
+
+    private static Map<String, String> lerParametros(String[] args) {
+        Map<String, String> parametros = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Parâmetro inválido (use --nome=valor): " + arg);
+            }
+            parametros.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return parametros;
+    }
+
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        return parametros.containsKey(nome) ? Integer.parseInt(parametros.get(nome)) : padrao;
+    }
+
+    private static final class Resultado {
+
+        private final int taxa;
+        private final Duration duracao;
+        private final Map<String, Medicao> medicoes = new LinkedHashMap<>();
+        private final LongAdder descartadas = new LongAdder();
+        private final AtomicLong atrasoDespacho = new AtomicLong();
+
+        Resultado(int taxa, Duration duracao, Iterable<String> operacoes) {
+            this.taxa = taxa;
+            this.duracao = duracao;
+            operacoes.forEach(operacao -> medicoes.put(operacao, new Medicao()));
+        }
+
+        Medicao total() {
+            Medicao total = new Medicao();
+            medicoes.values().forEach(medicao -> {
+                total.latencias.add(medicao.latencias);
+                total.erros.add(medicao.erros.sum());
+            });
+            return total;
+        }
+
+        void imprimir() {
+            Medicao total = total();
+            System.out.printf("%n== Carga em modelo aberto ==%n");
+            System.out.printf(Locale.ROOT, "Taxa alvo: %d req/s | atingida: %.1f req/s | descartadas: %d | maior atraso do despachante: %.2f ms%n",
+                    taxa, total.latencias.getTotalCount() / (double) duracao.toSeconds(), descartadas.sum(), atrasoDespacho.get() / 1_000_000.0);
+            System.out.printf("%-16s %11s %8s %10s %9s %9s %9s %9s %9s%n",
+                    "operação", "requisições", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+            medicoes.forEach((operacao, medicao) -> System.out.println(medicao.linha(operacao, duracao)));
+            System.out.println(total.linha("total", duracao));
+        }
+
+        void gravar(Path diretorio) throws IOException {
+            Files.createDirectories(diretorio);
+            List<String> csv = new ArrayList<>();
+            csv.add("operacao,requisicoes,erros,throughput_rps,p50_ms,p95_ms,p99_ms,p999_ms,max_ms,taxa_alvo,descartadas");
+
+            Map<String, Medicao> todas = new LinkedHashMap<>(medicoes);
+            todas.put("total", total());
+            for (Map.Entry<String, Medicao> medicao : todas.entrySet()) {
+                csv.add(medicao.getValue().csv(medicao.getKey(), duracao) + "," + taxa + "," + descartadas.sum());
+                try (PrintStream hgrm = new PrintStream(Files.newOutputStream(diretorio.resolve(medicao.getKey() + ".hgrm")))) {
+                    // Valores em microssegundos; o fator deixa a distribuição em milissegundos
+                    medicao.getValue().latencias.outputPercentileDistribution(hgrm, 1000.0);
+                }
+            }
+            Files.write(diretorio.resolve("carga.csv"), csv);
+            System.out.println("Resultados gravados em " + diretorio.toAbsolutePath());
+        }
+    }
+
+    private static final class Medicao {
+
+        private final Histogram latencias = new ConcurrentHistogram(LATENCIA_MAXIMA_MICROS, 3);
+        private final LongAdder erros = new LongAdder();
+
+        void registrar(long nanos, boolean sucesso) {
+            latencias.recordValue(Math.min(nanos / 1000, LATENCIA_MAXIMA_MICROS));
+            if (!sucesso) {
+                erros.increment();
+            }
+        }
+
+        String linha(String operacao, Duration duracao) {
+            return String.format(Locale.ROOT, "%-16s %11d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f", operacao, latencias.getTotalCount(), erros.sum(),
+                    latencias.getTotalCount() / (double) duracao.toSeconds(),
+                    percentil(50), percentil(95), percentil(99), percentil(99.9), latencias.getMaxValue() / 1000.0);
+        }
+
+        String csv(String operacao, Duration duracao) {
+            return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", operacao, latencias.getTotalCount(), erros.sum(),
+                    latencias.getTotalCount() / (double) duracao.toSeconds(),
+                    percentil(50), percentil(95), percentil(99), percentil(99.9), latencias.getMaxValue() / 1000.0);
+        }
+
+        private double percentil(double percentil) {
+            return latencias.getValueAtPercentile(percentil) / 1000.0;
+        }
+    }
+}
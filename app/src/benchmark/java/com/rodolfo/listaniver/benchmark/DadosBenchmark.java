@@ -0,0 +1,56 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Massa de dados dos microbenchmarks, com o mesmo formato das requisições reais.
+ */
+final class DadosBenchmark {
+
+    private static final LocalDate NASCIMENTO = LocalDate.of(1990, 5, 15);
+
+    private DadosBenchmark() {
+    }
+
+    static PessoaInputDTO pessoaInput(int quantidadeEmails) {
+        Set<EmailInputDTO> emails = IntStream.range(0, quantidadeEmails)
+                .mapToObj(i -> new EmailInputDTO("joao.silva" + i + "@email.com"))
+                .collect(Collectors.toSet());
+        return new PessoaInputDTO("João da Silva", NASCIMENTO, emails);
+    }
+
+    static Pessoa pessoa(int quantidadeEmails) {
+        Pessoa pessoa = new Pessoa(1L, "João da Silva", NASCIMENTO, new HashSet<>());
+        for (int i = 0; i < quantidadeEmails; i++) {
+            pessoa.getEmails().add(new Email(i + 1L, "joao.silva" + i + "@email.com", pessoa));
+        }
+        return pessoa;
+    }
+
+    // Página de GET /api/pessoas: IDs, nomes e datas diferentes, como numa listagem real
+    static PessoaPageOutputDTO pagina(int quantidadePessoas, int emailsPorPessoa) {
+        List<PessoaOutputDTO> pessoas = IntStream.range(0, quantidadePessoas)
+                .mapToObj(i -> {
+                    long id = i + 1L;
+                    Set<EmailOutputDTO> emails = IntStream.range(0, emailsPorPessoa)
+                            .mapToObj(j -> new EmailOutputDTO(id * 10 + j, "pessoa" + i + "." + j + "@email.com", id))
+                            .collect(Collectors.toSet());
+                    return new PessoaOutputDTO(id, "Pessoa " + i + " da Silva", NASCIMENTO.plusDays(i * 37L), emails, 0L);
+                })
+                .toList();
+        return new PessoaPageOutputDTO(pessoas, null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.rodolfo.listaniver.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Roda os microbenchmarks JMH sempre com o profiler de GC (taxa de alocação e bytes por operação)
+ * e, salvo indicação em contrário ({@code -rf}/{@code -rff}), grava o resultado em JSON para
+ * comparar entre builds. Aceita os demais argumentos do JMH, ex.: {@code JsonBenchmark -p quantidadeEmails=5} ou {@code -l}.
+ */
+public final class ExecutarJmh {
+
+    private static final Path RESULTADO = Path.of("target/benchmark/jmh.json");
+
+    private ExecutarJmh() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp() || linhaDeComando.shouldList() || linhaDeComando.shouldListWithParams()
+                || linhaDeComando.shouldListProfilers() || linhaDeComando.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+
+        OptionsBuilder opcoes = new OptionsBuilder();
+        opcoes.parent(linhaDeComando);
+        opcoes.addProfiler(GCProfiler.class);
+
+        if (!linhaDeComando.getResult().hasValue() && !linhaDeComando.getResultFormat().hasValue()) {
+            Files.createDirectories(RESULTADO.getParent());
+            opcoes.resultFormat(ResultFormatType.JSON).result(RESULTADO.toString());
+        }
+
+        new Runner(opcoes.build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Tamanho e tempo de codificação de uma página de /api/pessoas em JSON, CBOR e Smile, com e sem
+ * gzip (o nível padrão do Deflater, o mesmo da compressão do Tomcat).
+ * <p>
+ * O tempo sai nas medições do JMH; o tamanho de cada combinação é impresso no início do trial, ex.:
+ * {@code ExecutarJmh FormatosBenchmark -p quantidadePessoas=100}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class FormatosBenchmark {
+
+    private static final int EMAILS_POR_PESSOA = 2;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"20", "100"})
+    private int quantidadePessoas;
+
+    private ObjectWriter escritor;
+    private ObjectReader leitor;
+    private PessoaPageOutputDTO pagina;
+    private byte[] codificada;
+
+    @Setup
+    public void preparar() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().factory(fabrica(formato)).build();
+        escritor = objectMapper.writerFor(PessoaPageOutputDTO.class);
+        leitor = objectMapper.readerFor(PessoaPageOutputDTO.class);
+
+        pagina = DadosBenchmark.pagina(quantidadePessoas, EMAILS_POR_PESSOA);
+        codificada = escrever();
+
+        int semCompressao = escritor.writeValueAsBytes(pagina).length;
+        System.out.printf("%n%s%s, %d pessoas: %d bytes (%d bytes por pessoa, %.0f%% do tamanho sem gzip)%n",
+                formato, gzip ? "+gzip" : "", quantidadePessoas, codificada.length,
+                codificada.length / quantidadePessoas, 100.0 * codificada.length / semCompressao);
+    }
+
+    // Resposta enviada pelo servidor e corpo lido pelo cliente
+
+    @Benchmark
+    public byte[] escrever() throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(8192);
+        try (OutputStream destino = gzip ? new GZIPOutputStream(saida) : saida) {
+            escritor.writeValue(destino, pagina);
+        }
+        return saida.toByteArray();
+    }
+
+    @Benchmark
+    public PessoaPageOutputDTO ler() throws IOException {
+        try (InputStream origem = gzip
+                ? new GZIPInputStream(new ByteArrayInputStream(codificada))
+                : new ByteArrayInputStream(codificada)) {
+            return leitor.readValue(origem);
+        }
+    }
+
+    private static JsonFactory fabrica(String formato) {
+        return switch (formato) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Formato desconhecido: " + formato);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ida e volta do Jackson para os corpos de requisição e resposta de /api/pessoas, com o
+ * ObjectMapper configurado como o do Spring MVC (datas ISO, JavaTimeModule).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JsonBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    private int quantidadeEmails;
+
+    private ObjectReader leitorInput;
+    private ObjectWriter escritorInput;
+    private ObjectReader leitorOutput;
+    private ObjectWriter escritorOutput;
+    private PessoaInputDTO input;
+    private byte[] jsonInput;
+    private PessoaOutputDTO output;
+
+    @Setup
+    public void preparar() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        leitorInput = objectMapper.readerFor(PessoaInputDTO.class);
+        escritorInput = objectMapper.writerFor(PessoaInputDTO.class);
+        leitorOutput = objectMapper.readerFor(PessoaOutputDTO.class);
+        escritorOutput = objectMapper.writerFor(PessoaOutputDTO.class);
+
+        input = DadosBenchmark.pessoaInput(quantidadeEmails);
+        jsonInput = escritorInput.writeValueAsBytes(input);
+        output = PessoaMapper.toOutputDTO(DadosBenchmark.pessoa(quantidadeEmails));
+    }
+
+    // Os dois sentidos usados numa requisição: corpo recebido e resposta enviada
+
+    @Benchmark
+    public PessoaInputDTO lerPessoaInput() throws IOException {
+        return leitorInput.readValue(jsonInput);
+    }
+
+    @Benchmark
+    public byte[] escreverPessoaOutput() throws IOException {
+        return escritorOutput.writeValueAsBytes(output);
+    }
+
+    @Benchmark
+    public PessoaInputDTO idaEVoltaPessoaInput() throws IOException {
+        return leitorInput.readValue(escritorInput.writeValueAsBytes(input));
+    }
+
+    @Benchmark
+    public PessoaOutputDTO idaEVoltaPessoaOutput() throws IOException {
+        return leitorOutput.readValue(escritorOutput.writeValueAsBytes(output));
+    }
+}
@@ -0,0 +1,65 @@
+package com.rodolfo.listaniver.benchmark;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Atrasa cada execução de comando JDBC, segurando a conexão como faria um Postgres lento.
+ * Com o H2 em memória as consultas levam microssegundos e nenhuma requisição ficaria bloqueada
+ * no banco, que é justamente o cenário que o benchmark quer comparar.
+ */
+class LatenciaDataSource extends DelegatingDataSource {
+
+    private final Duration latencia;
+
+    LatenciaDataSource(DataSource alvo, Duration latencia) {
+        super(alvo);
+        this.latencia = latencia;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return envolver(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return envolver(super.getConnection(username, password));
+    }
+
+    private Connection envolver(Connection conexao) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            Object resultado = invocar(conexao, metodo, argumentos);
+            return resultado instanceof Statement statement ? envolver(statement, metodo.getReturnType()) : resultado;
+        };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, handler);
+    }
+
+    private Object envolver(Statement statement, Class<?> tipo) {
+        InvocationHandler handler = (proxy, metodo, argumentos) -> {
+            if (metodo.getName().startsWith("execute")) {
+                // Thread.sleep estaciona a thread virtual sem prender a portadora
+                Thread.sleep(latencia);
+            }
+            return invocar(statement, metodo, argumentos);
+        };
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    private static Object invocar(Object alvo, Method metodo, Object[] argumentos) throws Throwable {
+        try {
+            return metodo.invoke(alvo, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import com.rodolfo.listaniver.repository.PessoaJdbcRepository;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Leitura de pessoas com emails por IDs, como em GET /api/pessoas e /api/pessoas/buscar: o caminho
+ * antigo (entidades com fetch dos emails copiadas para os DTOs) contra a projeção em {@link LinhaPessoa}.
+ * Cada operação roda numa transação somente leitura sobre o H2 em memória da aplicação.
+ * <pre>
+ * ./mvnw -pl app -Pbenchmark test-compile exec:exec@jmh -Dbenchmark.args="LeituraBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LeituraBenchmark {
+
+    // Mesma consulta que o @EntityGraph de emails gerava
+    private static final String CONSULTA_ENTIDADES = "SELECT p FROM Pessoa p LEFT JOIN FETCH p.emails WHERE p.id IN :ids";
+
+    @Param({"1", "20", "100"})
+    private int quantidadePessoas;
+
+    @Param({"1", "5"})
+    private int quantidadeEmails;
+
+    private AplicacaoBenchmark aplicacao;
+    private TransactionTemplate transacao;
+    private EntityManager entityManager;
+    private PessoaLeituraRepository leitura;
+    private List<Long> ids;
+
+    @Setup
+    public void preparar() {
+        aplicacao = AplicacaoBenchmark.iniciar(Map.of(), Duration.ZERO);
+        transacao = new TransactionTemplate(aplicacao.bean(PlatformTransactionManager.class));
+        transacao.setReadOnly(true);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(aplicacao.bean(EntityManagerFactory.class));
+        leitura = aplicacao.bean(PessoaLeituraRepository.class);
+
+        List<PessoaInputDTO> pessoas = IntStream.range(0, quantidadePessoas)
+                .mapToObj(i -> new PessoaInputDTO("Pessoa " + i, LocalDate.of(1960, 1, 1).plusDays(i), emails(i)))
+                .toList();
+        ids = aplicacao.bean(PessoaJdbcRepository.class).inserir(pessoas);
+    }
+
+    @TearDown
+    public void encerrar() {
+        aplicacao.close();
+    }
+
+    @Benchmark
+    public Collection<PessoaOutputDTO> entidades() {
+        return transacao.execute(status -> entityManager.createQuery(CONSULTA_ENTIDADES, Pessoa.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .map(PessoaMapper::toOutputDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public Collection<PessoaOutputDTO> projecao() {
+        return transacao.execute(status -> LinhaPessoa.agrupar(leitura.findLinhasByIdIn(ids)).values());
+    }
+
+    private Set<EmailInputDTO> emails(int pessoa) {
+        return IntStream.range(0, quantidadeEmails)
+                .mapToObj(i -> new EmailInputDTO("pessoa" + pessoa + "." + i + "@email.com"))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,72 @@
+package com.rodolfo.listaniver.benchmark;
+
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entre DTOs e entidades feitas em toda requisição de escrita e leitura.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MapeamentoBenchmark {
+
+    @Param({"0", "1", "5", "20"})
+    private int quantidadeEmails;
+
+    private final PessoaMapper mapper = new PessoaMapper();
+    private PessoaInputDTO input;
+    private Set<EmailInputDTO> emailsInput;
+    private Pessoa pessoa;
+    private Email email;
+
+    @Setup
+    public void preparar() {
+        input = DadosBenchmark.pessoaInput(quantidadeEmails);
+        emailsInput = input.emails();
+        pessoa = DadosBenchmark.pessoa(quantidadeEmails);
+        email = DadosBenchmark.pessoa(1).getEmails().iterator().next();
+    }
+
+    @Benchmark
+    public Pessoa toEntity() {
+        return mapper.toEntity(input);
+    }
+
+    @Benchmark
+    public Set<Email> convertEmailInputDTOsToEmails() {
+        return mapper.convertEmailInputDTOsToEmails(emailsInput, pessoa);
+    }
+
+    @Benchmark
+    public PessoaOutputDTO pessoaOutputFromEntity() {
+        return PessoaMapper.toOutputDTO(pessoa);
+    }
+
+    @Benchmark
+    public EmailOutputDTO emailOutputFromEntity() {
+        return PessoaMapper.toOutputDTO(email);
+    }
+}
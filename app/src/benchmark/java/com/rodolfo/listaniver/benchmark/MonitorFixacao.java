@@ -0,0 +1,58 @@
+package com.rodolfo.listaniver.benchmark;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Conta, via JFR, as vezes em que uma thread virtual ficou presa à portadora (synchronized ou
+ * código nativo durante um bloqueio) por mais de 20 ms, agrupando pelo primeiro frame fora do JDK.
+ */
+final class MonitorFixacao implements AutoCloseable {
+
+    private static final String EVENTO = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream stream = new RecordingStream();
+    private final Map<String, LongAdder> origens = new ConcurrentHashMap<>();
+
+    MonitorFixacao() {
+        stream.enable(EVENTO).withStackTrace();
+        stream.onEvent(EVENTO, this::registrar);
+        stream.startAsync();
+    }
+
+    long total() {
+        return origens.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    List<String> principaisOrigens(int limite) {
+        return origens.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> origem) -> origem.getValue().sum()).reversed())
+                .limit(limite)
+                .map(origem -> origem.getValue().sum() + "x " + origem.getKey())
+                .toList();
+    }
+
+    private void registrar(RecordedEvent evento) {
+        String origem = evento.getStackTrace() == null ? "?" : evento.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .findFirst()
+                .orElse("?");
+        origens.computeIfAbsent(origem, chave -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void close() {
+        // stop() espera o consumo dos eventos já gravados, close() descartaria os pendentes
+        stream.stop();
+        stream.close();
+    }
+}
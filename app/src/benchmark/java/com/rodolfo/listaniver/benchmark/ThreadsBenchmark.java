@@ -0,0 +1,211 @@
+package com.rodolfo.listaniver.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Compara throughput e latência dos endpoints de leitura de /api/pessoas com o Tomcat em threads
+ * de plataforma e em threads virtuais, com latência de banco simulada em cada comando JDBC.
+ * <p>
+ * Cada modo sobe a aplicação do zero, carrega as pessoas pelo endpoint de importação, aquece e
+ * mede com clientes em laço fechado. No modo virtual também conta as fixações de thread pelo JFR.
+ * <pre>
+ * ./mvnw -pl app -Pbenchmark test-compile exec:exec -Dbenchmark.args="--clientes=400 --latencia-jdbc-ms=10"
+ * </pre>
+ * Parâmetros (padrão): clientes (400), duracao e aquecimento em segundos (30 e 10),
+ * latencia-jdbc-ms (10), pool de conexões (50), threads-tomcat (200), pessoas (5000) e
+ * saida (target/benchmark/threads.csv).
+ */
+public final class ThreadsBenchmark {
+
+    private static final long LATENCIA_MAXIMA_MICROS = Duration.ofMinutes(1).toNanos() / 1000;
+
+    private static final List<Operacao> OPERACOES = List.of(
+            new Operacao("listar", 40, (aleatorio, pessoas) -> "/api/pessoas?tamanho=20"),
+            new Operacao("buscarPorId", 30, (aleatorio, pessoas) -> "/api/pessoas/" + (1 + aleatorio.nextInt(pessoas))),
+            new Operacao("buscarPorNome", 20, (aleatorio, pessoas) -> "/api/pessoas/buscar?nome=pessoa%20" + aleatorio.nextInt(100)),
+            new Operacao("aniversariantes", 10, (aleatorio, pessoas) -> "/api/pessoas/aniversariantes?dias=7"));
+
+    private ThreadsBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> parametros = lerParametros(args);
+        int clientes = inteiro(parametros, "clientes", 400);
+        Duration duracao = Duration.ofSeconds(inteiro(parametros, "duracao", 30));
+        Duration aquecimento = Duration.ofSeconds(inteiro(parametros, "aquecimento", 10));
+        Duration latenciaJdbc = Duration.ofMillis(inteiro(parametros, "latencia-jdbc-ms", 10));
+        int pool = inteiro(parametros, "pool", 50);
+        int threadsTomcat = inteiro(parametros, "threads-tomcat", 200);
+        int pessoas = inteiro(parametros, "pessoas", 5000);
+        Path saida = Path.of(parametros.getOrDefault("saida", "target/benchmark/threads.csv"));
+
+        System.out.printf("Clientes: %d | duração: %ds (+%ds aquecimento) | latência JDBC: %dms | pool: %d | threads Tomcat: %d | pessoas: %d%n",
+                clientes, duracao.toSeconds(), aquecimento.toSeconds(), latenciaJdbc.toMillis(), pool, threadsTomcat, pessoas);
+
+        List<String> csv = new ArrayList<>();
+        csv.add("modo,operacao,requisicoes,erros,throughput_rps,p50_ms,p90_ms,p99_ms,max_ms,fixacoes");
+
+        for (String modo : List.of("plataforma", "virtual")) {
+            Map<String, Object> propriedades = Map.of(
+                    "spring.threads.virtual.enabled", modo.equals("virtual"),
+                    "spring.datasource.hikari.maximum-pool-size", pool,
+                    "server.tomcat.threads.max", threadsTomcat);
+
+            try (AplicacaoBenchmark aplicacao = AplicacaoBenchmark.iniciar(propriedades, latenciaJdbc);
+                 ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder().executor(executor).version(HttpClient.Version.HTTP_1_1).build()) {
+
+                aplicacao.importarPessoas(http, pessoas);
+                executarCarga(aplicacao, http, clientes, aquecimento, pessoas);
+
+                MonitorFixacao monitor = new MonitorFixacao();
+                Map<String, Medicao> medicoes;
+                try {
+                    medicoes = executarCarga(aplicacao, http, clientes, duracao, pessoas);
+                } finally {
+                    monitor.close();
+                }
+                long fixacoes = monitor.total();
+                List<String> origens = monitor.principaisOrigens(5);
+
+                imprimir(modo, medicoes, duracao, fixacoes, origens);
+                medicoes.forEach((operacao, medicao) -> csv.add(medicao.csv(modo, operacao, duracao, fixacoes)));
+                csv.add(total(medicoes).csv(modo, "total", duracao, fixacoes));
+            }
+        }
+
+        Files.createDirectories(saida.toAbsolutePath().getParent());
+        Files.write(saida, csv);
+        System.out.println("Resultados gravados em " + saida.toAbsolutePath());
+    }
+
+    private static Map<String, Medicao> executarCarga(AplicacaoBenchmark aplicacao, HttpClient http, int clientes, Duration duracao, int pessoas) {
+        Map<String, Medicao> medicoes = new LinkedHashMap<>();
+        OPERACOES.forEach(operacao -> medicoes.put(operacao.nome(), new Medicao()));
+        int pesoTotal = OPERACOES.stream().mapToInt(Operacao::peso).sum();
+        long fim = System.nanoTime() + duracao.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                executor.submit(() -> {
+                    ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                    while (System.nanoTime() < fim) {
+                        Operacao operacao = sortear(aleatorio.nextInt(pesoTotal));
+                        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(aplicacao.url(operacao.caminho().apply(aleatorio, pessoas))))
+                                .timeout(Duration.ofMinutes(1))
+                                .build();
+
+                        long inicio = System.nanoTime();
+                        boolean sucesso;
+                        try {
+                            sucesso = http.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                        } catch (IOException e) {
+                            sucesso = false;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        medicoes.get(operacao.nome()).registrar(System.nanoTime() - inicio, sucesso);
+                    }
+                });
+            }
+        }
+        return medicoes;
+    }
+
+    private static Operacao sortear(int sorteio) {
+        for (Operacao operacao : OPERACOES) {
+            sorteio -= operacao.peso();
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return OPERACOES.getLast();
+    }
+
+    private static Medicao total(Map<String, Medicao> medicoes) {
+        Medicao total = new Medicao();
+        medicoes.values().forEach(medicao -> {
+            total.latencias.add(medicao.latencias);
+            total.erros.add(medicao.erros.sum());
+        });
+        return total;
+    }
+
+    private static void imprimir(String modo, Map<String, Medicao> medicoes, Duration duracao, long fixacoes, List<String> origens) {
+        System.out.printf("%n== Threads de %s ==%n", modo);
+        System.out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n", "operação", "requisições", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        medicoes.forEach((operacao, medicao) -> System.out.println(medicao.linha(operacao, duracao)));
+        System.out.println(total(medicoes).linha("total", duracao));
+        System.out.printf("Fixações de thread virtual (> 20 ms): %d%n", fixacoes);
+        origens.forEach(origem -> System.out.println("  " + origem));
+    }
+
+    private static Map<String, String> lerParametros(String[] args) {
+        Map<String, String> parametros = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Parâmetro inválido (use --nome=valor): " + arg);
+            }
+            parametros.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return parametros;
+    }
+
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        return parametros.containsKey(nome) ? Integer.parseInt(parametros.get(nome)) : padrao;
+    }
+
+    private record Operacao(String nome, int peso, BiFunction<ThreadLocalRandom, Integer, String> caminho) {
+    }
+
+    private static final class Medicao {
+
+        private final Histogram latencias = new ConcurrentHistogram(LATENCIA_MAXIMA_MICROS, 3);
+        private final LongAdder erros = new LongAdder();
+
+        void registrar(long nanos, boolean sucesso) {
+            latencias.recordValue(Math.min(nanos / 1000, LATENCIA_MAXIMA_MICROS));
+            if (!sucesso) {
+                erros.increment();
+            }
+        }
+
+        String linha(String operacao, Duration duracao) {
+            return String.format(Locale.ROOT, "%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f", operacao, latencias.getTotalCount(), erros.sum(),
+                    latencias.getTotalCount() / (double) duracao.toSeconds(),
+                    percentil(50), percentil(90), percentil(99), latencias.getMaxValue() / 1000.0);
+        }
+
+        String csv(String modo, String operacao, Duration duracao, long fixacoes) {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d", modo, operacao, latencias.getTotalCount(), erros.sum(),
+                    latencias.getTotalCount() / (double) duracao.toSeconds(),
+                    percentil(50), percentil(90), percentil(99), latencias.getMaxValue() / 1000.0, fixacoes);
+        }
+
+        private double percentil(double percentil) {
+            return latencias.getValueAtPercentile(percentil) / 1000.0;
+        }
+    }
+}
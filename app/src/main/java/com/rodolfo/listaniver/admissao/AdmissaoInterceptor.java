@@ -0,0 +1,128 @@
+package com.rodolfo.listaniver.admissao;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rodolfo.listaniver.config.AdmissaoProperties;
+import com.rodolfo.listaniver.exception.LimiteRequisicoesException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Controle de admissão na frente dos controllers: um balde de tokens por cliente e por endpoint,
+ * com o tamanho e a taxa da classe de custo do endpoint ({@link CustoEndpoint}). Sem token, a
+ * requisição nem chega ao controller e responde 429 com Retry-After.
+ * <p>
+ * O cliente é o endereço remoto da requisição; atrás de proxy ele só é o do cliente real com
+ * server.forward-headers-strategy configurado. Os baldes ficam num cache do Caffeine, limitado e
+ * com expiração: um balde parado pelo tempo de reposição completa já estaria cheio, então
+ * descartá-lo e criar outro depois dá a mesma decisão.
+ */
+public class AdmissaoInterceptor implements HandlerInterceptor {
+
+    private static final long NANOS_POR_SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdmissaoProperties properties;
+    private final MeterRegistry registry;
+    private final LongSupplier relogio;
+    private final Cache<Chave, BaldeTokens> baldes;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public AdmissaoInterceptor(AdmissaoProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    AdmissaoInterceptor(AdmissaoProperties properties, MeterRegistry registry, LongSupplier relogio) {
+        this.properties = properties;
+        this.registry = registry;
+        this.relogio = relogio;
+        this.baldes = Caffeine.newBuilder()
+                .maximumSize(properties.maximoBaldes())
+                .expireAfterAccess(reposicaoCompleta(properties))
+                .build();
+        Gauge.builder("lista.niver.admissao.baldes", baldes, Cache::estimatedSize)
+                .description("Baldes de tokens em memória (cliente x endpoint)")
+                .register(registry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // O despacho assíncrono (exportação em fluxo) é a mesma requisição: já pagou o token
+        if (!(handler instanceof HandlerMethod metodo) || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        Endpoint endpoint = endpoints.computeIfAbsent(metodo.getMethod(), chave -> endpoint(request, metodo));
+        BaldeTokens balde = baldes.get(new Chave(request.getRemoteAddr(), metodo.getMethod()), chave -> endpoint.novoBalde());
+        long espera = balde.consumir(relogio.getAsLong());
+        if (espera == 0) {
+            endpoint.aceitas.increment();
+            return true;
+        }
+
+        endpoint.recusadas.increment();
+        // Arredonda para cima: com Retry-After menor o cliente voltaria antes de haver token
+        throw new LimiteRequisicoesException((espera + NANOS_POR_SEGUNDO - 1) / NANOS_POR_SEGUNDO);
+    }
+
+    private Endpoint endpoint(HttpServletRequest request, HandlerMethod metodo) {
+        CustoEndpoint anotacao = metodo.getMethodAnnotation(CustoEndpoint.class);
+        Custo custo = anotacao != null ? anotacao.value() : Custo.BARATO;
+        // Mesmas tags do http.server.requests, para cruzar recusas com a latência do endpoint
+        String uri = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        return new Endpoint(custo,
+                decisoes(request.getMethod(), uri, custo, "aceita"),
+                decisoes(request.getMethod(), uri, custo, "recusada"));
+    }
+
+    private Counter decisoes(String metodo, String uri, Custo custo, String resultado) {
+        return Counter.builder("lista.niver.admissao.decisoes")
+                .description("Decisões do controle de admissão por endpoint")
+                .tag("method", metodo)
+                .tag("uri", uri)
+                .tag("custo", custo.name().toLowerCase())
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    private static Duration reposicaoCompleta(AdmissaoProperties properties) {
+        double segundos = Math.max(properties.capacidadeBarato() / properties.porSegundoBarato(),
+                properties.capacidadeCaro() / properties.porSegundoCaro());
+        return Duration.ofNanos((long) Math.ceil(segundos * NANOS_POR_SEGUNDO));
+    }
+
+    private record Chave(String cliente, Method endpoint) {
+    }
+
+    private final class Endpoint {
+
+        private final Custo custo;
+        private final Counter aceitas;
+        private final Counter recusadas;
+
+        Endpoint(Custo custo, Counter aceitas, Counter recusadas) {
+            this.custo = custo;
+            this.aceitas = aceitas;
+            this.recusadas = recusadas;
+        }
+
+        BaldeTokens novoBalde() {
+            return custo == Custo.CARO
+                    ? new BaldeTokens(properties.capacidadeCaro(), properties.porSegundoCaro())
+                    : new BaldeTokens(properties.capacidadeBarato(), properties.porSegundoBarato());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.rodolfo.listaniver.admissao;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens guardado num único instante: quando o balde estaria cheio de novo se nada mais
+ * fosse consumido. Cada requisição aceita empurra esse instante um intervalo de reposição para a
+ * frente; ela é recusada se isso o levaria além da capacidade inteira à frente de agora.
+ * <p>
+ * Equivale a contar tokens e reposições, mas a decisão é um compareAndSet num long, sem trava
+ * e sem tarefa de reposição.
+ */
+final class BaldeTokens {
+
+    private final long intervalo;
+    private final long limite;
+    private final AtomicLong cheioEm = new AtomicLong(Long.MIN_VALUE);
+
+    BaldeTokens(int capacidade, double porSegundo) {
+        this.intervalo = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        this.limite = intervalo * capacidade;
+    }
+
+    /**
+     * Consome um token no instante {@code agora} (nanos de um relógio monotônico). Devolve 0 se
+     * a requisição foi aceita, ou quantos nanos faltam para haver um token.
+     */
+    long consumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            long novo = Math.max(atual, agora) + intervalo;
+            long excesso = novo - agora - limite;
+            if (excesso > 0) {
+                return excesso;
+            }
+            if (cheioEm.compareAndSet(atual, novo)) {
+                return 0;
+            }
+        }
+    }
+}
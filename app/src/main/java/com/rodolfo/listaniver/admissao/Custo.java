@@ -0,0 +1,14 @@
+package com.rodolfo.listaniver.admissao;
+
+/**
+ * Classe de custo de um endpoint para o controle de admissão: cada uma tem o próprio tamanho de
+ * balde e taxa de reposição (lista-niver.admissao.*).
+ */
+public enum Custo {
+
+    // Uma linha pelo índice da chave primária, ou uma escrita pontual
+    BARATO,
+
+    // Listagens, buscas e lotes: várias linhas por requisição e conexão presa por mais tempo
+    CARO
+}
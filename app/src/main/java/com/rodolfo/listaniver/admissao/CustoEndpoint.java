@@ -0,0 +1,17 @@
+package com.rodolfo.listaniver.admissao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o custo de um método de controller para o {@link AdmissaoInterceptor}. Vale também na
+ * interface do controller; métodos sem a anotação são {@link Custo#BARATO}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CustoEndpoint {
+
+    Custo value();
+}
@@ -0,0 +1,17 @@
+package com.rodolfo.listaniver.aniversario;
+
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Destino das saudações de aniversário. Chamado por várias threads ao mesmo tempo, no máximo uma
+ * vez por pessoa e dia, mesmo com várias instâncias: o job reserva o par pessoa/dia antes de chamar.
+ * Uma exceção libera a reserva e deixa a pessoa pendente para a próxima execução do dia.
+ * <p>
+ * Se a aplicação cair entre a reserva e o envio, a pessoa fica sem saudação no dia.
+ */
+public interface EnvioSaudacao {
+
+    void enviar(PessoaOutputDTO pessoa, LocalDate dia);
+}
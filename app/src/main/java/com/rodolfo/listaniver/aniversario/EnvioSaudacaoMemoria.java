@@ -0,0 +1,52 @@
+package com.rodolfo.listaniver.aniversario;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Envio padrão enquanto não há integração de verdade: guarda as últimas saudações em memória e
+ * escreve cada uma no log.
+ */
+@Slf4j
+public class EnvioSaudacaoMemoria implements EnvioSaudacao {
+
+    static final int CAPACIDADE = 1000;
+
+    public record Saudacao(Long pessoaId, String nome, Set<String> emails, LocalDate dia) {
+    }
+
+    private final Deque<Saudacao> saudacoes = new ArrayDeque<>(CAPACIDADE);
+
+    @Override
+    public void enviar(PessoaOutputDTO pessoa, LocalDate dia) {
+        Set<String> emails = pessoa.emails().stream().map(EmailOutputDTO::email).collect(Collectors.toSet());
+        log.debug("Feliz aniversário, {}! ({})", pessoa.nome(), emails);
+
+        synchronized (saudacoes) {
+            if (saudacoes.size() == CAPACIDADE) {
+                saudacoes.removeFirst();
+            }
+            saudacoes.addLast(new Saudacao(pessoa.id(), pessoa.nome(), emails, dia));
+        }
+    }
+
+    public List<Saudacao> saudacoes() {
+        synchronized (saudacoes) {
+            return List.copyOf(saudacoes);
+        }
+    }
+
+    public void limpar() {
+        synchronized (saudacoes) {
+            saudacoes.clear();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.rodolfo.listaniver.aniversario;
+
+import com.rodolfo.listaniver.config.AniversariosProperties;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
+import com.rodolfo.listaniver.repository.SaudacaoAniversarioRepository;
+import com.rodolfo.listaniver.util.Aniversarios;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Saudações de aniversário do dia, no horário de {@code lista-niver.aniversarios.cron}.
+ * <p>
+ * Os IDs de quem faz aniversário e ainda não foi saudado saem em páginas pelo índice de mês/dia;
+ * cada página é um lote processado num pool de {@code paralelismo} threads. A fila do pool tem o
+ * mesmo tamanho, e com ela cheia quem pagina processa o lote seguinte, então nunca há mais do que
+ * alguns lotes em memória.
+ * <p>
+ * Antes de cada envio o par pessoa/dia é reservado em saudacao_aniversario; se outra instância
+ * (ou outra execução) já o reservou, a chave primária recusa e a pessoa é pulada, então ninguém é
+ * saudado duas vezes. Uma execução interrompida recomeça de onde parou: na inicialização, se o
+ * horário do dia já passou, o job roda de novo e só encontra quem ainda não tem registro. Falhas
+ * do envio liberam a reserva e ficam pendentes do mesmo jeito; um cron com mais de um horário por
+ * dia tenta de novo. Erros de uma pessoa (envio ou banco) não interrompem o lote nem a execução.
+ * <p>
+ * Métricas em {@code lista.niver.aniversarios.*}: saudações por resultado (a vazão; "ignorada" é
+ * reservada por outra instância), pendentes da
+ * execução em andamento, tempo por lote, tempo da execução e atraso entre o horário agendado e
+ * cada envio.
+ */
+@Component
+@Slf4j
+public class SaudacoesAniversarioJob {
+
+    public record ResumoSaudacoes(LocalDate dia, int enviadas, int falhas) {
+    }
+
+    private enum Resultado {
+        ENVIADA,
+        FALHA,
+        // Par pessoa/dia já reservado por outra instância ou execução
+        IGNORADA
+    }
+
+    private final SaudacaoAniversarioRepository repository;
+    private final PessoaLeituraRepository leitura;
+    private final EnvioSaudacao envio;
+    private final TaskScheduler scheduler;
+    private final AniversariosProperties properties;
+    private final Clock clock;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean emExecucao = new AtomicBoolean();
+    private final AtomicLong pendentes = new AtomicLong();
+
+    private final Counter enviadas;
+    private final Counter falhas;
+    private final Counter ignoradas;
+    private final Timer tempoLote;
+    private final Timer tempoExecucao;
+    private final Timer atraso;
+
+    public SaudacoesAniversarioJob(SaudacaoAniversarioRepository repository, PessoaLeituraRepository leitura,
+                                   EnvioSaudacao envio, TaskScheduler scheduler, AniversariosProperties properties,
+                                   Clock clock, MeterRegistry registry) {
+        this.repository = repository;
+        this.leitura = leitura;
+        this.envio = envio;
+        this.scheduler = scheduler;
+        this.properties = properties;
+        this.clock = clock;
+
+        int paralelismo = properties.paralelismo();
+        this.executor = new ThreadPoolExecutor(paralelismo, paralelismo, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(paralelismo), Thread.ofPlatform().name("saudacoes-", 1).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.enviadas = saudacoes(registry, "enviada");
+        this.falhas = saudacoes(registry, "falha");
+        this.ignoradas = saudacoes(registry, "ignorada");
+        Gauge.builder("lista.niver.aniversarios.pendentes", pendentes, AtomicLong::get)
+                .description("Aniversariantes ainda não processados na execução em andamento")
+                .register(registry);
+        this.tempoLote = Timer.builder("lista.niver.aniversarios.lote")
+                .description("Tempo de processamento de cada lote de aniversariantes")
+                .register(registry);
+        this.tempoExecucao = Timer.builder("lista.niver.aniversarios.execucao")
+                .description("Tempo de cada execução do job de aniversários")
+                .register(registry);
+        this.atraso = Timer.builder("lista.niver.aniversarios.atraso")
+                .description("Tempo entre o horário agendado e o envio de cada saudação")
+                .register(registry);
+    }
+
+    @Scheduled(cron = "${lista-niver.aniversarios.cron:0 0 8 * * *}")
+    public void executarAgendado() {
+        executar(LocalDate.now(clock), clock.instant());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarExecucaoDoDia() {
+        if (!CronExpression.isValidExpression(properties.cron())) {
+            return;
+        }
+
+        ZonedDateTime agora = ZonedDateTime.now(clock);
+        ZonedDateTime horario = CronExpression.parse(properties.cron())
+                .next(agora.toLocalDate().atStartOfDay(agora.getZone()).minusSeconds(1));
+        if (horario != null && horario.toLocalDate().equals(agora.toLocalDate()) && !horario.isAfter(agora)) {
+            log.info("Horário das saudações de hoje ({}) já passou; retomando pendentes", horario.toLocalTime());
+            scheduler.schedule(() -> executar(agora.toLocalDate(), horario.toInstant()), agora.toInstant());
+        }
+    }
+
+    public ResumoSaudacoes executar(LocalDate dia, Instant horario) {
+        if (!emExecucao.compareAndSet(false, true)) {
+            log.warn("Saudações de {} ignoradas: a execução anterior ainda não terminou", dia);
+            return new ResumoSaudacoes(dia, 0, 0);
+        }
+
+        Timer.Sample amostra = Timer.start();
+        try {
+            return processar(dia, horario);
+        } finally {
+            amostra.stop(tempoExecucao);
+            pendentes.set(0);
+            emExecucao.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private ResumoSaudacoes processar(LocalDate dia, Instant horario) {
+        int removidas = repository.removerAnterioresA(dia.minusDays(properties.retencaoDias()));
+        List<Integer> chaves = Aniversarios.chavesDoDia(dia);
+        pendentes.set(repository.countPendentes(chaves, dia));
+        log.info("Saudações de aniversário de {}: {} pendentes, {} registros antigos removidos", dia, pendentes.get(), removidas);
+
+        AtomicInteger enviadasNaExecucao = new AtomicInteger();
+        AtomicInteger falhasNaExecucao = new AtomicInteger();
+        List<CompletableFuture<Void>> lotes = new ArrayList<>();
+        Limit limite = Limit.of(properties.tamanhoLote());
+
+        // Saudados entram no registro mas têm ID abaixo do cursor: a paginação não pula nem repete ninguém
+        List<Long> ids = repository.findPendentesAposId(chaves, dia, 0L, limite);
+        while (!ids.isEmpty()) {
+            List<Long> lote = ids;
+            lotes.add(CompletableFuture.runAsync(
+                    () -> processarLote(lote, chaves, dia, horario, enviadasNaExecucao, falhasNaExecucao), executor));
+            ids = repository.findPendentesAposId(chaves, dia, lote.getLast(), limite);
+        }
+        CompletableFuture.allOf(lotes.toArray(CompletableFuture[]::new)).join();
+
+        log.info("Saudações de aniversário de {}: {} enviadas, {} falhas", dia, enviadasNaExecucao.get(), falhasNaExecucao.get());
+        return new ResumoSaudacoes(dia, enviadasNaExecucao.get(), falhasNaExecucao.get());
+    }
+
+    private void processarLote(List<Long> ids, List<Integer> chaves, LocalDate dia, Instant horario,
+                               AtomicInteger enviadasNaExecucao, AtomicInteger falhasNaExecucao) {
+        tempoLote.record(() -> {
+            Map<Long, PessoaOutputDTO> pessoas;
+            try {
+                pessoas = LinhaPessoa.agrupar(leitura.findLinhasByIdIn(ids));
+            } catch (RuntimeException e) {
+                // Ninguém do lote foi reservado: todos ficam pendentes para a próxima execução
+                log.warn("Falha ao carregar o lote de aniversariantes a partir do ID {}: {}", ids.getFirst(), e.getMessage());
+                falhas.increment(ids.size());
+                falhasNaExecucao.addAndGet(ids.size());
+                pendentes.addAndGet(-ids.size());
+                return;
+            }
+
+            for (Long id : ids) {
+                PessoaOutputDTO pessoa = pessoas.get(id);
+                // Removida ou com outra data de nascimento desde a paginação
+                if (pessoa != null && chaves.contains(Aniversarios.mesDia(pessoa.dataNascimento()))) {
+                    switch (saudar(pessoa, dia, horario)) {
+                        case ENVIADA -> enviadasNaExecucao.incrementAndGet();
+                        case FALHA -> falhasNaExecucao.incrementAndGet();
+                        case IGNORADA -> {
+                        }
+                    }
+                }
+                pendentes.decrementAndGet();
+            }
+        });
+    }
+
+    private Resultado saudar(PessoaOutputDTO pessoa, LocalDate dia, Instant horario) {
+        try {
+            repository.registrar(pessoa.id(), dia, clock.instant());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Saudação de aniversário da pessoa {} já reservada em {}", pessoa.id(), dia);
+            ignoradas.increment();
+            return Resultado.IGNORADA;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao reservar a saudação de aniversário da pessoa {}: {}", pessoa.id(), e.getMessage());
+            falhas.increment();
+            return Resultado.FALHA;
+        }
+
+        try {
+            envio.enviar(pessoa, dia);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao enviar a saudação de aniversário da pessoa {}: {}", pessoa.id(), e.getMessage());
+            liberar(pessoa.id(), dia);
+            falhas.increment();
+            return Resultado.FALHA;
+        }
+
+        enviadas.increment();
+        atraso.record(Duration.between(horario, clock.instant()));
+        return Resultado.ENVIADA;
+    }
+
+    private void liberar(Long pessoaId, LocalDate dia) {
+        try {
+            repository.liberar(pessoaId, dia);
+        } catch (RuntimeException e) {
+            // A reserva fica: a pessoa não é saudada de novo no dia, mas também não recebe duas vezes
+            log.error("Falha ao liberar a saudação de aniversário da pessoa {} em {}: {}", pessoaId, dia, e.getMessage());
+        }
+    }
+
+    private static Counter saudacoes(MeterRegistry registry, String resultado) {
+        return Counter.builder("lista.niver.aniversarios.saudacoes")
+                .description("Saudações de aniversário processadas")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+}
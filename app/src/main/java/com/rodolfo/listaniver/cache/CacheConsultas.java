@@ -0,0 +1,62 @@
+package com.rodolfo.listaniver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Caches das consultas por ID. Tamanho, TTL e estatísticas vêm de spring.cache.caffeine.spec;
+ * as métricas de acerto, falha e remoção são publicadas pelo Actuator em cache.gets e cache.evictions.
+ */
+@Component
+public class CacheConsultas {
+
+    public static final String PESSOAS = "pessoas";
+    public static final String EMAILS = "emails";
+
+    private final CacheLeitura<PessoaOutputDTO> pessoas;
+    private final CacheLeitura<EmailOutputDTO> emails;
+
+    public CacheConsultas(CacheManager cacheManager) {
+        this.pessoas = new CacheLeitura<>(nativo(cacheManager, PESSOAS));
+        this.emails = new CacheLeitura<>(nativo(cacheManager, EMAILS));
+    }
+
+    public PessoaOutputDTO pessoa(Long id, Supplier<PessoaOutputDTO> carregador) {
+        return pessoas.obter(id, carregador);
+    }
+
+    public PessoaOutputDTO pessoaEmCache(Long id) {
+        return pessoas.emCache(id);
+    }
+
+    public EmailOutputDTO email(Long id, Supplier<EmailOutputDTO> carregador) {
+        return emails.obter(id, carregador);
+    }
+
+    public void invalidarPessoa(Long pessoaId) {
+        pessoas.invalidar(pessoaId);
+    }
+
+    // PessoaOutputDTO carrega os emails, então toda alteração de email invalida também a pessoa
+    public void invalidarEmail(Long emailId, Long pessoaId) {
+        emails.invalidar(emailId);
+        pessoas.invalidar(pessoaId);
+    }
+
+    public void invalidarEmails(Collection<Long> emailIds) {
+        emailIds.forEach(emails::invalidar);
+    }
+
+    private static Cache<Object, Object> nativo(CacheManager cacheManager, String nome) {
+        CaffeineCache cache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache(nome), "Cache não configurado: " + nome);
+        return cache.getNativeCache();
+    }
+}
@@ -0,0 +1,94 @@
+package com.rodolfo.listaniver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache read-through que nunca guarda um valor lido antes de uma invalidação concorrente.
+ * <p>
+ * Cada invalidação incrementa uma geração; quem carregou do banco só grava no cache se a geração
+ * não mudou durante a leitura. A gravação e a invalidação usam {@code compute} na mesma chave,
+ * então não há janela entre a conferência e a escrita. Invalidações feitas dentro de uma transação
+ * são repetidas ao final dela (commit ou rollback), e enquanto ela estiver aberta suas leituras
+ * não passam pelo cache, para não publicar dados ainda não confirmados.
+ */
+class CacheLeitura<V> {
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong geracao = new AtomicLong();
+
+    CacheLeitura(Cache<Object, Object> cache) {
+        this.cache = cache;
+    }
+
+    @SuppressWarnings("unchecked")
+    V obter(Long id, Supplier<V> carregador) {
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return carregador.get();
+        }
+
+        Object emCache = cache.getIfPresent(id);
+        if (emCache != null) {
+            return (V) emCache;
+        }
+
+        long geracaoDaLeitura = geracao.get();
+        V carregado = carregador.get();
+        cache.asMap().compute(id, (chave, atual) -> geracao.get() == geracaoDaLeitura ? carregado : atual);
+        return carregado;
+    }
+
+    // Consulta sem carregar; nula também quando a transação corrente tem invalidações pendentes
+    @SuppressWarnings("unchecked")
+    V emCache(Long id) {
+        return TransactionSynchronizationManager.hasResource(this) ? null : (V) cache.getIfPresent(id);
+    }
+
+    void invalidar(Long id) {
+        remover(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendentesDaTransacao().add(id);
+        }
+    }
+
+    private void remover(Long id) {
+        cache.asMap().compute(id, (chave, atual) -> {
+            geracao.incrementAndGet();
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<Long> pendentesDaTransacao() {
+        Set<Long> pendentes = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Set<Long> novos = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, novos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(CacheLeitura.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(CacheLeitura.this, novos);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheLeitura.this);
+                    novos.forEach(CacheLeitura.this::remover);
+                }
+            });
+            pendentes = novos;
+        }
+        return pendentes;
+    }
+}
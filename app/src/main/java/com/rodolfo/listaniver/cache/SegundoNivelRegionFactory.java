@@ -0,0 +1,28 @@
+package com.rodolfo.listaniver.cache;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Cache de segundo nível do Hibernate no Caffeine, via JCache, com as regiões de
+ * hibernate-cache.conf.
+ * <p>
+ * O CachingProvider devolve o mesmo CacheManager para a mesma URI na JVM inteira: dois contextos
+ * no mesmo processo (os testes, um restart do devtools) leriam as entidades um do outro, com IDs
+ * de bancos diferentes, e o primeiro a fechar fecharia o cache do outro. Aqui cada SessionFactory
+ * cria o seu, e o Hibernate o fecha junto com ela.
+ */
+public class SegundoNivelRegionFactory extends JCacheRegionFactory {
+
+    @Override
+    protected CacheManager resolveCacheManager(SessionFactoryOptions settings, Map<String, Object> properties) {
+        CachingProvider provider = getCachingProvider(properties);
+        return new CacheManagerImpl(provider, false, getUri(settings, properties), getClassLoader(provider), new Properties());
+    }
+}
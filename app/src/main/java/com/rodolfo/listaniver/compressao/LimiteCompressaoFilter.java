@@ -0,0 +1,209 @@
+package com.rodolfo.listaniver.compressao;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Faz valer {@code server.compression.min-response-size} nas respostas da API.
+ * <p>
+ * O Tomcat só compara com o limite quando conhece o Content-Length; os conversores do Jackson
+ * escrevem em chunks, sem ele, e toda resposta acabava comprimida. Aqui a resposta fica num
+ * buffer até o limite: se terminar antes, sai com Content-Length e sem gzip; se passar, o buffer
+ * é escrito e o restante segue direto, comprimido pelo Tomcat. Respostas assíncronas (exportação)
+ * seguem direto assim que o processamento assíncrono começa, e a escrita não bloqueante
+ * ({@code setWriteListener}) passa a ser a do Tomcat.
+ */
+@Component
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class LimiteCompressaoFilter extends OncePerRequestFilter {
+
+    private final int limite;
+
+    public LimiteCompressaoFilter(@Value("${server.compression.min-response-size:2KB}") DataSize limite) {
+        this.limite = (int) limite.toBytes();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RespostaBufferizada resposta = new RespostaBufferizada(response, limite);
+        filterChain.doFilter(request, resposta);
+
+        if (request.isAsyncStarted()) {
+            resposta.liberar();
+        } else {
+            resposta.concluir();
+        }
+    }
+
+    static final class RespostaBufferizada extends HttpServletResponseWrapper {
+
+        private final int limite;
+        private final ByteArrayOutputStream buffer;
+        private ServletOutputStream saida;
+        private PrintWriter writer;
+        // Passou do limite, tamanho definido pela aplicação ou resposta assíncrona: nada mais é bufferizado
+        private boolean direto;
+
+        RespostaBufferizada(HttpServletResponse response, int limite) {
+            super(response);
+            this.limite = limite;
+            this.buffer = new ByteArrayOutputStream(Math.min(limite, 8192));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() já foi chamado para esta resposta");
+            }
+            if (saida == null) {
+                saida = new SaidaBufferizada();
+            }
+            return saida;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (saida != null) {
+                    throw new IllegalStateException("getOutputStream() já foi chamado para esta resposta");
+                }
+                saida = new SaidaBufferizada();
+                writer = new PrintWriter(new OutputStreamWriter(saida, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            super.setContentLengthLong(len);
+            try {
+                liberar();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // Enquanto bufferiza, um flush comprometeria a resposta sem Content-Length
+        @Override
+        public void flushBuffer() throws IOException {
+            if (direto) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            buffer.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            buffer.reset();
+            super.reset();
+        }
+
+        void liberar() throws IOException {
+            if (direto) {
+                return;
+            }
+            direto = true;
+            if (writer != null) {
+                writer.flush();
+            }
+            if (buffer.size() > 0) {
+                buffer.writeTo(getResponse().getOutputStream());
+                buffer.reset();
+            }
+        }
+
+        void concluir() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!direto && buffer.size() > 0) {
+                super.setContentLengthLong(buffer.size());
+            }
+            liberar();
+        }
+
+        private final class SaidaBufferizada extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (!direto && buffer.size() + len > limite) {
+                    liberar();
+                }
+                if (direto) {
+                    getResponse().getOutputStream().write(b, off, len);
+                } else {
+                    buffer.write(b, off, len);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (direto) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (direto) {
+                    getResponse().getOutputStream().close();
+                }
+            }
+
+            // Enquanto bufferiza, toda escrita cabe na memória
+            @Override
+            public boolean isReady() {
+                if (!direto) {
+                    return true;
+                }
+                try {
+                    return getResponse().getOutputStream().isReady();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            // O buffer é escrito ainda em modo bloqueante; daí em diante quem controla a escrita é o Tomcat
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                try {
+                    liberar();
+                    getResponse().getOutputStream().setWriteListener(writeListener);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.rodolfo.listaniver.config;
+
+import com.rodolfo.listaniver.admissao.AdmissaoInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Só a API passa pelo controle de admissão; actuator e Swagger ficam de fora.
+// Os testes de fatia (@WebMvcTest) carregam os WebMvcConfigurer, mas nem o scan de properties nem o actuator
+@Configuration
+@EnableConfigurationProperties(AdmissaoProperties.class)
+@ConditionalOnProperty(name = "lista-niver.admissao.habilitado", havingValue = "true", matchIfMissing = true)
+public class AdmissaoConfig implements WebMvcConfigurer {
+
+    private final AdmissaoInterceptor interceptor;
+
+    public AdmissaoConfig(AdmissaoProperties properties, ObjectProvider<MeterRegistry> registry) {
+        this.interceptor = new AdmissaoInterceptor(properties, registry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
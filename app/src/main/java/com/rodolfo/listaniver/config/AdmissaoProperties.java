@@ -0,0 +1,19 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "lista-niver.admissao")
+public record AdmissaoProperties(
+        // Desligado: nenhuma requisição é recusada por taxa
+        @DefaultValue("true") boolean habilitado,
+        // Rajada aceita de uma vez por cliente em cada endpoint barato (por ID, escritas)
+        @DefaultValue("100") int capacidadeBarato,
+        @DefaultValue("50") double porSegundoBarato,
+        // Idem para listagens, buscas, lotes, importação e exportação
+        @DefaultValue("20") int capacidadeCaro,
+        @DefaultValue("5") double porSegundoCaro,
+        // Baldes em memória (cliente x endpoint); acima disso os menos usados são descartados
+        @DefaultValue("100000") long maximoBaldes
+) {
+}
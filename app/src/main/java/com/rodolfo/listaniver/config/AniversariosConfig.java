@@ -0,0 +1,20 @@
+package com.rodolfo.listaniver.config;
+
+import com.rodolfo.listaniver.aniversario.EnvioSaudacao;
+import com.rodolfo.listaniver.aniversario.EnvioSaudacaoMemoria;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class AniversariosConfig {
+
+    // Substituído por qualquer outro EnvioSaudacao registrado como bean (email, fila, ...)
+    @Bean
+    @ConditionalOnMissingBean(EnvioSaudacao.class)
+    public EnvioSaudacaoMemoria envioSaudacao() {
+        return new EnvioSaudacaoMemoria();
+    }
+}
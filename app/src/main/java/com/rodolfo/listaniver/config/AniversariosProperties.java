@@ -0,0 +1,17 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "lista-niver.aniversarios")
+public record AniversariosProperties(
+        // "-" desliga o job; com mais de uma instância no mesmo banco, só uma deve ficar ligada
+        @DefaultValue("0 0 8 * * *") String cron,
+        // Pessoas por lote: uma consulta de IDs e uma de pessoas com emails por lote
+        @DefaultValue("200") int tamanhoLote,
+        // Lotes processados ao mesmo tempo
+        @DefaultValue("4") int paralelismo,
+        // Dias de registros de saudações enviadas mantidos antes de hoje
+        @DefaultValue("7") int retencaoDias
+) {
+}
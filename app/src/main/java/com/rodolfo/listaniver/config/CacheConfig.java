@@ -0,0 +1,10 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Habilita a auto-configuração do CaffeineCacheManager e das métricas de cache
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,14 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "lista-niver.duplicidade")
+public record DuplicidadeProperties(
+        // Ligar só com uma única instância gravando no banco: o filtro só enxerga as escritas locais
+        @DefaultValue("false") boolean filtroHabilitado,
+        // Capacidade mínima do filtro; na reconstrução usa o dobro das pessoas gravadas se for maior
+        @DefaultValue("100000") long capacidadeMinima,
+        @DefaultValue("0.01") double taxaFalsosPositivos
+) {
+}
@@ -0,0 +1,26 @@
+package com.rodolfo.listaniver.config;
+
+import com.rodolfo.listaniver.repository.EmailRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailNormalizadoInitializer {
+
+    private final EmailRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void preencherEmailNormalizado() {
+        int atualizados = repository.preencherEmailNormalizado();
+        if (atualizados > 0) {
+            log.info("Endereço normalizado preenchido para {} emails", atualizados);
+        }
+    }
+}
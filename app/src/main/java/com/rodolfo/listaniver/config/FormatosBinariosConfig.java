@@ -0,0 +1,34 @@
+package com.rodolfo.listaniver.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR ({@code application/cbor}) e Smile ({@code application/x-jackson-smile}) em todos os
+ * endpoints, escolhidos por Accept na resposta e por Content-Type no corpo da requisição.
+ * <p>
+ * Sem estes beans o Spring MVC registra os dois conversores com um ObjectMapper próprio; aqui eles
+ * saem do builder do Spring Boot, com os mesmos módulos e {@code spring.jackson.*} do JSON (datas
+ * ISO, ProblemDetail). O Smile referencia de volta os nomes de campo já escritos, então listas
+ * longas não repetem {@code dataNascimento} e {@code pessoaId} a cada elemento.
+ */
+@Configuration
+public class FormatosBinariosConfig {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,13 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "lista-niver.importacao")
+public record ImportacaoProperties(
+        // Registros gravados por transação e por lote JDBC
+        @DefaultValue("500") int tamanhoLote,
+        // Máximo de erros detalhados no relatório; os demais são apenas contados
+        @DefaultValue("1000") int limiteErros
+) {
+}
@@ -0,0 +1,26 @@
+package com.rodolfo.listaniver.config;
+
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MesDiaNascimentoInitializer {
+
+    private final PessoaRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void preencherMesDiaNascimento() {
+        int atualizadas = repository.preencherMesDiaNascimento();
+        if (atualizadas > 0) {
+            log.info("Chave de aniversário preenchida para {} pessoas", atualizadas);
+        }
+    }
+}
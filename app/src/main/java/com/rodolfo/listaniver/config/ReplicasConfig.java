@@ -0,0 +1,66 @@
+package com.rodolfo.listaniver.config;
+
+import com.rodolfo.listaniver.roteamento.RoteamentoDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primário de spring.datasource para escrita e réplicas de lista-niver.replicas para as
+ * transações readOnly. O DataSource usado pelo JPA e pelo JdbcTemplate é o proxy preguiçoso sobre
+ * o roteamento; o pool do primário continua configurado por spring.datasource.hikari.*.
+ */
+@Configuration
+@ConditionalOnProperty(name = "lista-niver.replicas.habilitado", havingValue = "true")
+public class ReplicasConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource primario = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primario.setPoolName("primario");
+        return primario;
+    }
+
+    @Bean
+    public RoteamentoDataSource roteamentoDataSource(HikariDataSource primarioDataSource, DataSourceProperties properties,
+                                                     ReplicasProperties replicas, Clock clock, MeterRegistry registry) {
+        List<HikariDataSource> fontes = new ArrayList<>();
+        for (int i = 0; i < replicas.fontes().size(); i++) {
+            ReplicasProperties.Replica replica = replicas.fontes().get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username());
+            pool.setPassword(replica.password());
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(replicas.tamanhoPool());
+            pool.setConnectionTimeout(replicas.timeoutConexao().toMillis());
+            // Uma réplica fora do ar não impede a subida: as leituras caem no primário até ela voltar
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            fontes.add(pool);
+        }
+        return new RoteamentoDataSource(primarioDataSource, fontes, replicas.aderirAposEscrita(),
+                replicas.esperaAposFalha(), clock, registry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoDataSource roteamentoDataSource) {
+        return new LazyConnectionDataSourceProxy(roteamentoDataSource);
+    }
+}
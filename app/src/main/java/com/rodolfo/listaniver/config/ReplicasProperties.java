@@ -0,0 +1,26 @@
+package com.rodolfo.listaniver.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "lista-niver.replicas")
+public record ReplicasProperties(
+        // Desligado: um único pool, o de spring.datasource, para leitura e escrita
+        @DefaultValue("false") boolean habilitado,
+        // Réplicas de leitura, usadas em rodízio pelas transações readOnly
+        @DefaultValue List<Replica> fontes,
+        // Depois de uma escrita, o resto da mesma requisição lê do primário (lê as próprias escritas)
+        @DefaultValue("true") boolean aderirAposEscrita,
+        // Réplica que falhou ao entregar conexão fica fora do rodízio por este tempo
+        @DefaultValue("30s") Duration esperaAposFalha,
+        // Curto para a falha de uma réplica cair logo no primário
+        @DefaultValue("1s") Duration timeoutConexao,
+        @DefaultValue("10") int tamanhoPool
+) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
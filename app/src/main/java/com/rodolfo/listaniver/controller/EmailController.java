@@ -1,7 +1,9 @@
 package com.rodolfo.listaniver.controller;
 
 import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailLoteInputDTO;
 import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,16 +26,26 @@ public interface EmailController {
     @PostMapping
     ResponseEntity<EmailOutputDTO> adicionarEmail(@Parameter(description = "ID da pessoa", required = true) @PathVariable Long pessoaId, @Parameter(description = "Dados do email a ser criado", required = true) @Valid @RequestBody EmailInputDTO emailInputDTO);
 
+    @Operation(summary = "Adicionar emails em lote", description = "Adiciona até 100 emails a uma pessoa em uma única transação. Endereços repetidos na lista ou já cadastrados para a pessoa, sem diferenciar maiúsculas nem espaços nas pontas, são ignorados; a resposta traz só os emails criados")
+    @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Emails criados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailOutputDTO.class))), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content), @ApiResponse(responseCode = "422", description = "Lista vazia, acima de 100 ou com email inválido", content = @Content)})
+    @PostMapping("/pessoa/{pessoaId}/lote")
+    ResponseEntity<List<EmailOutputDTO>> adicionarEmails(@Parameter(description = "ID da pessoa", required = true) @PathVariable Long pessoaId, @Parameter(description = "Emails a serem criados", required = true) @Valid @RequestBody EmailLoteInputDTO loteInputDTO);
+
     @Operation(summary = "Listar emails por pessoa", description = "Retorna todos os emails de uma pessoa específica")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Lista de emails retornada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailOutputDTO.class))), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content)})
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Lista de emails retornada com sucesso, com a versão da pessoa no ETag", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailOutputDTO.class))), @ApiResponse(responseCode = "304", description = "Emails não modificados desde o ETag informado em If-None-Match", content = @Content), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content)})
     @GetMapping("/pessoa/{pessoaId}")
-    ResponseEntity<List<EmailOutputDTO>> listarEmailsPorPessoa(@Parameter(description = "ID da pessoa", required = true) @PathVariable Long pessoaId);
+    ResponseEntity<List<EmailOutputDTO>> listarEmailsPorPessoa(@Parameter(description = "ID da pessoa", required = true) @PathVariable Long pessoaId, @Parameter(description = "ETag de uma resposta anterior; se os emails não mudaram a resposta é 304 sem corpo") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
     @Operation(summary = "Buscar email por ID", description = "Retorna um email específico pelo seu ID")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Email encontrado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailOutputDTO.class))), @ApiResponse(responseCode = "404", description = "Email não encontrado", content = @Content)})
     @GetMapping("/{emailId}")
     ResponseEntity<EmailOutputDTO> buscarEmailPorId(@Parameter(description = "ID do email", required = true) @PathVariable Long emailId);
 
+    @Operation(summary = "Buscar email por endereço", description = "Retorna o email com o endereço informado e a pessoa a quem pertence, sem diferenciar maiúsculas e minúsculas nem espaços nas pontas. Um resultado por pessoa que tem o endereço, até 100")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Emails encontrados com as pessoas; lista vazia quando nenhuma pessoa tem o endereço", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailPessoaOutputDTO.class))), @ApiResponse(responseCode = "400", description = "Endereço não informado", content = @Content)})
+    @GetMapping(params = "address")
+    ResponseEntity<List<EmailPessoaOutputDTO>> buscarPorEndereco(@Parameter(description = "Endereço de email", required = true, example = "joao.silva@email.com") @RequestParam("address") String address);
+
     @Operation(summary = "Atualizar email", description = "Atualiza os dados de um email existente")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Email atualizado com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmailOutputDTO.class))), @ApiResponse(responseCode = "400", description = "Dados inválidos fornecidos", content = @Content), @ApiResponse(responseCode = "404", description = "Email não encontrado", content = @Content)})
     @PutMapping("/{emailId}")
@@ -0,0 +1,96 @@
+package com.rodolfo.listaniver.controller;
+
+import com.rodolfo.listaniver.admissao.Custo;
+import com.rodolfo.listaniver.admissao.CustoEndpoint;
+import com.rodolfo.listaniver.dto.ImportacaoResultadoDTO;
+import com.rodolfo.listaniver.dto.PessoaIdsInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.exportacao.FormatoExportacao;
+import com.rodolfo.listaniver.importacao.FormatoImportacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+@Tag(name = "Pessoa", description = "API para gerenciamento de pessoas")
+public interface PessoaController {
+
+    @Operation(summary = "Criar nova pessoa", description = "Cria uma nova pessoa no sistema")
+    @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Pessoa criada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaOutputDTO.class))), @ApiResponse(responseCode = "400", description = "Data inválida", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "422", description = "Dados inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "409", description = "Pessoa já existe", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @PostMapping
+    ResponseEntity<PessoaOutputDTO> criar(@Valid @RequestBody PessoaInputDTO inputDTO);
+
+    @Operation(summary = "Buscar pessoa por ID", description = "Busca uma pessoa específica pelo ID")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Pessoa encontrada, com a versão no ETag", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaOutputDTO.class))), @ApiResponse(responseCode = "304", description = "Pessoa não modificada desde o ETag informado em If-None-Match"), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @GetMapping("/{id}")
+    ResponseEntity<PessoaOutputDTO> buscarPorId(@Parameter(description = "ID da pessoa", required = true, example = "1") @PathVariable Long id, @Parameter(description = "ETag de uma resposta anterior; se a pessoa não mudou a resposta é 304 sem corpo", example = "\"0\"") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+    @Operation(summary = "Buscar pessoas por IDs", description = "Busca várias pessoas com seus emails em uma requisição, na ordem dos IDs informados (máximo 1000). IDs inexistentes são listados em naoEncontrados")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Pessoas encontradas e IDs não encontrados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaLoteOutputDTO.class))), @ApiResponse(responseCode = "400", description = "IDs inválidos ou acima do limite", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @CustoEndpoint(Custo.CARO)
+    @GetMapping(params = "ids")
+    ResponseEntity<PessoaLoteOutputDTO> buscarPorIds(@Parameter(description = "IDs das pessoas separados por vírgula", required = true, example = "1,2,3") @RequestParam List<Long> ids);
+
+    @Operation(summary = "Buscar lote de pessoas por IDs", description = "Variante de GET /api/pessoas?ids= com os IDs no corpo, para listas que não cabem na URL")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Pessoas encontradas e IDs não encontrados", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaLoteOutputDTO.class))), @ApiResponse(responseCode = "422", description = "Lista de IDs vazia ou acima de 1000", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @CustoEndpoint(Custo.CARO)
+    @PostMapping("/lote")
+    ResponseEntity<PessoaLoteOutputDTO> buscarLote(@Valid @RequestBody PessoaIdsInputDTO inputDTO);
+
+    @Operation(summary = "Listar pessoas", description = "Retorna uma página de pessoas usando paginação por cursor. Envie o proximoCursor retornado para obter a página seguinte")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Página de pessoas retornada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaPageOutputDTO.class))), @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @CustoEndpoint(Custo.CARO)
+    @GetMapping
+    ResponseEntity<PessoaPageOutputDTO> listarTodos(@Parameter(description = "Cursor retornado pela página anterior") @RequestParam(required = false) String cursor, @Parameter(description = "Quantidade de pessoas por página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") int tamanho, @Parameter(description = "Campo de ordenação: id, nome ou dataNascimento", example = "id") @RequestParam(defaultValue = "id") String ordenacao);
+
+    @Operation(summary = "Atualizar pessoa", description = "Atualiza os dados de uma pessoa existente")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Pessoa atualizada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaOutputDTO.class))), @ApiResponse(responseCode = "400", description = "Data inválida", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "422", description = "Dados inválidos", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "409", description = "Pessoa com dados duplicados já existe ou alterada por outra requisição", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class))), @ApiResponse(responseCode = "412", description = "A versão da pessoa não corresponde ao If-Match", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @PutMapping("/{id}")
+    ResponseEntity<PessoaOutputDTO> atualizar(@Parameter(description = "ID da pessoa", required = true, example = "1") @PathVariable Long id, @Valid @RequestBody PessoaUpdateDTO updateDTO, @Parameter(description = "ETag da versão lida; a atualização só é aplicada se a pessoa ainda estiver nela", example = "\"0\"") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch);
+
+    @Operation(summary = "Deletar pessoa", description = "Remove uma pessoa do sistema")
+    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Pessoa deletada com sucesso"), @ApiResponse(responseCode = "404", description = "Pessoa não encontrada", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> deletar(@Parameter(description = "ID da pessoa", required = true, example = "1") @PathVariable Long id);
+
+    @Operation(summary = "Buscar pessoas por nome", description = "Busca pessoas que contenham o trecho informado, ignorando maiúsculas e acentos. Resultados ordenados por relevância e limitados aos 1000 primeiros")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Lista de pessoas encontradas", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaOutputDTO.class)))})
+    @CustoEndpoint(Custo.CARO)
+    @GetMapping("/buscar")
+    ResponseEntity<List<PessoaOutputDTO>> buscarPorNome(@Parameter(description = "Nome ou parte do nome da pessoa", required = true, example = "João") @RequestParam String nome, @Parameter(description = "Página de resultados, começando em 0", example = "0") @RequestParam(defaultValue = "0") int pagina, @Parameter(description = "Quantidade de pessoas por página (máximo 100)", example = "20") @RequestParam(defaultValue = "20") int tamanho);
+
+    @Operation(summary = "Listar aniversariantes", description = "Retorna as pessoas que fazem aniversário entre hoje e os próximos dias informados, em ordem cronológica")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Lista de aniversariantes retornada com sucesso", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PessoaOutputDTO.class)))})
+    @CustoEndpoint(Custo.CARO)
+    @GetMapping("/aniversariantes")
+    ResponseEntity<List<PessoaOutputDTO>> listarAniversariantes(@Parameter(description = "Quantidade de dias a partir de hoje (máximo 366)", example = "7") @RequestParam(defaultValue = "7") int dias);
+
+    @Operation(summary = "Importar pessoas em lote", description = "Importa pessoas a partir de um arquivo NDJSON (um PessoaInputDTO por linha) ou CSV (nome,dataNascimento,emails com emails separados por ';'). O arquivo é lido em fluxo e gravado em lotes; linhas inválidas ou duplicadas são listadas no relatório")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Relatório da importação", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportacaoResultadoDTO.class))), @ApiResponse(responseCode = "415", description = "Formato não suportado", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProblemDetail.class)))})
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Arquivo NDJSON ou CSV", required = true, content = {@Content(mediaType = FormatoImportacao.NDJSON_VALUE), @Content(mediaType = FormatoImportacao.CSV_VALUE)})
+    @CustoEndpoint(Custo.CARO)
+    @PostMapping(value = "/importar", consumes = {FormatoImportacao.NDJSON_VALUE, FormatoImportacao.CSV_VALUE})
+    ResponseEntity<ImportacaoResultadoDTO> importar(@Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, @Parameter(hidden = true) InputStream corpo);
+
+    @Operation(summary = "Exportar pessoas", description = "Exporta todas as pessoas com seus emails em NDJSON (padrão) ou CSV, conforme o cabeçalho Accept. Os dados são lidos por cursor e escritos em fluxo, com uso de memória constante, refletindo um único snapshot do banco")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Arquivo de exportação", content = {@Content(mediaType = FormatoExportacao.NDJSON_VALUE), @Content(mediaType = FormatoExportacao.CSV_VALUE)}), @ApiResponse(responseCode = "406", description = "Formato não suportado")})
+    @CustoEndpoint(Custo.CARO)
+    @GetMapping("/exportar")
+    ResponseEntity<StreamingResponseBody> exportar(@Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept);
+}
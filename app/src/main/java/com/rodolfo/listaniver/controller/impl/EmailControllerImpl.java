@@ -0,0 +1,105 @@
+package com.rodolfo.listaniver.controller.impl;
+
+import com.rodolfo.listaniver.controller.EmailController;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailLoteInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
+import com.rodolfo.listaniver.dto.EmailsVersionadosDTO;
+import com.rodolfo.listaniver.service.EmailService;
+import com.rodolfo.listaniver.service.PessoaService;
+import com.rodolfo.listaniver.util.VersaoEtag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/emails")
+@RequiredArgsConstructor
+@Slf4j
+public class EmailControllerImpl implements EmailController {
+
+    private final EmailService emailService;
+    private final PessoaService pessoaService;
+
+    @PostMapping("/pessoa/{pessoaId}")
+    public ResponseEntity<EmailOutputDTO> adicionarEmail(@PathVariable Long pessoaId, @Valid @RequestBody EmailInputDTO emailInputDTO) {
+
+        log.debug("Requisição para adicionar email para pessoa ID: {}", pessoaId);
+
+        EmailOutputDTO emailCriado = emailService.adicionarEmail(pessoaId, emailInputDTO);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(emailCriado);
+    }
+
+    @PostMapping("/pessoa/{pessoaId}/lote")
+    public ResponseEntity<List<EmailOutputDTO>> adicionarEmails(@PathVariable Long pessoaId, @Valid @RequestBody EmailLoteInputDTO loteInputDTO) {
+
+        log.debug("Requisição para adicionar {} emails para pessoa ID: {}", loteInputDTO.emails().size(), pessoaId);
+
+        List<EmailOutputDTO> emailsCriados = emailService.adicionarEmails(pessoaId, loteInputDTO.emails());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(emailsCriados);
+    }
+
+    @GetMapping("/pessoa/{pessoaId}")
+    public ResponseEntity<List<EmailOutputDTO>> listarEmailsPorPessoa(@PathVariable Long pessoaId,
+                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Requisição para listar emails da pessoa ID: {}", pessoaId);
+
+        // A versão da pessoa muda a cada alteração de email, então serve de ETag da lista
+        if (ifNoneMatch != null) {
+            long versao = pessoaService.buscarVersao(pessoaId);
+            if (VersaoEtag.naoModificado(ifNoneMatch, versao)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersaoEtag.etag(versao)).build();
+            }
+        }
+
+        EmailsVersionadosDTO emails = emailService.listarEmailsVersionados(pessoaId);
+
+        return ResponseEntity.ok().eTag(VersaoEtag.etag(emails.versao())).body(emails.emails());
+    }
+
+    @GetMapping("/{emailId}")
+    public ResponseEntity<EmailOutputDTO> buscarEmailPorId(@PathVariable Long emailId) {
+        log.debug("Requisição para buscar email ID: {}", emailId);
+
+        EmailOutputDTO email = emailService.buscarPorId(emailId);
+
+        return ResponseEntity.ok(email);
+    }
+
+    @GetMapping(params = "address")
+    public ResponseEntity<List<EmailPessoaOutputDTO>> buscarPorEndereco(@RequestParam("address") String address) {
+        log.debug("Requisição para buscar email por endereço: {}", address);
+
+        List<EmailPessoaOutputDTO> emails = emailService.buscarPorEndereco(address);
+
+        return ResponseEntity.ok(emails);
+    }
+
+    @PutMapping("/{emailId}")
+    public ResponseEntity<EmailOutputDTO> atualizarEmail(@PathVariable Long emailId, @Valid @RequestBody EmailInputDTO emailInputDTO) {
+
+        log.debug("Requisição para atualizar email ID: {}", emailId);
+
+        EmailOutputDTO emailAtualizado = emailService.atualizarEmail(emailId, emailInputDTO);
+
+        return ResponseEntity.ok(emailAtualizado);
+    }
+
+    @DeleteMapping("/{emailId}")
+    public ResponseEntity<Void> removerEmail(@PathVariable Long emailId) {
+        log.debug("Requisição para remover email ID: {}", emailId);
+
+        emailService.removerEmail(emailId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.rodolfo.listaniver.controller.impl;
+
+import com.rodolfo.listaniver.controller.PessoaController;
+import com.rodolfo.listaniver.dto.ImportacaoResultadoDTO;
+import com.rodolfo.listaniver.dto.PessoaIdsInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.exportacao.FormatoExportacao;
+import com.rodolfo.listaniver.importacao.FormatoImportacao;
+import com.rodolfo.listaniver.pagination.OrdenacaoPessoa;
+import com.rodolfo.listaniver.service.PessoaExportacaoService;
+import com.rodolfo.listaniver.service.PessoaImportacaoService;
+import com.rodolfo.listaniver.service.PessoaService;
+import com.rodolfo.listaniver.util.VersaoEtag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pessoas")
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaControllerImpl implements PessoaController {
+
+    private final PessoaService service;
+    private final PessoaImportacaoService importacaoService;
+    private final PessoaExportacaoService exportacaoService;
+
+    @PostMapping
+    public ResponseEntity<PessoaOutputDTO> criar(@Valid @RequestBody PessoaInputDTO inputDTO) {
+        log.debug("Requisição para criar pessoa: {}", inputDTO.nome());
+        PessoaOutputDTO result = service.criar(inputDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(VersaoEtag.etag(result.versao())).body(result);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<PessoaOutputDTO> buscarPorId(@PathVariable Long id,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Requisição para buscar pessoa por ID: {}", id);
+        // Só a versão é consultada: o 304 não carrega nem serializa a pessoa com os emails
+        if (ifNoneMatch != null) {
+            long versao = service.buscarVersao(id);
+            if (VersaoEtag.naoModificado(ifNoneMatch, versao)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(VersaoEtag.etag(versao)).build();
+            }
+        }
+        PessoaOutputDTO result = service.buscarPorId(id);
+        return ResponseEntity.ok().eTag(VersaoEtag.etag(result.versao())).body(result);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<PessoaLoteOutputDTO> buscarPorIds(@RequestParam List<Long> ids) {
+        log.debug("Requisição para buscar {} pessoas por ID", ids.size());
+        PessoaLoteOutputDTO result = service.buscarPorIds(ids);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping("/lote")
+    public ResponseEntity<PessoaLoteOutputDTO> buscarLote(@Valid @RequestBody PessoaIdsInputDTO inputDTO) {
+        log.debug("Requisição para buscar lote de {} pessoas", inputDTO.ids().size());
+        PessoaLoteOutputDTO result = service.buscarPorIds(inputDTO.ids());
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping
+    public ResponseEntity<PessoaPageOutputDTO> listarTodos(@RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "20") int tamanho,
+                                                           @RequestParam(defaultValue = "id") String ordenacao) {
+        log.debug("Requisição para listar pessoas ordenadas por {}", ordenacao);
+        PessoaPageOutputDTO result = service.listarTodos(cursor, tamanho, OrdenacaoPessoa.fromValor(ordenacao));
+        return ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<PessoaOutputDTO> atualizar(@PathVariable Long id, @Valid @RequestBody PessoaUpdateDTO updateDTO,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.debug("Requisição para atualizar pessoa ID: {}", id);
+        PessoaOutputDTO result = service.atualizar(id, updateDTO, VersaoEtag.versoesAceitas(ifMatch));
+        return ResponseEntity.ok().eTag(VersaoEtag.etag(result.versao())).body(result);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deletar(@PathVariable Long id) {
+        log.debug("Requisição para deletar pessoa ID: {}", id);
+        service.deletar(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/buscar")
+    public ResponseEntity<List<PessoaOutputDTO>> buscarPorNome(@RequestParam String nome,
+                                                               @RequestParam(defaultValue = "0") int pagina,
+                                                               @RequestParam(defaultValue = "20") int tamanho) {
+        log.debug("Requisição para buscar pessoas por nome: {}", nome);
+        List<PessoaOutputDTO> result = service.buscarPorNome(nome, pagina, tamanho);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/aniversariantes")
+    public ResponseEntity<List<PessoaOutputDTO>> listarAniversariantes(@RequestParam(defaultValue = "7") int dias) {
+        log.debug("Requisição para listar aniversariantes dos próximos {} dias", dias);
+        List<PessoaOutputDTO> result = service.listarAniversariantes(dias);
+        return ResponseEntity.ok(result);
+    }
+
+    @PostMapping(value = "/importar", consumes = {FormatoImportacao.NDJSON_VALUE, FormatoImportacao.CSV_VALUE})
+    public ResponseEntity<ImportacaoResultadoDTO> importar(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream corpo) {
+        log.debug("Requisição para importar pessoas ({})", contentType);
+        ImportacaoResultadoDTO result = importacaoService.importar(corpo, MediaType.parseMediaType(contentType));
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/exportar")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        FormatoExportacao formato = FormatoExportacao.negociar(accept == null ? List.of() : MediaType.parseMediaTypes(accept))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Formatos suportados: " + FormatoExportacao.NDJSON_VALUE + ", " + FormatoExportacao.CSV_VALUE));
+        log.debug("Requisição para exportar pessoas em {}", formato);
+
+        // A transação é aberta pelo serviço na thread que escreve a resposta
+        StreamingResponseBody corpo = saida -> exportacaoService.exportar(formato, saida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(formato.getNomeArquivo()).build().toString())
+                .body(corpo);
+    }
+}
@@ -0,0 +1,15 @@
+package com.rodolfo.listaniver.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record EmailLoteInputDTO(
+        @NotEmpty(message = "Informe ao menos um email")
+        @Size(max = 100, message = "Informe no máximo 100 emails")
+        List<@NotNull(message = "Email não pode ser nulo") @Valid EmailInputDTO> emails
+) {
+}
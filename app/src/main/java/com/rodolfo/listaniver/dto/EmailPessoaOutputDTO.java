@@ -0,0 +1,15 @@
+package com.rodolfo.listaniver.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Resultado da busca por endereço: o email encontrado e a pessoa a quem ele pertence, com todos os emails dela.
+ */
+public record EmailPessoaOutputDTO(
+        @NotNull
+        EmailOutputDTO email,
+
+        @NotNull
+        PessoaOutputDTO pessoa
+) {
+}
@@ -0,0 +1,13 @@
+package com.rodolfo.listaniver.dto;
+
+import java.util.List;
+
+/**
+ * Emails de uma pessoa com a versão dela lida antes da lista, para o ETag nunca ser mais novo que o corpo.
+ */
+public record EmailsVersionadosDTO(
+        long versao,
+
+        List<EmailOutputDTO> emails
+) {
+}
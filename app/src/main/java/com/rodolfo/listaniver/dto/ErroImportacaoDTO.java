@@ -0,0 +1,4 @@
+package com.rodolfo.listaniver.dto;
+
+public record ErroImportacaoDTO(long linha, String mensagem) {
+}
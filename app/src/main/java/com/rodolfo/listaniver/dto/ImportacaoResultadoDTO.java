@@ -0,0 +1,11 @@
+package com.rodolfo.listaniver.dto;
+
+import java.util.List;
+
+public record ImportacaoResultadoDTO(
+        long linhasProcessadas,
+        long importadas,
+        long rejeitadas,
+        List<ErroImportacaoDTO> erros
+) {
+}
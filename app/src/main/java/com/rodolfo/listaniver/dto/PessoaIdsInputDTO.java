@@ -0,0 +1,14 @@
+package com.rodolfo.listaniver.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record PessoaIdsInputDTO(
+        @NotEmpty(message = "Informe ao menos um ID")
+        @Size(max = 1000, message = "Informe no máximo 1000 IDs")
+        List<@NotNull(message = "ID não pode ser nulo") Long> ids
+) {
+}
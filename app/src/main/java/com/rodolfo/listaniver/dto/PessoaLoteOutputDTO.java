@@ -0,0 +1,14 @@
+package com.rodolfo.listaniver.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record PessoaLoteOutputDTO(
+        @NotNull
+        List<PessoaOutputDTO> pessoas,
+
+        @NotNull
+        List<Long> naoEncontrados
+) {
+}
@@ -0,0 +1,13 @@
+package com.rodolfo.listaniver.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record PessoaPageOutputDTO(
+        @NotNull
+        List<PessoaOutputDTO> pessoas,
+
+        String proximoCursor
+) {
+}
@@ -0,0 +1,114 @@
+package com.rodolfo.listaniver.duplicidade;
+
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre chaves nome/data de nascimento. Seguro para uso concorrente: os bits só
+ * passam de 0 para 1, então uma leitura nunca vê uma chave adicionada "pela metade" como ausente
+ * depois que {@link #adicionar} retornou.
+ * <p>
+ * As posições usam hashing duplo (h1 + i·h2) sobre um hash de 64 bits da chave.
+ */
+final class FiltroBloom {
+
+    private static final long SEMENTE_FNV = 0xcbf29ce484222325L;
+    private static final long PRIMO_FNV = 0x100000001b3L;
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray palavras;
+    private final long bits;
+    private final int funcoes;
+    private final long capacidade;
+    private final LongAdder adicionadas = new LongAdder();
+
+    FiltroBloom(long capacidade, double taxaFalsosPositivos) {
+        if (capacidade < 1 || taxaFalsosPositivos <= 0 || taxaFalsosPositivos >= 1) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva e a taxa de falsos positivos estar entre 0 e 1");
+        }
+
+        long bitsNecessarios = (long) Math.ceil(-capacidade * Math.log(taxaFalsosPositivos) / (LN2 * LN2));
+        int quantidadePalavras = Math.toIntExact(Math.max(1, (bitsNecessarios + 63) / 64));
+
+        this.palavras = new AtomicLongArray(quantidadePalavras);
+        this.bits = quantidadePalavras * 64L;
+        this.funcoes = (int) Math.max(1, Math.round((double) bits / capacidade * LN2));
+        this.capacidade = capacidade;
+    }
+
+    void adicionar(ChavePessoa chave) {
+        long h1 = hash(chave);
+        long h2 = misturar(h1 ^ PRIMO_FNV) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long posicao = Math.floorMod(h1 + i * h2, bits);
+            long mascara = 1L << posicao;
+            int indice = (int) (posicao >>> 6);
+            if ((palavras.get(indice) & mascara) == 0) {
+                palavras.getAndAccumulate(indice, mascara, (atual, bit) -> atual | bit);
+            }
+        }
+        adicionadas.increment();
+    }
+
+    boolean talvezContenha(ChavePessoa chave) {
+        long h1 = hash(chave);
+        long h2 = misturar(h1 ^ PRIMO_FNV) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            long posicao = Math.floorMod(h1 + i * h2, bits);
+            if ((palavras.get((int) (posicao >>> 6)) & (1L << posicao)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falsos positivos esperada para a ocupação atual: (bits ligados / total de bits) ^ funções.
+     */
+    double taxaFalsosPositivosEstimada() {
+        long ligados = 0;
+        for (int i = 0; i < palavras.length(); i++) {
+            ligados += Long.bitCount(palavras.get(i));
+        }
+        return Math.pow((double) ligados / bits, funcoes);
+    }
+
+    long bits() {
+        return bits;
+    }
+
+    int funcoes() {
+        return funcoes;
+    }
+
+    long capacidade() {
+        return capacidade;
+    }
+
+    // Conta também chaves repetidas, então é um limite superior do número de chaves distintas
+    long adicionadas() {
+        return adicionadas.sum();
+    }
+
+    private static long hash(ChavePessoa chave) {
+        long h = SEMENTE_FNV;
+        String nome = chave.nome();
+        for (int i = 0; i < nome.length(); i++) {
+            h = (h ^ nome.charAt(i)) * PRIMO_FNV;
+        }
+        h = (h ^ chave.dataNascimento().toEpochDay()) * PRIMO_FNV;
+        return misturar(h);
+    }
+
+    // Finalizador do MurmurHash3 (fmix64): espalha os bits do FNV, que são fracos nos bits altos
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
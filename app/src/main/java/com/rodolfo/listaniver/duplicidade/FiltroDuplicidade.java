@@ -0,0 +1,259 @@
+package com.rodolfo.listaniver.duplicidade;
+
+import com.rodolfo.listaniver.config.DuplicidadeProperties;
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Pré-checagem de duplicidade por nome e data de nascimento. Uma resposta negativa do filtro
+ * dispensa a consulta ao banco; só as positivas (duplicadas de fato ou falsos positivos) caem
+ * na consulta exata. Enquanto o filtro não foi carregado, tudo vai para o banco.
+ * <p>
+ * O filtro vive na memória desta instância e só conhece as escritas feitas por ela. Com mais de
+ * uma instância gravando no mesmo banco ele responderia "ausente" para pessoas gravadas pelas outras,
+ * por isso vem desligado e só deve ser ligado ({@code lista-niver.duplicidade.filtro-habilitado}) com uma instância.
+ */
+@Component
+@Slf4j
+public class FiltroDuplicidade {
+
+    static final int TAMANHO_LOTE_CARGA = 1000;
+
+    private static final String TOTAL = "SELECT COUNT(*) FROM pessoa";
+    private static final String CHAVES = """
+            SELECT id, nome, data_nascimento FROM pessoa
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DuplicidadeProperties properties;
+    private final Counter ausentes;
+    private final Counter talvezExistentes;
+    private final Counter semFiltro;
+    private final Counter falsosPositivos;
+
+    // Chaves registradas por transações ainda abertas, que a varredura da reconstrução pode não enxergar
+    private final Set<Registro> pendentes = ConcurrentHashMap.newKeySet();
+
+    // ReentrantLock em vez de synchronized: a reconstrução faz JDBC e não pode prender a thread virtual à portadora
+    private final ReentrantLock reconstrucao = new ReentrantLock();
+
+    private volatile FiltroBloom filtro;
+    private volatile FiltroBloom emConstrucao;
+
+    public FiltroDuplicidade(JdbcTemplate jdbcTemplate, DuplicidadeProperties properties, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.ausentes = consultas(registry, "ausente");
+        this.talvezExistentes = consultas(registry, "talvez");
+        this.semFiltro = consultas(registry, "sem_filtro");
+        this.falsosPositivos = Counter.builder("pessoa.duplicidade.falsos.positivos")
+                .description("Positivos do filtro que a consulta exata não confirmou")
+                .register(registry);
+        medir(registry, "pessoa.duplicidade.filtro.taxa.estimada", FiltroBloom::taxaFalsosPositivosEstimada);
+        medir(registry, "pessoa.duplicidade.filtro.capacidade", FiltroBloom::capacidade);
+        medir(registry, "pessoa.duplicidade.filtro.chaves", FiltroBloom::adicionadas);
+    }
+
+    /**
+     * Diz se a chave já existe, consultando o banco só quando o filtro não a descarta.
+     */
+    public boolean existe(ChavePessoa chave, BooleanSupplier consultaExata) {
+        FiltroBloom atual = filtro;
+        if (atual == null) {
+            semFiltro.increment();
+            return consultaExata.getAsBoolean();
+        }
+        if (!atual.talvezContenha(chave)) {
+            ausentes.increment();
+            return false;
+        }
+
+        talvezExistentes.increment();
+        boolean existe = consultaExata.getAsBoolean();
+        if (!existe) {
+            falsosPositivos.increment();
+        }
+        return existe;
+    }
+
+    /**
+     * Versão em lote de {@link #existe}: a consulta recebe só as chaves que o filtro não descartou
+     * (nenhuma chamada se todas forem descartadas) e pode devolver um superconjunto das existentes.
+     */
+    public Set<ChavePessoa> existentes(Collection<ChavePessoa> chaves, Function<Set<ChavePessoa>, Collection<ChavePessoa>> consultaExata) {
+        FiltroBloom atual = filtro;
+        Set<ChavePessoa> candidatas = atual == null
+                ? Set.copyOf(chaves)
+                : chaves.stream().filter(atual::talvezContenha).collect(Collectors.toSet());
+
+        if (atual == null) {
+            semFiltro.increment(candidatas.size());
+        } else {
+            ausentes.increment(chaves.size() - candidatas.size());
+            talvezExistentes.increment(candidatas.size());
+        }
+        if (candidatas.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<ChavePessoa> existentes = consultaExata.apply(candidatas).stream()
+                .filter(candidatas::contains)
+                .collect(Collectors.toSet());
+        if (atual != null) {
+            falsosPositivos.increment(candidatas.size() - existentes.size());
+        }
+        return existentes;
+    }
+
+    public void registrar(ChavePessoa chave) {
+        registrar(List.of(chave));
+    }
+
+    public void registrar(Collection<ChavePessoa> chaves) {
+        if (!properties.filtroHabilitado() || chaves.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Registro registro = new Registro(List.copyOf(chaves));
+            pendentes.add(registro);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    pendentes.remove(registro);
+                }
+            });
+        }
+
+        // Lê o filtro em construção antes do atual: se a troca acontecer no meio, a chave
+        // já está no novo filtro ou na lista de pendentes copiada pela reconstrução
+        FiltroBloom novo = emConstrucao;
+        if (novo != null) {
+            chaves.forEach(novo::adicionar);
+        }
+        FiltroBloom atual = filtro;
+        if (atual != null) {
+            chaves.forEach(atual::adicionar);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (properties.filtroHabilitado()) {
+            reconstruir(null, null);
+        }
+    }
+
+    /**
+     * Recria o filtro a partir da tabela, sem bloquear as consultas, que seguem usando o filtro
+     * anterior até a troca. Sem parâmetros, usa a configuração e o tamanho atual da tabela.
+     */
+    public void reconstruir(Long capacidade, Double taxaFalsosPositivos) {
+        if (!properties.filtroHabilitado()) {
+            throw new IllegalStateException("Filtro de duplicidade desabilitado");
+        }
+
+        reconstrucao.lock();
+        try {
+            reconstruirComTrava(capacidade, taxaFalsosPositivos);
+        } finally {
+            reconstrucao.unlock();
+        }
+    }
+
+    private void reconstruirComTrava(Long capacidade, Double taxaFalsosPositivos) {
+        long capacidadeFiltro = capacidade != null
+                ? capacidade
+                : Math.max(properties.capacidadeMinima(), 2 * jdbcTemplate.queryForObject(TOTAL, Long.class));
+        FiltroBloom novo = new FiltroBloom(capacidadeFiltro,
+                taxaFalsosPositivos != null ? taxaFalsosPositivos : properties.taxaFalsosPositivos());
+
+        emConstrucao = novo;
+        List<ChavePessoa> emAndamento = pendentes.stream()
+                .flatMap(registro -> registro.chaves().stream())
+                .toList();
+
+        long ultimoId = 0;
+        long total = 0;
+        List<Linha> lote;
+        do {
+            lote = jdbcTemplate.query(CHAVES,
+                    (rs, rowNum) -> new Linha(rs.getLong("id"), new ChavePessoa(rs.getString("nome"), rs.getObject("data_nascimento", LocalDate.class))),
+                    ultimoId, TAMANHO_LOTE_CARGA);
+            lote.forEach(linha -> novo.adicionar(linha.chave()));
+            total += lote.size();
+            if (!lote.isEmpty()) {
+                ultimoId = lote.getLast().id();
+            }
+        } while (lote.size() == TAMANHO_LOTE_CARGA);
+        emAndamento.forEach(novo::adicionar);
+
+        filtro = novo;
+        emConstrucao = null;
+
+        log.info("Filtro de duplicidade carregado com {} pessoas (capacidade {}, {} bits, {} funções de hash)",
+                total, novo.capacidade(), novo.bits(), novo.funcoes());
+    }
+
+    public Estado estado() {
+        FiltroBloom atual = filtro;
+        if (atual == null) {
+            return new Estado(false, 0, 0, 0, 0, 0);
+        }
+        return new Estado(true, atual.capacidade(), atual.bits(), atual.funcoes(), atual.adicionadas(), atual.taxaFalsosPositivosEstimada());
+    }
+
+    private static Counter consultas(MeterRegistry registry, String resultado) {
+        return Counter.builder("pessoa.duplicidade.consultas")
+                .description("Checagens de duplicidade por resposta do filtro")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    private void medir(MeterRegistry registry, String nome, ToDoubleFunction<FiltroBloom> valor) {
+        Gauge.builder(nome, this, f -> f.filtro == null ? Double.NaN : valor.applyAsDouble(f.filtro))
+                .register(registry);
+    }
+
+    public record Estado(boolean pronto, long capacidade, long bits, int funcoesHash, long chavesAdicionadas, double taxaFalsosPositivosEstimada) {
+    }
+
+    private record Linha(long id, ChavePessoa chave) {
+    }
+
+    // Identidade por instância: duas transações com as mesmas chaves são registros distintos
+    private static final class Registro {
+
+        private final List<ChavePessoa> chaves;
+
+        private Registro(List<ChavePessoa> chaves) {
+            this.chaves = chaves;
+        }
+
+        private List<ChavePessoa> chaves() {
+            return chaves;
+        }
+    }
+}
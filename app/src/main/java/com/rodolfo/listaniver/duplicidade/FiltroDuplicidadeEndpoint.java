@@ -0,0 +1,36 @@
+package com.rodolfo.listaniver.duplicidade;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/duplicidade: GET mostra o estado do filtro, POST o reconstrói (opcionalmente com
+ * outra capacidade ou taxa de falsos positivos) sem parar a aplicação.
+ */
+@Component
+@Endpoint(id = "duplicidade")
+@RequiredArgsConstructor
+public class FiltroDuplicidadeEndpoint {
+
+    private final FiltroDuplicidade filtro;
+
+    @ReadOperation
+    public FiltroDuplicidade.Estado estado() {
+        return filtro.estado();
+    }
+
+    @WriteOperation
+    public FiltroDuplicidade.Estado reconstruir(@Nullable Long capacidade, @Nullable Double taxaFalsosPositivos) {
+        try {
+            filtro.reconstruir(capacidade, taxaFalsosPositivos);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return filtro.estado();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rodolfo.listaniver.duplicidade;
+
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Mantém o filtro de duplicidade a par das pessoas gravadas pela entidade. Remoções não são
+ * propagadas: um filtro de Bloom não remove chaves, elas só somem na próxima reconstrução.
+ */
+public class FiltroDuplicidadeListener {
+
+    private final ObjectProvider<FiltroDuplicidade> filtro;
+
+    public FiltroDuplicidadeListener(ObjectProvider<FiltroDuplicidade> filtro) {
+        this.filtro = filtro;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void registrar(Pessoa pessoa) {
+        filtro.ifAvailable(f -> f.registrar(new ChavePessoa(pessoa.getNome(), pessoa.getDataNascimento())));
+    }
+}
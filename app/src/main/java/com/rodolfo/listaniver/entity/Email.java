@@ -0,0 +1,49 @@
+package com.rodolfo.listaniver.entity;
+
+import com.rodolfo.listaniver.util.EnderecosEmail;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Table(name = "email", indexes = {
+        @Index(name = "idx_email_email_normalizado", columnList = "email_normalizado, pessoa_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "email")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Email {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String email;
+
+    // Chave da busca por endereço, mantida junto com o email
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_normalizado", length = 100)
+    private String emailNormalizado;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pessoa_id", nullable = false)
+    private Pessoa pessoa;
+
+    public Email(Long id, String email, Pessoa pessoa) {
+        this.id = id;
+        this.pessoa = pessoa;
+        setEmail(email);
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailNormalizado = EnderecosEmail.normalizar(email);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.rodolfo.listaniver.entity;
+
+import com.rodolfo.listaniver.duplicidade.FiltroDuplicidadeListener;
+import com.rodolfo.listaniver.search.PessoaTrigramaListener;
+import com.rodolfo.listaniver.search.Trigramas;
+import com.rodolfo.listaniver.util.Aniversarios;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Set;
+
+@Entity
+@Table(name = "pessoa", indexes = {
+        @Index(name = "idx_pessoa_nome", columnList = "nome, id"),
+        @Index(name = "idx_pessoa_nome_normalizado", columnList = "nome_normalizado, id"),
+        @Index(name = "idx_pessoa_data_nascimento", columnList = "data_nascimento, id"),
+        @Index(name = "idx_pessoa_mes_dia_nascimento", columnList = "mes_dia_nascimento, id")
+})
+@EntityListeners({PessoaTrigramaListener.class, FiltroDuplicidadeListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pessoa")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Pessoa {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String nome;
+
+    // Nome como a busca o compara (Trigramas.normalizar), para a relevância ser calculada no banco
+    @Setter(AccessLevel.NONE)
+    @Column(name = "nome_normalizado", length = 100)
+    private String nomeNormalizado;
+
+    @Column(name = "data_nascimento", nullable = false)
+    private LocalDate dataNascimento;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "mes_dia_nascimento")
+    private Integer mesDiaNascimento;
+
+    // Incrementada a cada alteração da pessoa ou dos seus emails; é o ETag de GET /api/pessoas/{id}
+    @Version
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+
+    // No cache ficam só os IDs dos emails; os emails vêm da região de Email
+    @OneToMany(mappedBy = "pessoa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pessoa-emails")
+    private Set<Email> emails;
+
+    // Nome normalizado que está no índice de trigramas; mantido pelo PessoaTrigramaListener
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String nomeIndexado;
+
+    public Pessoa(Long id, String nome, LocalDate dataNascimento, Set<Email> emails) {
+        this.id = id;
+        this.emails = emails;
+        setNome(nome);
+        setDataNascimento(dataNascimento);
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+        this.nomeNormalizado = Trigramas.normalizar(nome);
+    }
+
+    /**
+     * Registra o nome atual como indexado e diz se ele mudou desde o último registro.
+     */
+    public boolean marcarNomeIndexado() {
+        boolean mudou = !Objects.equals(nomeNormalizado, nomeIndexado);
+        nomeIndexado = nomeNormalizado;
+        return mudou;
+    }
+
+    public void setDataNascimento(LocalDate dataNascimento) {
+        this.dataNascimento = dataNascimento;
+        this.mesDiaNascimento = Aniversarios.mesDia(dataNascimento);
+    }
+}
@@ -0,0 +1,40 @@
+package com.rodolfo.listaniver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "pessoa_trigrama", indexes = {
+        @Index(name = "idx_pessoa_trigrama_trigrama", columnList = "trigrama, pessoa_id")
+})
+@IdClass(PessoaTrigrama.Chave.class)
+// Preenchida pelo PessoaTrigramaListener: consultas nesta tabela precisam do flush pendente de pessoa
+@Synchronize("pessoa")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PessoaTrigrama {
+
+    @Id
+    @Column(length = 3)
+    private String trigrama;
+
+    @Id
+    @Column(name = "pessoa_id")
+    private Long pessoaId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private String trigrama;
+        private Long pessoaId;
+    }
+}
@@ -0,0 +1,42 @@
+package com.rodolfo.listaniver.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Uma linha por saudação reservada antes do envio: o job de aniversários não saúda de novo quem já tem registro no dia
+@Entity
+@Table(name = "saudacao_aniversario", indexes = {
+        @Index(name = "idx_saudacao_aniversario_dia", columnList = "dia")
+})
+@IdClass(SaudacaoAniversario.Chave.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaudacaoAniversario {
+
+    @Id
+    @Column(name = "pessoa_id")
+    private Long pessoaId;
+
+    @Id
+    private LocalDate dia;
+
+    @Column(name = "enviada_em", nullable = false)
+    private Instant enviadaEm;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Chave implements Serializable {
+        private Long pessoaId;
+        private LocalDate dia;
+    }
+}
@@ -0,0 +1,19 @@
+package com.rodolfo.listaniver.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+@Getter
+public class LimiteRequisicoesException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long esperaSegundos;
+
+    public LimiteRequisicoesException(long esperaSegundos) {
+        super(String.format("Limite de requisições para este endpoint excedido, tente novamente em %d s", esperaSegundos));
+        this.esperaSegundos = esperaSegundos;
+    }
+}
@@ -0,0 +1,13 @@
+package com.rodolfo.listaniver.exception;
+
+import java.io.Serial;
+
+public class VersionMismatchException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public VersionMismatchException(String resourceType, Long resourceId) {
+        super(String.format("%s with id: %s does not match the version in If-Match", resourceType, resourceId));
+    }
+}
@@ -0,0 +1,96 @@
+package com.rodolfo.listaniver.exportacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * Escreve uma pessoa por vez no fluxo de saída. Não fecha o OutputStream, que pertence ao container.
+ */
+public interface EscritorExportacao {
+
+    void escrever(PessoaOutputDTO pessoa) throws IOException;
+
+    void flush() throws IOException;
+
+    static EscritorExportacao para(FormatoExportacao formato, OutputStream saida, ObjectMapper objectMapper) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        return formato == FormatoExportacao.CSV ? new Csv(writer) : new Ndjson(writer, objectMapper);
+    }
+
+    final class Ndjson implements EscritorExportacao {
+
+        private final Writer writer;
+        private final JsonGenerator generator;
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(Writer writer, ObjectMapper objectMapper) throws IOException {
+            this.writer = writer;
+            this.objectMapper = objectMapper;
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        @Override
+        public void escrever(PessoaOutputDTO pessoa) throws IOException {
+            objectMapper.writeValue(generator, pessoa);
+            generator.flush();
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+            writer.flush();
+        }
+    }
+
+    // Mesmo layout aceito pela importação, com o id na primeira coluna
+    final class Csv implements EscritorExportacao {
+
+        private final Writer writer;
+
+        private Csv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write("id,nome,dataNascimento,emails\n");
+        }
+
+        @Override
+        public void escrever(PessoaOutputDTO pessoa) throws IOException {
+            String emails = pessoa.emails().stream()
+                    .map(EmailOutputDTO::email)
+                    .collect(Collectors.joining(";"));
+
+            writer.write(String.valueOf(pessoa.id()));
+            writer.write(',');
+            writer.write(campo(pessoa.nome()));
+            writer.write(',');
+            writer.write(pessoa.dataNascimento().toString());
+            writer.write(',');
+            writer.write(campo(emails));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String campo(String valor) {
+            if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+                return valor;
+            }
+            return '"' + valor.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.rodolfo.listaniver.exportacao;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum FormatoExportacao {
+    NDJSON(MediaType.APPLICATION_NDJSON, "pessoas.ndjson"),
+    CSV(new MediaType("text", "csv"), "pessoas.csv");
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+    private final String nomeArquivo;
+
+    /**
+     * Primeiro formato aceito pelo cliente, respeitando a qualidade informada no Accept.
+     * Sem Accept ou com curinga, exporta em NDJSON.
+     */
+    public static Optional<FormatoExportacao> negociar(List<MediaType> aceitos) {
+        if (aceitos.isEmpty()) {
+            return Optional.of(NDJSON);
+        }
+        return aceitos.stream()
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(aceito -> Arrays.stream(values()).filter(formato -> aceito.includes(formato.mediaType)))
+                .findFirst();
+    }
+}
@@ -0,0 +1,9 @@
+package com.rodolfo.listaniver.exportacao;
+
+import java.time.LocalDate;
+
+/**
+ * Uma linha do LEFT JOIN pessoa/email. Pessoas sem email vêm com emailId e email nulos.
+ */
+public record LinhaExportacao(Long id, String nome, LocalDate dataNascimento, Long emailId, String email) {
+}
@@ -0,0 +1,6 @@
+package com.rodolfo.listaniver.importacao;
+
+import java.time.LocalDate;
+
+public record ChavePessoa(String nome, LocalDate dataNascimento) {
+}
@@ -0,0 +1,26 @@
+package com.rodolfo.listaniver.importacao;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum FormatoImportacao {
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    public static final String NDJSON_VALUE = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    public static FormatoImportacao fromMediaType(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(formato -> formato.mediaType.equalsTypeAndSubtype(mediaType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Formato de importação não suportado: " + mediaType));
+    }
+}
@@ -0,0 +1,150 @@
+package com.rodolfo.listaniver.importacao;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lê o corpo da importação linha a linha, sem carregar o arquivo inteiro em memória.
+ * CSV: {@code nome,dataNascimento,emails}, com os emails separados por ponto e vírgula
+ * e cabeçalho opcional na primeira linha.
+ */
+public class LeitorImportacao implements Closeable {
+
+    private static final String CABECALHO_CSV = "nome,datanascimento,emails";
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final FormatoImportacao formato;
+    private final ObjectMapper objectMapper;
+    private long numeroLinha;
+
+    public LeitorImportacao(InputStream corpo, Charset charset, FormatoImportacao formato, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(corpo, charset));
+        this.formato = formato;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Próximo registro ou null no fim do arquivo. Linhas em branco são ignoradas.
+     */
+    public RegistroImportacao proximo() throws IOException {
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            numeroLinha++;
+            if (numeroLinha == 1 && !linha.isEmpty() && linha.charAt(0) == BOM) {
+                linha = linha.substring(1);
+            }
+            if (linha.isBlank() || (numeroLinha == 1 && isCabecalho(linha))) {
+                continue;
+            }
+            return formato == FormatoImportacao.CSV ? converterCsv(linha) : converterJson(linha);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isCabecalho(String linha) {
+        return formato == FormatoImportacao.CSV && linha.replace(" ", "").equalsIgnoreCase(CABECALHO_CSV);
+    }
+
+    // Só um objeto vira pessoa: null, listas e valores soltos são erro da linha, não da importação
+    private RegistroImportacao converterJson(String linha) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(linha)) {
+            JsonToken raiz = parser.nextToken();
+            if (raiz == JsonToken.VALUE_NULL) {
+                return RegistroImportacao.invalido(numeroLinha, "Registro vazio");
+            }
+            if (raiz != JsonToken.START_OBJECT) {
+                return RegistroImportacao.invalido(numeroLinha, "Esperado um objeto JSON");
+            }
+            PessoaInputDTO pessoa = objectMapper.readValue(parser, PessoaInputDTO.class);
+            return pessoa == null
+                    ? RegistroImportacao.invalido(numeroLinha, "Registro vazio")
+                    : RegistroImportacao.valido(numeroLinha, pessoa);
+        } catch (JsonProcessingException e) {
+            return RegistroImportacao.invalido(numeroLinha, "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+
+    private RegistroImportacao converterCsv(String linha) {
+        List<String> campos = separarCampos(linha);
+        if (campos == null) {
+            return RegistroImportacao.invalido(numeroLinha, "Aspas não fechadas");
+        }
+        if (campos.size() < 2 || campos.size() > 3) {
+            return RegistroImportacao.invalido(numeroLinha, "Esperado nome,dataNascimento,emails");
+        }
+
+        LocalDate dataNascimento;
+        try {
+            dataNascimento = campos.get(1).isBlank() ? null : LocalDate.parse(campos.get(1).strip());
+        } catch (DateTimeParseException e) {
+            return RegistroImportacao.invalido(numeroLinha, "Formato de data inválido. Use o formato: yyyy-MM-dd");
+        }
+
+        Set<EmailInputDTO> emails = campos.size() < 3 ? Set.of() : Arrays.stream(campos.get(2).split(";"))
+                .map(String::strip)
+                .filter(email -> !email.isEmpty())
+                .map(EmailInputDTO::new)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return RegistroImportacao.valido(numeroLinha, new PessoaInputDTO(campos.get(0).strip(), dataNascimento, emails));
+    }
+
+    // Campos entre aspas podem conter vírgulas; aspas duplas dentro deles são escritas como ""
+    private static List<String> separarCampos(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+
+        if (entreAspas) {
+            return null;
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
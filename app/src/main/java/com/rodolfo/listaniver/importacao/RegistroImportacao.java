@@ -0,0 +1,17 @@
+package com.rodolfo.listaniver.importacao;
+
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+
+/**
+ * Uma linha do arquivo: ou a pessoa convertida ou o erro de leitura.
+ */
+public record RegistroImportacao(long linha, PessoaInputDTO pessoa, String erro) {
+
+    static RegistroImportacao valido(long linha, PessoaInputDTO pessoa) {
+        return new RegistroImportacao(linha, pessoa, null);
+    }
+
+    static RegistroImportacao invalido(long linha, String erro) {
+        return new RegistroImportacao(linha, null, erro);
+    }
+}
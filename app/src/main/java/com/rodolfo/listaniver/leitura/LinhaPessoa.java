@@ -0,0 +1,32 @@
+package com.rodolfo.listaniver.leitura;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uma linha do LEFT JOIN pessoa/email projetada direto da consulta, sem passar por entidades.
+ * Pessoas sem email vêm com emailId e email nulos.
+ */
+public record LinhaPessoa(Long id, String nome, LocalDate dataNascimento, Long versao, Long emailId, String email) {
+
+    /**
+     * Monta as pessoas com seus emails numa única passada pelas linhas, em qualquer ordem.
+     */
+    public static Map<Long, PessoaOutputDTO> agrupar(List<LinhaPessoa> linhas) {
+        Map<Long, PessoaOutputDTO> pessoas = HashMap.newHashMap(linhas.size());
+        for (LinhaPessoa linha : linhas) {
+            PessoaOutputDTO pessoa = pessoas.computeIfAbsent(linha.id(), id ->
+                    new PessoaOutputDTO(id, linha.nome(), linha.dataNascimento(), new HashSet<>(), linha.versao()));
+            if (linha.emailId() != null) {
+                pessoa.emails().add(new EmailOutputDTO(linha.emailId(), linha.email(), linha.id()));
+            }
+        }
+        return pessoas;
+    }
+}
@@ -0,0 +1,19 @@
+package com.rodolfo.listaniver.leitura;
+
+import java.time.LocalDate;
+
+/**
+ * Posição de uma pessoa na ordenação da listagem: o ID e o valor pelo qual ela está ordenada,
+ * em texto como vai no cursor. Vem da própria consulta da página, então o cursor não depende de
+ * a pessoa ainda existir quando os dados completos são carregados.
+ */
+public record PosicaoPessoa(Long id, String valor) {
+
+    public PosicaoPessoa(Long id) {
+        this(id, String.valueOf(id));
+    }
+
+    public PosicaoPessoa(Long id, LocalDate dataNascimento) {
+        this(id, dataNascimento.toString());
+    }
+}
@@ -0,0 +1,22 @@
+package com.rodolfo.listaniver.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} que conta o que descarta. Com {@code neverBlock} a fila cheia descarta
+ * o evento em silêncio e, abaixo de {@code discardingThreshold} de espaço livre, os eventos até
+ * INFO também são descartados; os dois casos entram em {@link DescartesLog}.
+ */
+public class AppenderAssincrono extends AsyncAppender {
+
+    @Override
+    protected void append(ILoggingEvent evento) {
+        int livre = getRemainingCapacity();
+        // Leitura sem trava: sob disputa a contagem é aproximada, o descarte em si segue o AsyncAppender
+        if (livre == 0 && isNeverBlock() || livre < getDiscardingThreshold() && isDiscardable(evento)) {
+            DescartesLog.FILA_CHEIA.increment();
+        }
+        super.append(evento);
+    }
+}
@@ -0,0 +1,24 @@
+package com.rodolfo.listaniver.log;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores dos eventos de log descartados. O Logback sobe antes do contexto do Spring, então
+ * os filtros e appenders contam aqui e {@link DescartesLogMetricas} publica os valores no Micrometer.
+ */
+public final class DescartesLog {
+
+    static final LongAdder LIMITE_TAXA = new LongAdder();
+    static final LongAdder FILA_CHEIA = new LongAdder();
+
+    private DescartesLog() {
+    }
+
+    public static long limiteTaxa() {
+        return LIMITE_TAXA.sum();
+    }
+
+    public static long filaCheia() {
+        return FILA_CHEIA.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package com.rodolfo.listaniver.log;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+@Component
+public class DescartesLogMetricas implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrar(registry, "limite_taxa", DescartesLog::limiteTaxa);
+        registrar(registry, "fila_cheia", DescartesLog::filaCheia);
+    }
+
+    private static void registrar(MeterRegistry registry, String motivo, LongSupplier valor) {
+        FunctionCounter.builder("logback.eventos.descartados", valor, LongSupplier::getAsLong)
+                .description("Eventos de log descartados para não bloquear as requisições")
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+}
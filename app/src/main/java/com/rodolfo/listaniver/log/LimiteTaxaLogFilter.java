@@ -0,0 +1,74 @@
+package com.rodolfo.listaniver.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita, por logger, quantos eventos até INFO passam a cada segundo. Acima do limite só passa
+ * um a cada {@code amostragem} eventos (0 descarta todos). WARN e ERROR nunca são limitados.
+ * <p>
+ * Roda antes da formatação da mensagem, então um evento descartado não custa nada além do contador.
+ */
+public class LimiteTaxaLogFilter extends TurboFilter {
+
+    private final LongSupplier relogio;
+    private final Map<String, Janela> janelas = new ConcurrentHashMap<>();
+
+    private int eventosPorSegundo = 100;
+    private int amostragem = 100;
+
+    public LimiteTaxaLogFilter() {
+        this(System::currentTimeMillis);
+    }
+
+    LimiteTaxaLogFilter(LongSupplier relogio) {
+        this.relogio = relogio;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Eventos abaixo do nível do logger seriam descartados de qualquer forma e não gastam cota
+        if (!isStarted() || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Janela janela = janelas.computeIfAbsent(logger.getName(), nome -> new Janela());
+        if (janela.permitir(relogio.getAsLong() / 1000, eventosPorSegundo, amostragem)) {
+            return FilterReply.NEUTRAL;
+        }
+        DescartesLog.LIMITE_TAXA.increment();
+        return FilterReply.DENY;
+    }
+
+    public void setEventosPorSegundo(int eventosPorSegundo) {
+        this.eventosPorSegundo = eventosPorSegundo;
+    }
+
+    public void setAmostragem(int amostragem) {
+        this.amostragem = amostragem;
+    }
+
+    // Janela fixa de um segundo; na virada, eventos concorrentes podem cair na janela anterior
+    private static final class Janela {
+
+        private final AtomicLong segundo = new AtomicLong(-1);
+        private final AtomicLong eventos = new AtomicLong();
+
+        boolean permitir(long agora, int limite, int amostragem) {
+            long atual = segundo.get();
+            if (atual != agora && segundo.compareAndSet(atual, agora)) {
+                eventos.set(0);
+            }
+            long excedente = eventos.incrementAndGet() - limite;
+            return excedente <= 0 || (amostragem > 0 && excedente % amostragem == 0);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.rodolfo.listaniver.mapper;
 
 import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
 import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
 import com.rodolfo.listaniver.entity.Email;
 import com.rodolfo.listaniver.entity.Pessoa;
 import org.springframework.stereotype.Component;
@@ -35,4 +37,28 @@ public class PessoaMapper {
                 })
                 .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+
+    public static PessoaOutputDTO toOutputDTO(Pessoa pessoa) {
+        Set<EmailOutputDTO> emailsDto = pessoa.getEmails() != null
+                ? pessoa.getEmails().stream()
+                .map(PessoaMapper::toOutputDTO)
+                .collect(Collectors.toSet())
+                : Set.of();
+
+        return new PessoaOutputDTO(
+                pessoa.getId(),
+                pessoa.getNome(),
+                pessoa.getDataNascimento(),
+                emailsDto,
+                pessoa.getVersao()
+        );
+    }
+
+    public static EmailOutputDTO toOutputDTO(Email email) {
+        return new EmailOutputDTO(
+                email.getId(),
+                email.getEmail(),
+                email.getPessoa().getId()
+        );
+    }
+}
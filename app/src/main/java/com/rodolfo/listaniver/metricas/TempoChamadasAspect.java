@@ -0,0 +1,86 @@
+package com.rodolfo.listaniver.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mede o tempo de toda chamada pública aos serviços e aos repositórios JDBC da aplicação.
+ * <p>
+ * Os serviços vão para {@code lista.niver.servico}, marcados por serviço, operação, resultado e
+ * exceção. Os repositórios JDBC usam o mesmo timer e as mesmas tags que o Spring Boot já registra
+ * para os repositórios do Spring Data ({@code spring.data.repository.invocations}), para que uma
+ * única consulta no Prometheus cubra todo acesso ao banco.
+ * <p>
+ * Roda antes do {@code @Transactional} e do {@code @Cacheable}: o tempo inclui o commit e os
+ * acertos de cache aparecem como chamadas rápidas.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TempoChamadasAspect {
+
+    static final String TIMER_SERVICO = "lista.niver.servico";
+    static final String TIMER_REPOSITORIO = "spring.data.repository.invocations";
+
+    private final MeterRegistry registry;
+
+    public TempoChamadasAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(com.rodolfo.listaniver..*) && @within(org.springframework.stereotype.Service)")
+    public Object medirServico(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String resultado = "sucesso";
+        String excecao = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            resultado = "erro";
+            excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(TIMER_SERVICO)
+                    .description("Tempo das chamadas aos serviços")
+                    .tag("servico", nomeServico(joinPoint))
+                    .tag("operacao", joinPoint.getSignature().getName())
+                    .tag("resultado", resultado)
+                    .tag("excecao", excecao)
+                    .register(registry));
+        }
+    }
+
+    @Around("within(com.rodolfo.listaniver..*) && @within(org.springframework.stereotype.Repository)")
+    public Object medirRepositorio(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample amostra = Timer.start(registry);
+        String estado = "SUCCESS";
+        String excecao = "None";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            estado = "ERROR";
+            excecao = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            amostra.stop(Timer.builder(TIMER_REPOSITORIO)
+                    .description("Duration of repository invocations")
+                    .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", estado)
+                    .tag("exception", excecao)
+                    .register(registry));
+        }
+    }
+
+    // PessoaServiceImpl -> PessoaService, o nome pelo qual o serviço é conhecido
+    private static String nomeServico(ProceedingJoinPoint joinPoint) {
+        String nome = joinPoint.getTarget().getClass().getSimpleName();
+        return nome.endsWith("Impl") ? nome.substring(0, nome.length() - "Impl".length()) : nome;
+    }
+}
@@ -0,0 +1,25 @@
+package com.rodolfo.listaniver.pagination;
+
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrdenacaoPessoa {
+    ID("id"),
+    NOME("nome"),
+    DATA_NASCIMENTO("dataNascimento");
+
+    private final String valor;
+
+    public static OrdenacaoPessoa fromValor(String valor) {
+        return Arrays.stream(values())
+                .filter(ordenacao -> ordenacao.valor.equalsIgnoreCase(valor))
+                .findFirst()
+                .orElseThrow(() -> new InvalidPageRequestException(
+                        "Ordenação inválida: " + valor + ". Use: id, nome ou dataNascimento"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.rodolfo.listaniver.pagination;
+
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
+import com.rodolfo.listaniver.leitura.PosicaoPessoa;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record PessoaCursor(OrdenacaoPessoa ordenacao, Long id, String valor) {
+
+    private static final String SEPARADOR = ":";
+
+    public static PessoaCursor from(PosicaoPessoa posicao, OrdenacaoPessoa ordenacao) {
+        return new PessoaCursor(ordenacao, posicao.id(), posicao.valor());
+    }
+
+    public static PessoaCursor decode(String token, OrdenacaoPessoa ordenacaoEsperada) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = conteudo.split(SEPARADOR, 3);
+            if (partes.length != 3) {
+                throw new InvalidPageRequestException("Cursor inválido");
+            }
+
+            OrdenacaoPessoa ordenacao = OrdenacaoPessoa.fromValor(partes[0]);
+            if (ordenacao != ordenacaoEsperada) {
+                throw new InvalidPageRequestException("Cursor não corresponde à ordenação " + ordenacaoEsperada.getValor());
+            }
+
+            PessoaCursor cursor = new PessoaCursor(ordenacao, Long.valueOf(partes[1]), partes[2]);
+            if (ordenacao == OrdenacaoPessoa.DATA_NASCIMENTO) {
+                cursor.dataNascimento();
+            }
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidPageRequestException("Cursor inválido");
+        }
+    }
+
+    public String encode() {
+        String conteudo = ordenacao.getValor() + SEPARADOR + id + SEPARADOR + valor;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate dataNascimento() {
+        return LocalDate.parse(valor);
+    }
+}
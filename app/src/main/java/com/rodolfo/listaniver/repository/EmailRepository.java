@@ -0,0 +1,35 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EmailRepository extends JpaRepository<Email, Long> {
+
+    List<Email> findByPessoaId(Long pessoaId);
+
+    @Query("SELECT e.email FROM Email e WHERE e.pessoa.id = :pessoaId")
+    List<String> findEnderecosByPessoaId(@Param("pessoaId") Long pessoaId);
+
+    @Query("SELECT e.id FROM Email e WHERE e.pessoa.id = :pessoaId")
+    List<Long> findIdsByPessoaId(@Param("pessoaId") Long pessoaId);
+
+    // Como todo DML em massa, o Hibernate esvazia as regiões de Email e Pessoa.emails no commit
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Email e WHERE e.pessoa.id = :pessoaId")
+    void deleteByPessoaId(@Param("pessoaId") Long pessoaId);
+
+    // Busca no índice (email_normalizado, pessoa_id); o endereço precisa chegar já normalizado
+    @Query("SELECT new com.rodolfo.listaniver.dto.EmailOutputDTO(e.id, e.email, e.pessoa.id) FROM Email e WHERE e.emailNormalizado = :emailNormalizado ORDER BY e.pessoa.id, e.id")
+    List<EmailOutputDTO> findByEmailNormalizado(@Param("emailNormalizado") String emailNormalizado, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Email e SET e.emailNormalizado = LOWER(TRIM(e.email)) WHERE e.emailNormalizado IS NULL")
+    int preencherEmailNormalizado();
+}
\ No newline at end of file
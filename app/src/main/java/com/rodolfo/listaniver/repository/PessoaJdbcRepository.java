@@ -0,0 +1,152 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.search.Trigramas;
+import com.rodolfo.listaniver.util.Aniversarios;
+import com.rodolfo.listaniver.util.EnderecosEmail;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserções em lote via JDBC para cargas grandes, onde o IDENTITY do Hibernate
+ * obrigaria um INSERT por linha. Quem chama é responsável por manter o índice de trigramas.
+ * <p>
+ * O Hibernate não vê essas linhas. Pessoas e emails novos não podem estar no cache de segundo
+ * nível; o que fica velho é só a coleção de emails de uma pessoa que já existia, e só ela sai do cache.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PessoaJdbcRepository {
+
+    private static final String INSERT_PESSOA = "INSERT INTO pessoa (nome, nome_normalizado, data_nascimento, mes_dia_nascimento) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_EMAIL = "INSERT INTO email (email, email_normalizado, pessoa_id) VALUES (?, ?, ?)";
+    private static final String COLECAO_EMAILS = Pessoa.class.getName() + ".emails";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Insere os emails de uma pessoa num único INSERT com várias linhas e devolve o ID gerado
+     * para cada endereço. Os endereços precisam ser distintos.
+     */
+    public Map<String, Long> inserirEmails(Long pessoaId, Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Map.of();
+        }
+
+        invalidarEmailsEmCache(pessoaId);
+        String sql = INSERT_EMAIL + ", (?, ?, ?)".repeat(emails.size() - 1);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, new String[]{"id", "email"});
+            int parametro = 1;
+            for (String email : emails) {
+                ps.setString(parametro++, email);
+                ps.setString(parametro++, EnderecosEmail.normalizar(email));
+                ps.setLong(parametro++, pessoaId);
+            }
+            return ps;
+        }, keyHolder);
+
+        // Os IDs são associados pelo endereço devolvido, sem depender da ordem das linhas
+        Map<String, Long> ids = new HashMap<>();
+        for (Map<String, Object> linha : keyHolder.getKeyList()) {
+            ids.put((String) valor(linha, "email"), ((Number) valor(linha, "id")).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * Insere as pessoas e seus emails, devolvendo os IDs gerados na mesma ordem da lista.
+     */
+    public List<Long> inserir(List<PessoaInputDTO> pessoas) {
+        if (pessoas.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_PESSOA, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PessoaInputDTO pessoa = pessoas.get(i);
+                ps.setString(1, pessoa.nome());
+                ps.setString(2, Trigramas.normalizar(pessoa.nome()));
+                ps.setDate(3, Date.valueOf(pessoa.dataNascimento()));
+                ps.setInt(4, Aniversarios.mesDia(pessoa.dataNascimento()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return pessoas.size();
+            }
+        }, keyHolder);
+
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(valores -> ((Number) valores.iterator().next()).longValue())
+                .toList();
+
+        inserirEmails(pessoas, ids);
+        return ids;
+    }
+
+    // Tira a coleção agora e de novo no fim da transação: uma leitura concorrente anterior ao commit
+    // pode devolvê-la ao cache com a lista antiga
+    private void invalidarEmailsEmCache(Long pessoaId) {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        cache.evictCollectionData(COLECAO_EMAILS, pessoaId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.evictCollectionData(COLECAO_EMAILS, pessoaId);
+                }
+            });
+        }
+    }
+
+    // O nome da coluna devolvida varia de caixa entre os bancos
+    private static Object valor(Map<String, Object> linha, String coluna) {
+        return linha.entrySet().stream()
+                .filter(entrada -> entrada.getKey().equalsIgnoreCase(coluna))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void inserirEmails(List<PessoaInputDTO> pessoas, List<Long> ids) {
+        List<Object[]> emails = new ArrayList<>();
+        for (int i = 0; i < pessoas.size(); i++) {
+            if (pessoas.get(i).emails() == null) {
+                continue;
+            }
+            for (EmailInputDTO email : pessoas.get(i).emails()) {
+                emails.add(new Object[]{email.email(), EnderecosEmail.normalizar(email.email()), ids.get(i)});
+            }
+        }
+
+        if (!emails.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_EMAIL, emails);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.leitura.PosicaoPessoa;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Consultas dos endpoints de leitura, projetadas direto em records: nenhuma entidade entra no
+ * contexto de persistência, então não há snapshot, dirty checking nem coleção lazy para inicializar.
+ * As páginas trazem só o ID e a chave de ordenação; as pessoas com os emails vêm depois numa consulta por IDs.
+ */
+public interface PessoaLeituraRepository extends Repository<Pessoa, Long> {
+
+    String POSICAO = "SELECT new com.rodolfo.listaniver.leitura.PosicaoPessoa";
+
+    String SELECT_LINHAS = "SELECT new com.rodolfo.listaniver.leitura.LinhaPessoa(p.id, p.nome, p.dataNascimento, p.versao, e.id, e.email) FROM Pessoa p LEFT JOIN p.emails e";
+
+    @Query(SELECT_LINHAS + " WHERE p.id = :id")
+    List<LinhaPessoa> findLinhasById(@Param("id") Long id);
+
+    @Query(SELECT_LINHAS + " WHERE p.id IN :ids")
+    List<LinhaPessoa> findLinhasByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(POSICAO + "(p.id) FROM Pessoa p ORDER BY p.id")
+    List<PosicaoPessoa> findPosicoesOrdenadasPorId(Limit limit);
+
+    @Query(POSICAO + "(p.id) FROM Pessoa p WHERE p.id > :id ORDER BY p.id")
+    List<PosicaoPessoa> findPosicoesAposId(@Param("id") Long id, Limit limit);
+
+    @Query(POSICAO + "(p.id, p.nome) FROM Pessoa p ORDER BY p.nome, p.id")
+    List<PosicaoPessoa> findPosicoesOrdenadasPorNome(Limit limit);
+
+    @Query(POSICAO + "(p.id, p.nome) FROM Pessoa p WHERE (p.nome, p.id) > (:nome, :id) ORDER BY p.nome, p.id")
+    List<PosicaoPessoa> findPosicoesAposNome(@Param("nome") String nome, @Param("id") Long id, Limit limit);
+
+    @Query(POSICAO + "(p.id, p.dataNascimento) FROM Pessoa p ORDER BY p.dataNascimento, p.id")
+    List<PosicaoPessoa> findPosicoesOrdenadasPorDataNascimento(Limit limit);
+
+    @Query(POSICAO + "(p.id, p.dataNascimento) FROM Pessoa p WHERE (p.dataNascimento, p.id) > (:dataNascimento, :id) ORDER BY p.dataNascimento, p.id")
+    List<PosicaoPessoa> findPosicoesAposDataNascimento(@Param("dataNascimento") LocalDate dataNascimento, @Param("id") Long id, Limit limit);
+}
@@ -0,0 +1,43 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.exportacao.LinhaExportacao;
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface PessoaRepository extends JpaRepository<Pessoa, Long> {
+
+    // Só a versão, para responder If-None-Match sem carregar a pessoa e os emails
+    @Query("SELECT p.versao FROM Pessoa p WHERE p.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    boolean existsByNomeAndDataNascimento(String nome, LocalDate dataNascimento);
+
+    // Superconjunto das chaves pedidas; quem chama confere o par nome/data exato
+    @Query("SELECT new com.rodolfo.listaniver.importacao.ChavePessoa(p.nome, p.dataNascimento) FROM Pessoa p WHERE p.nome IN :nomes AND p.dataNascimento IN :datas")
+    List<ChavePessoa> findChavesExistentes(@Param("nomes") Collection<String> nomes, @Param("datas") Collection<LocalDate> datas);
+
+    List<Pessoa> findByMesDiaNascimentoBetweenOrderByMesDiaNascimentoAscIdAsc(Integer inicio, Integer fim, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Pessoa p SET p.mesDiaNascimento = EXTRACT(MONTH FROM p.dataNascimento) * 100 + EXTRACT(DAY FROM p.dataNascimento) WHERE p.mesDiaNascimento IS NULL")
+    int preencherMesDiaNascimento();
+
+    // Cursor no banco com fetch size limitado: o driver nunca traz a tabela inteira de uma vez
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new com.rodolfo.listaniver.exportacao.LinhaExportacao(p.id, p.nome, p.dataNascimento, e.id, e.email) FROM Pessoa p LEFT JOIN p.emails e ORDER BY p.id, e.id")
+    Stream<LinhaExportacao> streamLinhasExportacao();
+}
@@ -0,0 +1,31 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.entity.PessoaTrigrama;
+import com.rodolfo.listaniver.search.CandidatoBusca;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Candidatos da busca por nome, cada consulta lendo uma faixa limitada de índice; a relevância e
+ * os limites estão em {@link com.rodolfo.listaniver.search.TermoBusca}. O termo chega escapado
+ * para LIKE (com '!') em {@code termoLike}.
+ */
+public interface PessoaTrigramaRepository extends JpaRepository<PessoaTrigrama, PessoaTrigrama.Chave> {
+
+    String CANDIDATO = "SELECT new com.rodolfo.listaniver.search.CandidatoBusca(p.id, p.nomeNormalizado) FROM Pessoa p";
+
+    // Nome igual ou que começa pelo termo, pela faixa no índice de nome_normalizado
+    @Query(CANDIDATO + " WHERE p.nomeNormalizado >= :de AND p.nomeNormalizado < :ate AND p.nomeNormalizado LIKE CONCAT(:termoLike, '%') ESCAPE '!' ORDER BY p.nomeNormalizado, p.id")
+    List<CandidatoBusca> findCandidatosPorInicioDoNome(@Param("de") String de, @Param("ate") String ate,
+                                                       @Param("termoLike") String termoLike, Limit limit);
+
+    // Termo em outra posição do nome, entre as pessoas das primeiras entradas da faixa de trigramas
+    @Query(CANDIDATO + " WHERE p.id IN (SELECT t.pessoaId FROM PessoaTrigrama t WHERE t.trigrama >= :de AND t.trigrama < :ate ORDER BY t.trigrama, t.pessoaId LIMIT :leitura)"
+            + " AND p.nomeNormalizado LIKE CONCAT('%', :termoLike, '%') ESCAPE '!' AND p.nomeNormalizado NOT LIKE CONCAT(:termoLike, '%') ESCAPE '!' ORDER BY p.id")
+    List<CandidatoBusca> findCandidatosPorTrigrama(@Param("de") String de, @Param("ate") String ate, @Param("leitura") int leitura,
+                                                   @Param("termoLike") String termoLike, Limit limit);
+}
@@ -0,0 +1,43 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.entity.SaudacaoAniversario;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SaudacaoAniversarioRepository extends JpaRepository<SaudacaoAniversario, SaudacaoAniversario.Chave> {
+
+    String PENDENTES = "FROM Pessoa p WHERE p.mesDiaNascimento IN :chaves AND NOT EXISTS (SELECT 1 FROM SaudacaoAniversario s WHERE s.pessoaId = p.id AND s.dia = :dia)";
+
+    @Query("SELECT COUNT(p) " + PENDENTES)
+    long countPendentes(@Param("chaves") Collection<Integer> chaves, @Param("dia") LocalDate dia);
+
+    // Página por ID de quem faz aniversário nas chaves e ainda não foi saudado no dia
+    @Query("SELECT p.id " + PENDENTES + " AND p.id > :id ORDER BY p.id")
+    List<Long> findPendentesAposId(@Param("chaves") Collection<Integer> chaves, @Param("dia") LocalDate dia, @Param("id") Long id, Limit limit);
+
+    // INSERT direto: o save() com chave atribuída faria um SELECT antes para decidir entre persist e merge.
+    // Falha com DataIntegrityViolationException se o par pessoa/dia já existe (ou a pessoa foi removida)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO saudacao_aniversario (pessoa_id, dia, enviada_em) VALUES (:pessoaId, :dia, :enviadaEm)", nativeQuery = true)
+    void registrar(@Param("pessoaId") Long pessoaId, @Param("dia") LocalDate dia, @Param("enviadaEm") Instant enviadaEm);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SaudacaoAniversario s WHERE s.pessoaId = :pessoaId AND s.dia = :dia")
+    void liberar(@Param("pessoaId") Long pessoaId, @Param("dia") LocalDate dia);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SaudacaoAniversario s WHERE s.dia < :dia")
+    int removerAnterioresA(@Param("dia") LocalDate dia);
+}
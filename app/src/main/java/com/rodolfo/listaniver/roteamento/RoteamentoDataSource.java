@@ -0,0 +1,175 @@
+package com.rodolfo.listaniver.roteamento;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Manda as transações readOnly para as réplicas, em rodízio, e todo o resto para o primário.
+ * <p>
+ * A decisão usa o readOnly da transação corrente, que o Spring só marca depois de abrir a
+ * transação: por isso fica atrás de um LazyConnectionDataSourceProxy, que só pede a conexão de
+ * verdade no primeiro comando SQL. Sem transação (inicialização, jobs fora de @Transactional) vai
+ * para o primário.
+ * <p>
+ * Com {@code aderirAposEscrita}, uma transação de escrita marca a requisição HTTP corrente e as
+ * leituras seguintes dela também vão para o primário, sem depender do atraso de replicação.
+ * Uma réplica que não entrega conexão fica fora do rodízio por {@code esperaAposFalha} e volta na
+ * primeira tentativa depois disso; sem réplica disponível a leitura cai no primário.
+ */
+@Slf4j
+public class RoteamentoDataSource extends AbstractDataSource implements AutoCloseable {
+
+    static final String ESCREVEU = RoteamentoDataSource.class.getName() + ".ESCREVEU";
+
+    private final DataSource primario;
+    private final List<Replica> replicas;
+    private final boolean aderirAposEscrita;
+    private final Duration esperaAposFalha;
+    private final Clock clock;
+    private final AtomicInteger proxima = new AtomicInteger();
+
+    private final Counter leiturasReplica;
+    private final Counter leiturasAposEscrita;
+    private final Counter leiturasFailover;
+
+    public RoteamentoDataSource(DataSource primario, List<? extends DataSource> replicas, boolean aderirAposEscrita,
+                                Duration esperaAposFalha, Clock clock, MeterRegistry registry) {
+        this.primario = primario;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(i -> new Replica("replica-" + i, replicas.get(i)))
+                .toList();
+        this.aderirAposEscrita = aderirAposEscrita;
+        this.esperaAposFalha = esperaAposFalha;
+        this.clock = clock;
+
+        this.leiturasReplica = leituras(registry, "replica", "rodizio");
+        this.leiturasAposEscrita = leituras(registry, "primario", "apos-escrita");
+        this.leiturasFailover = leituras(registry, "primario", "failover");
+        Gauge.builder("lista.niver.replicas.disponiveis", this, RoteamentoDataSource::disponiveis)
+                .description("Réplicas de leitura no rodízio")
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                marcarEscrita();
+            }
+            return primario.getConnection();
+        }
+
+        if (aderirAposEscrita && escreveuNaRequisicao()) {
+            leiturasAposEscrita.increment();
+            return primario.getConnection();
+        }
+        return conexaoLeitura();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credenciais por conexão não são suportadas no roteamento");
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable fechavel) {
+                fechavel.close();
+            }
+        }
+    }
+
+    int disponiveis() {
+        Instant agora = clock.instant();
+        return (int) replicas.stream().filter(replica -> replica.disponivel(agora)).count();
+    }
+
+    private Connection conexaoLeitura() throws SQLException {
+        if (!replicas.isEmpty()) {
+            int inicio = Math.floorMod(proxima.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((inicio + i) % replicas.size());
+                if (!replica.disponivel(clock.instant())) {
+                    continue;
+                }
+                try {
+                    Connection conexao = replica.dataSource.getConnection();
+                    replica.recuperar();
+                    leiturasReplica.increment();
+                    return conexao;
+                } catch (SQLException e) {
+                    replica.falhar(clock.instant().plus(esperaAposFalha));
+                    log.warn("Réplica {} sem conexão, fora do rodízio por {}: {}", replica.nome, esperaAposFalha, e.getMessage());
+                }
+            }
+        }
+
+        leiturasFailover.increment();
+        return primario.getConnection();
+    }
+
+    private static boolean escreveuNaRequisicao() {
+        RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+        return requisicao != null && requisicao.getAttribute(ESCREVEU, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private void marcarEscrita() {
+        RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+        if (aderirAposEscrita && requisicao != null) {
+            requisicao.setAttribute(ESCREVEU, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static Counter leituras(MeterRegistry registry, String destino, String motivo) {
+        return Counter.builder("lista.niver.replicas.leituras")
+                .description("Conexões entregues a transações readOnly")
+                .tag("destino", destino)
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+
+    private static final class Replica {
+
+        private final String nome;
+        private final DataSource dataSource;
+        private volatile Instant indisponivelAte = Instant.MIN;
+
+        Replica(String nome, DataSource dataSource) {
+            this.nome = nome;
+            this.dataSource = dataSource;
+        }
+
+        boolean disponivel(Instant agora) {
+            return !agora.isBefore(indisponivelAte);
+        }
+
+        void falhar(Instant ate) {
+            indisponivelAte = ate;
+        }
+
+        void recuperar() {
+            if (indisponivelAte != Instant.MIN) {
+                indisponivelAte = Instant.MIN;
+                log.info("Réplica {} de volta ao rodízio", nome);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.rodolfo.listaniver.search;
+
+public record NomePessoa(Long id, String nome) {
+}
@@ -0,0 +1,37 @@
+package com.rodolfo.listaniver.search;
+
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca por trecho do nome. Duas consultas limitadas trazem os candidatos, e {@link TermoBusca}
+ * os ordena por relevância antes de cortar a página; páginas que começam depois de
+ * {@link TermoBusca#LIMITE_RESULTADOS} posições voltam vazias.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessoaBusca {
+
+    private final PessoaTrigramaRepository trigramaRepository;
+
+    public List<Long> buscarIds(String termo, int pagina, int tamanho) {
+        return TermoBusca.de(termo, pagina, tamanho)
+                .map(busca -> busca.ordenar(buscarCandidatos(busca), pagina, tamanho))
+                .orElse(List.of());
+    }
+
+    private List<CandidatoBusca> buscarCandidatos(TermoBusca busca) {
+        Limit limite = Limit.of(TermoBusca.LIMITE_RESULTADOS);
+        TermoBusca.Faixa nome = busca.faixaNome();
+        TermoBusca.Faixa trigramas = busca.faixaTrigramas();
+
+        List<CandidatoBusca> candidatos = new ArrayList<>(trigramaRepository.findCandidatosPorInicioDoNome(nome.de(), nome.ate(), busca.like(), limite));
+        candidatos.addAll(trigramaRepository.findCandidatosPorTrigrama(trigramas.de(), trigramas.ate(), TermoBusca.LIMITE_LEITURA_TRIGRAMAS, busca.like(), limite));
+        return candidatos;
+    }
+}
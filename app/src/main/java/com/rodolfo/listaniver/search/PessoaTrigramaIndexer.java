@@ -0,0 +1,96 @@
+package com.rodolfo.listaniver.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Mantém a tabela pessoa_trigrama. Usa JDBC direto porque é chamado de dentro dos callbacks
+ * de ciclo de vida da entidade, onde o EntityManager não pode ser usado.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaTrigramaIndexer {
+
+    static final int TAMANHO_LOTE_REINDEXACAO = 500;
+
+    private static final String INSERT = "INSERT INTO pessoa_trigrama (trigrama, pessoa_id) VALUES (?, ?)";
+    private static final String DELETE = "DELETE FROM pessoa_trigrama WHERE pessoa_id = ?";
+    private static final String PENDENTES = """
+            SELECT p.id, p.nome FROM pessoa p
+            WHERE p.id > ? AND NOT EXISTS (SELECT 1 FROM pessoa_trigrama t WHERE t.pessoa_id = p.id)
+            ORDER BY p.id
+            LIMIT ?""";
+    private static final String SEM_NOME_NORMALIZADO = """
+            SELECT p.id, p.nome FROM pessoa p
+            WHERE p.id > ? AND p.nome_normalizado IS NULL
+            ORDER BY p.id
+            LIMIT ?""";
+    private static final String ATUALIZAR_NOME_NORMALIZADO = "UPDATE pessoa SET nome_normalizado = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void indexar(Long pessoaId, String nome) {
+        jdbcTemplate.update(DELETE, pessoaId);
+        inserir(List.of(new NomePessoa(pessoaId, nome)));
+    }
+
+    public void remover(Long pessoaId) {
+        jdbcTemplate.update(DELETE, pessoaId);
+    }
+
+    public void inserir(List<NomePessoa> pessoas) {
+        List<Object[]> linhas = pessoas.stream()
+                .flatMap(pessoa -> Trigramas.doNome(pessoa.nome()).stream()
+                        .map(trigrama -> new Object[]{trigrama, pessoa.id()}))
+                .toList();
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, linhas);
+        }
+    }
+
+    // Indexa pessoas gravadas sem passar pela entidade (carga inicial, scripts SQL)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexarPendentes() {
+        int total = percorrer(PENDENTES, this::inserir);
+        if (total > 0) {
+            log.info("Índice de trigramas criado para {} pessoas", total);
+        }
+    }
+
+    // Mesmas pessoas, e as gravadas antes da coluna existir: tirar acentos não tem SQL portável
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencherNomesNormalizados() {
+        int total = percorrer(SEM_NOME_NORMALIZADO, lote -> jdbcTemplate.batchUpdate(ATUALIZAR_NOME_NORMALIZADO, lote.stream()
+                .map(pessoa -> new Object[]{Trigramas.normalizar(pessoa.nome()), pessoa.id()})
+                .toList()));
+        if (total > 0) {
+            log.info("Nome normalizado preenchido para {} pessoas", total);
+        }
+    }
+
+    // Lotes em ordem de ID a partir do último visto, para não depender de o lote anterior ter saído da consulta
+    private int percorrer(String consulta, Consumer<List<NomePessoa>> processar) {
+        long ultimoId = 0;
+        int total = 0;
+        List<NomePessoa> lote;
+        do {
+            lote = jdbcTemplate.query(consulta,
+                    (rs, rowNum) -> new NomePessoa(rs.getLong("id"), rs.getString("nome")),
+                    ultimoId, TAMANHO_LOTE_REINDEXACAO);
+            if (!lote.isEmpty()) {
+                processar.accept(lote);
+                ultimoId = lote.getLast().id();
+            }
+            total += lote.size();
+        } while (lote.size() == TAMANHO_LOTE_REINDEXACAO);
+        return total;
+    }
+}
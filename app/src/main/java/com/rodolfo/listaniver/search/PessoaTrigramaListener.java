@@ -0,0 +1,40 @@
+package com.rodolfo.listaniver.search;
+
+import com.rodolfo.listaniver.entity.Pessoa;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Instanciado pelo Hibernate através do container do Spring. O indexador é opcional para que
+ * fatias de teste sem o componente (ex.: @DataJpaTest) continuem funcionando.
+ */
+public class PessoaTrigramaListener {
+
+    private final ObjectProvider<PessoaTrigramaIndexer> indexer;
+
+    public PessoaTrigramaListener(ObjectProvider<PessoaTrigramaIndexer> indexer) {
+        this.indexer = indexer;
+    }
+
+    @PostLoad
+    void carregar(Pessoa pessoa) {
+        pessoa.marcarNomeIndexado();
+    }
+
+    // Atualizações que não mexem no nome (data de nascimento, emails) não tocam no índice
+    @PostPersist
+    @PostUpdate
+    void indexar(Pessoa pessoa) {
+        if (pessoa.marcarNomeIndexado()) {
+            indexer.ifAvailable(i -> i.indexar(pessoa.getId(), pessoa.getNome()));
+        }
+    }
+
+    @PreRemove
+    void remover(Pessoa pessoa) {
+        indexer.ifAvailable(i -> i.remover(pessoa.getId()));
+    }
+}
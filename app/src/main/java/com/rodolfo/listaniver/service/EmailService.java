@@ -2,6 +2,8 @@ package com.rodolfo.listaniver.service;
 
 import com.rodolfo.listaniver.dto.EmailInputDTO;
 import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
+import com.rodolfo.listaniver.dto.EmailsVersionadosDTO;
 
 import java.util.List;
 
@@ -9,11 +11,17 @@ public interface EmailService {
 
     EmailOutputDTO adicionarEmail(Long pessoaId, EmailInputDTO emailInputDTO);
 
+    List<EmailOutputDTO> adicionarEmails(Long pessoaId, List<EmailInputDTO> emails);
+
     List<EmailOutputDTO> listarEmailsPorPessoa(Long pessoaId);
 
+    EmailsVersionadosDTO listarEmailsVersionados(Long pessoaId);
+
     void removerEmail(Long emailId);
 
     EmailOutputDTO buscarPorId(Long emailId);
 
+    List<EmailPessoaOutputDTO> buscarPorEndereco(String endereco);
+
     EmailOutputDTO atualizarEmail(Long emailId, EmailInputDTO emailInputDTO);
 }
\ No newline at end of file
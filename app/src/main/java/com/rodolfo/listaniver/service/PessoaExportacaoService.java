@@ -0,0 +1,10 @@
+package com.rodolfo.listaniver.service;
+
+import com.rodolfo.listaniver.exportacao.FormatoExportacao;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PessoaExportacaoService {
+    long exportar(FormatoExportacao formato, OutputStream saida) throws IOException;
+}
@@ -0,0 +1,10 @@
+package com.rodolfo.listaniver.service;
+
+import com.rodolfo.listaniver.dto.ImportacaoResultadoDTO;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+public interface PessoaImportacaoService {
+    ImportacaoResultadoDTO importar(InputStream corpo, MediaType tipo);
+}
@@ -0,0 +1,31 @@
+package com.rodolfo.listaniver.service;
+
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.pagination.OrdenacaoPessoa;
+
+import java.util.List;
+import java.util.Set;
+
+public interface PessoaService {
+    PessoaOutputDTO criar(PessoaInputDTO inputDTO);
+
+    PessoaOutputDTO buscarPorId(Long id);
+
+    long buscarVersao(Long id);
+
+    PessoaLoteOutputDTO buscarPorIds(List<Long> ids);
+
+    PessoaPageOutputDTO listarTodos(String cursor, int tamanho, OrdenacaoPessoa ordenacao);
+
+    PessoaOutputDTO atualizar(Long id, PessoaUpdateDTO updateDTO, Set<Long> versoesAceitas);
+
+    void deletar(Long id);
+
+    List<PessoaOutputDTO> buscarPorNome(String nome, int pagina, int tamanho);
+
+    List<PessoaOutputDTO> listarAniversariantes(int dias);
+}
\ No newline at end of file
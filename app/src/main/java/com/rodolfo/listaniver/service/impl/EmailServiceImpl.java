@@ -0,0 +1,201 @@
+package com.rodolfo.listaniver.service.impl;
+
+import com.rodolfo.listaniver.cache.CacheConsultas;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.EmailsVersionadosDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
+import com.rodolfo.listaniver.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaJdbcRepository;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.service.EmailService;
+import com.rodolfo.listaniver.util.EnderecosEmail;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class EmailServiceImpl implements EmailService {
+
+    static final int LIMITE_BUSCA_POR_ENDERECO = 100;
+
+    private final EmailRepository emailRepository;
+    private final PessoaRepository pessoaRepository;
+    private final PessoaJdbcRepository jdbcRepository;
+    private final PessoaLeituraRepository leitura;
+    private final CacheConsultas cache;
+    private final EntityManager entityManager;
+
+    @Override
+    public EmailOutputDTO adicionarEmail(Long pessoaId, EmailInputDTO emailInputDTO) {
+        log.info("Adicionando email {} para pessoa ID: {}", emailInputDTO.email(), pessoaId);
+
+        Pessoa pessoa = pessoaRepository.findById(pessoaId)
+                .orElseThrow(() -> new RecordNotFoundException("Pessoa", pessoaId));
+
+        Email email = new Email();
+        email.setEmail(emailInputDTO.email());
+        email.setPessoa(pessoa);
+
+        Email savedEmail = emailRepository.save(email);
+        incrementarVersao(pessoa);
+        cache.invalidarPessoa(pessoaId);
+
+        log.info("Email adicionado com sucesso: ID {}", savedEmail.getId());
+        return PessoaMapper.toOutputDTO(savedEmail);
+    }
+
+    @Override
+    public List<EmailOutputDTO> adicionarEmails(Long pessoaId, List<EmailInputDTO> emails) {
+        log.info("Adicionando {} emails para pessoa ID: {}", emails.size(), pessoaId);
+
+        // Confere a existência e trava a linha da pessoa até o commit, serializando lotes concorrentes
+        Pessoa pessoa = entityManager.find(Pessoa.class, pessoaId, LockModeType.PESSIMISTIC_WRITE);
+        if (pessoa == null) {
+            throw new RecordNotFoundException("Pessoa", pessoaId);
+        }
+
+        // Um endereço por forma normalizada, na primeira grafia recebida; os que a pessoa já tem ficam de fora
+        Set<String> existentes = emailRepository.findEnderecosByPessoaId(pessoaId).stream()
+                .map(EnderecosEmail::normalizar)
+                .collect(Collectors.toSet());
+        Map<String, String> porNormalizado = new LinkedHashMap<>();
+        for (EmailInputDTO email : emails) {
+            String normalizado = EnderecosEmail.normalizar(email.email());
+            if (!existentes.contains(normalizado)) {
+                porNormalizado.putIfAbsent(normalizado, email.email());
+            }
+        }
+        List<String> novos = List.copyOf(porNormalizado.values());
+        // Sem endereço novo a representação não muda: versão, ETag e caches ficam como estão
+        if (novos.isEmpty()) {
+            log.info("Nenhum email novo para pessoa ID: {}", pessoaId);
+            return List.of();
+        }
+
+        incrementarVersao(pessoa);
+        Map<String, Long> ids = jdbcRepository.inserirEmails(pessoaId, novos);
+        cache.invalidarPessoa(pessoaId);
+
+        log.info("{} emails adicionados para pessoa ID: {}", ids.size(), pessoaId);
+        return novos.stream()
+                .map(email -> new EmailOutputDTO(ids.get(email), email, pessoaId))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmailOutputDTO> listarEmailsPorPessoa(Long pessoaId) {
+        return listarEmailsVersionados(pessoaId).emails();
+    }
+
+    // A versão é lida antes dos emails: se outra transação gravar no meio, o ETag fica mais antigo
+    // que o corpo e o cliente só baixa de novo na próxima consulta, nunca guarda um corpo velho com ETag novo
+    @Override
+    @Transactional(readOnly = true)
+    public EmailsVersionadosDTO listarEmailsVersionados(Long pessoaId) {
+        log.debug("Listando emails para pessoa ID: {}", pessoaId);
+
+        long versao = pessoaRepository.findVersaoById(pessoaId)
+                .orElseThrow(() -> new RecordNotFoundException("Pessoa", pessoaId));
+
+        List<EmailOutputDTO> emails = emailRepository.findByPessoaId(pessoaId)
+                .stream()
+                .map(PessoaMapper::toOutputDTO)
+                .toList();
+        return new EmailsVersionadosDTO(versao, emails);
+    }
+
+    @Override
+    public void removerEmail(Long emailId) {
+        log.info("Removendo email ID: {}", emailId);
+
+        Email email = emailRepository.findById(emailId)
+                .orElseThrow(() -> new RecordNotFoundException("Email", emailId));
+
+        emailRepository.delete(email);
+        incrementarVersao(email.getPessoa());
+        cache.invalidarEmail(emailId, email.getPessoa().getId());
+        log.info("Email removido com sucesso: ID {}", emailId);
+    }
+
+    // SUPPORTS: um acerto no cache não abre transação nem pega conexão do pool
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public EmailOutputDTO buscarPorId(Long emailId) {
+        log.debug("Buscando email por ID: {}", emailId);
+
+        return cache.email(emailId, () -> emailRepository.findById(emailId)
+                .map(PessoaMapper::toOutputDTO)
+                .orElseThrow(() -> new RecordNotFoundException("Email", emailId)));
+    }
+
+    // O mesmo endereço pode estar em mais de uma pessoa; vem um resultado por pessoa, até o limite
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmailPessoaOutputDTO> buscarPorEndereco(String endereco) {
+        String normalizado = EnderecosEmail.normalizar(endereco);
+        if (normalizado == null || normalizado.isEmpty()) {
+            throw new InvalidPageRequestException("Informe o endereço de email");
+        }
+        log.debug("Buscando email por endereço: {}", normalizado);
+
+        List<EmailOutputDTO> emails = emailRepository.findByEmailNormalizado(normalizado, Limit.of(LIMITE_BUSCA_POR_ENDERECO));
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PessoaOutputDTO> pessoas = LinhaPessoa.agrupar(leitura.findLinhasByIdIn(
+                emails.stream().map(EmailOutputDTO::pessoaId).collect(Collectors.toSet())));
+        return emails.stream()
+                .filter(email -> pessoas.containsKey(email.pessoaId()))
+                .map(email -> new EmailPessoaOutputDTO(email, pessoas.get(email.pessoaId())))
+                .toList();
+    }
+
+    @Override
+    public EmailOutputDTO atualizarEmail(Long emailId, EmailInputDTO emailInputDTO) {
+        log.info("Atualizando email ID: {}", emailId);
+
+        Email email = emailRepository.findById(emailId)
+                .orElseThrow(() -> new RecordNotFoundException("Email", emailId));
+
+        email.setEmail(emailInputDTO.email());
+
+        Email updatedEmail = emailRepository.save(email);
+        incrementarVersao(updatedEmail.getPessoa());
+        cache.invalidarEmail(emailId, updatedEmail.getPessoa().getId());
+
+        log.info("Email atualizado com sucesso: ID {}", updatedEmail.getId());
+        return PessoaMapper.toOutputDTO(updatedEmail);
+    }
+
+    // Alterações de email mudam a representação da pessoa sem sujar a entidade. A versão sobe pela
+    // entidade gerenciada, e não por UPDATE em massa, que esvaziaria as regiões de Pessoa no cache
+    // de segundo nível
+    private void incrementarVersao(Pessoa pessoa) {
+        entityManager.lock(pessoa, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+}
@@ -0,0 +1,83 @@
+package com.rodolfo.listaniver.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.exportacao.EscritorExportacao;
+import com.rodolfo.listaniver.exportacao.FormatoExportacao;
+import com.rodolfo.listaniver.exportacao.LinhaExportacao;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.service.PessoaExportacaoService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaExportacaoServiceImpl implements PessoaExportacaoService {
+
+    static final int LINHAS_POR_LIMPEZA = 1000;
+
+    private final PessoaRepository repository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // REPEATABLE_READ: o arquivo inteiro reflete um único snapshot, mesmo com escritas durante a exportação
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public long exportar(FormatoExportacao formato, OutputStream saida) throws IOException {
+        log.info("Exportando pessoas em {}", formato);
+
+        EscritorExportacao escritor = EscritorExportacao.para(formato, saida, objectMapper);
+        long exportadas = 0;
+        long linhas = 0;
+
+        try (Stream<LinhaExportacao> stream = repository.streamLinhasExportacao()) {
+            Iterator<LinhaExportacao> iterator = stream.iterator();
+            LinhaExportacao atual = null;
+            Set<EmailOutputDTO> emails = new LinkedHashSet<>();
+
+            // As linhas chegam ordenadas por pessoa; só a pessoa corrente fica em memória
+            while (iterator.hasNext()) {
+                LinhaExportacao linha = iterator.next();
+                if (atual != null && !atual.id().equals(linha.id())) {
+                    escritor.escrever(toDTO(atual, emails));
+                    exportadas++;
+                    emails = new LinkedHashSet<>();
+                }
+                atual = linha;
+                if (linha.emailId() != null) {
+                    emails.add(new EmailOutputDTO(linha.emailId(), linha.email(), linha.id()));
+                }
+
+                if (++linhas % LINHAS_POR_LIMPEZA == 0) {
+                    entityManager.clear();
+                }
+            }
+
+            if (atual != null) {
+                escritor.escrever(toDTO(atual, emails));
+                exportadas++;
+            }
+        }
+
+        escritor.flush();
+        log.info("Exportação concluída: {} pessoas", exportadas);
+        return exportadas;
+    }
+
+    private static PessoaOutputDTO toDTO(LinhaExportacao linha, Set<EmailOutputDTO> emails) {
+        return new PessoaOutputDTO(linha.id(), linha.nome(), linha.dataNascimento(), emails, null);
+    }
+}
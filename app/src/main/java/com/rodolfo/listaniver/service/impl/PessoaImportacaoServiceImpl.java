@@ -0,0 +1,174 @@
+package com.rodolfo.listaniver.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.config.ImportacaoProperties;
+import com.rodolfo.listaniver.duplicidade.FiltroDuplicidade;
+import com.rodolfo.listaniver.dto.ErroImportacaoDTO;
+import com.rodolfo.listaniver.dto.ImportacaoResultadoDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+import com.rodolfo.listaniver.importacao.FormatoImportacao;
+import com.rodolfo.listaniver.importacao.LeitorImportacao;
+import com.rodolfo.listaniver.importacao.RegistroImportacao;
+import com.rodolfo.listaniver.repository.PessoaJdbcRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.search.NomePessoa;
+import com.rodolfo.listaniver.search.PessoaTrigramaIndexer;
+import com.rodolfo.listaniver.service.PessoaImportacaoService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaImportacaoServiceImpl implements PessoaImportacaoService {
+
+    static final String MENSAGEM_DUPLICADA = "Pessoa com nome e data de nascimento já existe";
+
+    private final PessoaRepository repository;
+    private final PessoaJdbcRepository jdbcRepository;
+    private final PessoaTrigramaIndexer trigramaIndexer;
+    private final FiltroDuplicidade filtroDuplicidade;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportacaoProperties properties;
+
+    // Sem @Transactional: cada lote é gravado e confirmado na própria transação
+    @Override
+    public ImportacaoResultadoDTO importar(InputStream corpo, MediaType tipo) {
+        log.info("Iniciando importação de pessoas ({})", tipo);
+
+        FormatoImportacao formato = FormatoImportacao.fromMediaType(tipo);
+        Relatorio relatorio = new Relatorio(properties.limiteErros());
+        List<RegistroImportacao> lote = new ArrayList<>(properties.tamanhoLote());
+
+        try (LeitorImportacao leitor = new LeitorImportacao(corpo, tipo.getCharset() == null ? StandardCharsets.UTF_8 : tipo.getCharset(), formato, objectMapper)) {
+            RegistroImportacao registro;
+            while ((registro = leitor.proximo()) != null) {
+                relatorio.linhasProcessadas++;
+
+                String erro = registro.erro() != null ? registro.erro() : validar(registro.pessoa());
+                if (erro != null) {
+                    relatorio.rejeitar(registro.linha(), erro);
+                    continue;
+                }
+
+                lote.add(registro);
+                if (lote.size() >= properties.tamanhoLote()) {
+                    gravarLote(lote, relatorio);
+                    lote.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler arquivo de importação", e);
+        }
+
+        if (!lote.isEmpty()) {
+            gravarLote(lote, relatorio);
+        }
+
+        log.info("Importação concluída: {} linhas, {} importadas, {} rejeitadas",
+                relatorio.linhasProcessadas, relatorio.importadas, relatorio.rejeitadas);
+        return relatorio.toDTO();
+    }
+
+    private String validar(PessoaInputDTO pessoa) {
+        Set<ConstraintViolation<PessoaInputDTO>> violacoes = validator.validate(pessoa);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .sorted(Comparator.comparing(violacao -> violacao.getPropertyPath().toString()))
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private void gravarLote(List<RegistroImportacao> lote, Relatorio relatorio) {
+        try {
+            ResultadoLote resultado = transactionTemplate.execute(status -> gravar(lote));
+            relatorio.importadas += resultado.importadas();
+            resultado.duplicadas().forEach(linha -> relatorio.rejeitar(linha, MENSAGEM_DUPLICADA));
+        } catch (DataAccessException e) {
+            log.error("Erro ao gravar lote de importação: {}", e.getMessage());
+            lote.forEach(registro -> relatorio.rejeitar(registro.linha(), "Falha ao gravar lote: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private ResultadoLote gravar(List<RegistroImportacao> lote) {
+        // Uma consulta para o lote inteiro em vez de um existsByNomeAndDataNascimento por linha,
+        // e só com as chaves que o filtro de duplicidade não descartou
+        Set<ChavePessoa> chaves = new HashSet<>(filtroDuplicidade.existentes(
+                lote.stream().map(registro -> new ChavePessoa(registro.pessoa().nome(), registro.pessoa().dataNascimento())).toList(),
+                candidatas -> repository.findChavesExistentes(
+                        candidatas.stream().map(ChavePessoa::nome).collect(Collectors.toSet()),
+                        candidatas.stream().map(ChavePessoa::dataNascimento).collect(Collectors.toSet()))));
+
+        List<PessoaInputDTO> novas = new ArrayList<>(lote.size());
+        List<Long> duplicadas = new ArrayList<>();
+        for (RegistroImportacao registro : lote) {
+            PessoaInputDTO pessoa = registro.pessoa();
+            if (chaves.add(new ChavePessoa(pessoa.nome(), pessoa.dataNascimento()))) {
+                novas.add(pessoa);
+            } else {
+                duplicadas.add(registro.linha());
+            }
+        }
+
+        List<Long> ids = jdbcRepository.inserir(novas);
+        filtroDuplicidade.registrar(novas.stream().map(pessoa -> new ChavePessoa(pessoa.nome(), pessoa.dataNascimento())).toList());
+        trigramaIndexer.inserir(IntStream.range(0, ids.size())
+                .mapToObj(i -> new NomePessoa(ids.get(i), novas.get(i).nome()))
+                .toList());
+
+        return new ResultadoLote(ids.size(), duplicadas);
+    }
+
+    private record ResultadoLote(int importadas, List<Long> duplicadas) {
+    }
+
+    private static final class Relatorio {
+
+        private final int limiteErros;
+        private final List<ErroImportacaoDTO> erros = new ArrayList<>();
+        private long linhasProcessadas;
+        private long importadas;
+        private long rejeitadas;
+
+        private Relatorio(int limiteErros) {
+            this.limiteErros = limiteErros;
+        }
+
+        private void rejeitar(long linha, String mensagem) {
+            rejeitadas++;
+            if (erros.size() < limiteErros) {
+                erros.add(new ErroImportacaoDTO(linha, mensagem));
+            }
+        }
+
+        private ImportacaoResultadoDTO toDTO() {
+            List<ErroImportacaoDTO> ordenados = erros.stream()
+                    .sorted(Comparator.comparingLong(ErroImportacaoDTO::linha))
+                    .toList();
+            return new ImportacaoResultadoDTO(linhasProcessadas, importadas, rejeitadas, ordenados);
+        }
+    }
+}
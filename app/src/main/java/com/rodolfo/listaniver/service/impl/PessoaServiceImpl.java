@@ -0,0 +1,313 @@
+package com.rodolfo.listaniver.service.impl;
+
+import com.rodolfo.listaniver.cache.CacheConsultas;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
+import com.rodolfo.listaniver.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.exception.VersionMismatchException;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import com.rodolfo.listaniver.pagination.OrdenacaoPessoa;
+import com.rodolfo.listaniver.pagination.PessoaCursor;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.leitura.PosicaoPessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.search.PessoaBusca;
+import com.rodolfo.listaniver.service.PessoaService;
+import com.rodolfo.listaniver.util.Aniversarios;
+import com.rodolfo.listaniver.validator.PessoaValidator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.rodolfo.listaniver.mapper.PessoaMapper.toOutputDTO;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class PessoaServiceImpl implements PessoaService {
+
+    static final int TAMANHO_MAXIMO_PAGINA = 100;
+    static final int LIMITE_ANIVERSARIANTES = 1000;
+    static final int MAXIMO_IDS_POR_LOTE = 1000;
+    static final int IDS_POR_CONSULTA = 500;
+
+    private final PessoaRepository repository;
+    private final PessoaLeituraRepository leitura;
+    private final EmailRepository emailRepository;
+    private final PessoaMapper mapper;
+    private final PessoaValidator validator;
+    private final PessoaBusca busca;
+    private final CacheConsultas cache;
+    private final Clock clock;
+    private final EntityManager entityManager;
+
+    @Override
+    public PessoaOutputDTO criar(PessoaInputDTO inputDTO) {
+        log.info("Criando nova pessoa: {}", inputDTO.nome());
+
+        validator.validateDuplicatePessoa(inputDTO.nome(), inputDTO.dataNascimento());
+
+        Pessoa pessoa = mapper.toEntity(inputDTO);
+        Pessoa savedPessoa = repository.save(pessoa);
+
+        log.info("Pessoa criada com sucesso: ID {}", savedPessoa.getId());
+        return toOutputDTO(savedPessoa);
+    }
+
+    // SUPPORTS: um acerto no cache não abre transação nem pega conexão do pool
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PessoaOutputDTO buscarPorId(Long id) {
+        log.debug("Buscando pessoa por ID: {}", id);
+
+        return cache.pessoa(id, () -> {
+            PessoaOutputDTO pessoa = LinhaPessoa.agrupar(leitura.findLinhasById(id)).get(id);
+            if (pessoa == null) {
+                throw new RecordNotFoundException("Pessoa", id);
+            }
+            return pessoa;
+        });
+    }
+
+    // SUPPORTS: com a pessoa no cache o If-None-Match é respondido sem ir ao banco
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public long buscarVersao(Long id) {
+        PessoaOutputDTO emCache = cache.pessoaEmCache(id);
+        if (emCache != null) {
+            return emCache.versao();
+        }
+
+        return repository.findVersaoById(id)
+                .orElseThrow(() -> new RecordNotFoundException("Pessoa", id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PessoaLoteOutputDTO buscarPorIds(List<Long> ids) {
+        log.debug("Buscando {} pessoas por ID", ids.size());
+
+        // IDs repetidos aparecem uma vez, na posição da primeira ocorrência
+        Set<Long> pedidos = new LinkedHashSet<>(ids);
+        pedidos.remove(null);
+        if (pedidos.size() > MAXIMO_IDS_POR_LOTE) {
+            throw new InvalidPageRequestException("Informe no máximo " + MAXIMO_IDS_POR_LOTE + " IDs");
+        }
+
+        Map<Long, PessoaOutputDTO> encontradas = new HashMap<>();
+        List<Long> faltantes = new ArrayList<>();
+        for (Long id : pedidos) {
+            PessoaOutputDTO emCache = cache.pessoaEmCache(id);
+            if (emCache != null) {
+                encontradas.put(id, emCache);
+            } else {
+                faltantes.add(id);
+            }
+        }
+
+        // Uma consulta com os emails por fatia de IDs, em vez de uma por pessoa
+        for (int inicio = 0; inicio < faltantes.size(); inicio += IDS_POR_CONSULTA) {
+            encontradas.putAll(LinhaPessoa.agrupar(leitura.findLinhasByIdIn(faltantes.subList(inicio, Math.min(inicio + IDS_POR_CONSULTA, faltantes.size())))));
+        }
+
+        List<PessoaOutputDTO> pessoas = new ArrayList<>(encontradas.size());
+        List<Long> naoEncontrados = new ArrayList<>();
+        for (Long id : pedidos) {
+            PessoaOutputDTO pessoa = encontradas.get(id);
+            if (pessoa != null) {
+                pessoas.add(pessoa);
+            } else {
+                naoEncontrados.add(id);
+            }
+        }
+        return new PessoaLoteOutputDTO(pessoas, naoEncontrados);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PessoaPageOutputDTO listarTodos(String cursor, int tamanho, OrdenacaoPessoa ordenacao) {
+        log.debug("Listando pessoas ordenadas por {} (tamanho {})", ordenacao.getValor(), tamanho);
+
+        int tamanhoPagina = Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA);
+        PessoaCursor posicao = cursor == null || cursor.isBlank() ? null : PessoaCursor.decode(cursor, ordenacao);
+
+        // Busca um registro a mais para saber se existe próxima página sem precisar de COUNT
+        List<PosicaoPessoa> posicoes = buscarPagina(posicao, ordenacao, Limit.of(tamanhoPagina + 1));
+        boolean temProximaPagina = posicoes.size() > tamanhoPagina;
+        List<PosicaoPessoa> daPagina = temProximaPagina ? posicoes.subList(0, tamanhoPagina) : posicoes;
+        List<PessoaOutputDTO> pagina = carregarNaOrdem(daPagina.stream().map(PosicaoPessoa::id).toList());
+
+        // Cursor da última posição da consulta, não da última pessoa carregada: quem foi removido
+        // entre as duas consultas some da página, mas não faz a listagem voltar nem parar
+        String proximoCursor = temProximaPagina ? PessoaCursor.from(daPagina.getLast(), ordenacao).encode() : null;
+
+        return new PessoaPageOutputDTO(pagina, proximoCursor);
+    }
+
+    @Override
+    public PessoaOutputDTO atualizar(Long id, PessoaUpdateDTO updateDTO, Set<Long> versoesAceitas) {
+        log.info("Atualizando pessoa ID: {}", id);
+
+        Pessoa pessoa = validator.findPessoaById(id);
+        if (versoesAceitas != null && !versoesAceitas.contains(pessoa.getVersao())) {
+            throw new VersionMismatchException("Pessoa", id);
+        }
+        validator.validateDuplicatePessoaForUpdate(pessoa, updateDTO.nome(), updateDTO.dataNascimento());
+
+        boolean dadosMudaram = !pessoa.getNome().equals(updateDTO.nome())
+                || !pessoa.getDataNascimento().equals(updateDTO.dataNascimento());
+        boolean emailsMudaram = updatePessoaData(pessoa, updateDTO);
+        // A coleção de emails é o lado inverso e não suja a pessoa: sem isso a versão ficaria igual
+        if (emailsMudaram && !dadosMudaram) {
+            entityManager.lock(pessoa, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        }
+        Pessoa updatedPessoa = repository.save(pessoa);
+        // O Hibernate só incrementa a versão no flush; a resposta precisa da nova para o ETag
+        repository.flush();
+        cache.invalidarPessoa(id);
+
+        log.info("Pessoa atualizada com sucesso: ID {}", updatedPessoa.getId());
+        return toOutputDTO(updatedPessoa);
+    }
+
+    @Override
+    public void deletar(Long id) {
+        log.info("Deletando pessoa ID: {}", id);
+
+        validator.validatePessoaExists(id);
+        cache.invalidarEmails(emailRepository.findIdsByPessoaId(id));
+        repository.deleteById(id);
+        cache.invalidarPessoa(id);
+        
+        log.info("Pessoa deletada com sucesso: ID {}", id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PessoaOutputDTO> buscarPorNome(String nome, int pagina, int tamanho) {
+        log.debug("Buscando pessoas por nome: {} (página {})", nome, pagina);
+
+        List<Long> ids = busca.buscarIds(nome, Math.max(pagina, 0), Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Mantém a ordem de relevância devolvida pela busca
+        return carregarNaOrdem(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PessoaOutputDTO> listarAniversariantes(int dias) {
+        log.debug("Listando aniversariantes dos próximos {} dias", dias);
+
+        List<PessoaOutputDTO> aniversariantes = new ArrayList<>();
+        for (Aniversarios.Intervalo intervalo : Aniversarios.intervalos(LocalDate.now(clock), dias)) {
+            int restantes = LIMITE_ANIVERSARIANTES - aniversariantes.size();
+            if (restantes <= 0) {
+                break;
+            }
+
+            repository.findByMesDiaNascimentoBetweenOrderByMesDiaNascimentoAscIdAsc(intervalo.inicio(), intervalo.fim(), Limit.of(restantes))
+                    .stream()
+                    .map(PessoaMapper::toOutputDTO)
+                    .forEach(aniversariantes::add);
+        }
+        return aniversariantes;
+    }
+
+    // Pessoas com os emails numa consulta só, na ordem dos IDs; removidas no meio do caminho ficam de fora
+    private List<PessoaOutputDTO> carregarNaOrdem(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PessoaOutputDTO> pessoas = LinhaPessoa.agrupar(leitura.findLinhasByIdIn(ids));
+        return ids.stream()
+                .map(pessoas::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<PosicaoPessoa> buscarPagina(PessoaCursor posicao, OrdenacaoPessoa ordenacao, Limit limit) {
+        if (posicao == null) {
+            return switch (ordenacao) {
+                case ID -> leitura.findPosicoesOrdenadasPorId(limit);
+                case NOME -> leitura.findPosicoesOrdenadasPorNome(limit);
+                case DATA_NASCIMENTO -> leitura.findPosicoesOrdenadasPorDataNascimento(limit);
+            };
+        }
+
+        return switch (ordenacao) {
+            case ID -> leitura.findPosicoesAposId(posicao.id(), limit);
+            case NOME -> leitura.findPosicoesAposNome(posicao.valor(), posicao.id(), limit);
+            case DATA_NASCIMENTO -> leitura.findPosicoesAposDataNascimento(posicao.dataNascimento(), posicao.id(), limit);
+        };
+    }
+
+    private boolean updatePessoaData(Pessoa pessoa, PessoaUpdateDTO updateDTO) {
+        pessoa.setNome(updateDTO.nome());
+        pessoa.setDataNascimento(updateDTO.dataNascimento());
+
+        return reconciliarEmails(pessoa, updateDTO.emails());
+    }
+
+    // Aplica só a diferença entre os emails gravados e os recebidos, preservando os IDs dos que não mudaram.
+    // Os removidos saem da coleção e o orphanRemoval gera os DELETEs; os novos entram pelo cascade.
+    // Devolve se algum email entrou ou saiu.
+    private boolean reconciliarEmails(Pessoa pessoa, Set<EmailInputDTO> emails) {
+        Set<String> recebidos = emails == null ? Set.of() : emails.stream()
+                .map(EmailInputDTO::email)
+                .collect(Collectors.toSet());
+
+        Set<String> mantidos = new HashSet<>();
+        List<Email> removidos = new ArrayList<>();
+        for (Email email : pessoa.getEmails().stream().sorted(Comparator.comparing(Email::getId)).toList()) {
+            // Endereços repetidos na base ficam só com o registro mais antigo
+            if (!recebidos.contains(email.getEmail()) || !mantidos.add(email.getEmail())) {
+                removidos.add(email);
+            }
+        }
+
+        if (!removidos.isEmpty()) {
+            cache.invalidarEmails(removidos.stream().map(Email::getId).toList());
+            removidos.forEach(pessoa.getEmails()::remove);
+        }
+
+        if (mantidos.size() < recebidos.size()) {
+            Set<EmailInputDTO> novos = emails.stream()
+                    .filter(email -> !mantidos.contains(email.email()))
+                    .collect(Collectors.toSet());
+            pessoa.getEmails().addAll(mapper.convertEmailInputDTOsToEmails(novos, pessoa));
+        }
+        return !removidos.isEmpty() || mantidos.size() < recebidos.size();
+    }
+}
\ No newline at end of file
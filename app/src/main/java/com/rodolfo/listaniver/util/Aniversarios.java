@@ -0,0 +1,75 @@
+package com.rodolfo.listaniver.util;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Aniversarios {
+
+    public static final int DIAS_MAXIMOS = 366;
+
+    private static final int PRIMEIRO_DIA_DO_ANO = 101;
+    private static final int ULTIMO_DIA_DO_ANO = 1231;
+    private static final int VINTE_E_OITO_DE_FEVEREIRO = 228;
+    private static final int VINTE_E_NOVE_DE_FEVEREIRO = 229;
+
+    private Aniversarios() {
+    }
+
+    public record Intervalo(int inicio, int fim) {
+    }
+
+    public static Integer mesDia(LocalDate data) {
+        return data == null ? null : data.getMonthValue() * 100 + data.getDayOfMonth();
+    }
+
+    /**
+     * Intervalos de chaves mês/dia (MMDD) cobertos por [inicio, inicio + dias], já na ordem cronológica.
+     * Em anos não bissextos quem nasceu em 29/02 comemora em 28/02.
+     */
+    public static List<Intervalo> intervalos(LocalDate inicio, int dias) {
+        LocalDate fim = inicio.plusDays(Math.clamp(dias, 0, DIAS_MAXIMOS));
+        List<Intervalo> intervalos = new ArrayList<>(2);
+
+        if (fim.getYear() == inicio.getYear()) {
+            intervalos.add(intervalo(mesDia(inicio), mesDia(fim), inicio.getYear()));
+        } else {
+            Intervalo restoDoAno = intervalo(mesDia(inicio), ULTIMO_DIA_DO_ANO, inicio.getYear());
+            Intervalo inicioDoAno = intervalo(PRIMEIRO_DIA_DO_ANO, mesDia(fim), fim.getYear());
+            intervalos.add(restoDoAno);
+
+            // Janelas de quase um ano voltariam ao dia de início; corta para não repetir ninguém
+            int fimSemRepeticao = Math.min(inicioDoAno.fim(), restoDoAno.inicio() - 1);
+            if (fimSemRepeticao >= inicioDoAno.inicio()) {
+                intervalos.add(new Intervalo(inicioDoAno.inicio(), fimSemRepeticao));
+            }
+        }
+        return intervalos;
+    }
+
+    /**
+     * Chaves mês/dia (MMDD) de quem faz aniversário no dia; em anos não bissextos 28/02 inclui 29/02.
+     */
+    public static List<Integer> chavesDoDia(LocalDate dia) {
+        int chave = mesDia(dia);
+        if (chave == VINTE_E_OITO_DE_FEVEREIRO && !dia.isLeapYear()) {
+            return List.of(chave, VINTE_E_NOVE_DE_FEVEREIRO);
+        }
+        return List.of(chave);
+    }
+
+    public static LocalDate proximoAniversario(LocalDate dataNascimento, LocalDate referencia) {
+        MonthDay aniversario = MonthDay.from(dataNascimento);
+        LocalDate candidato = aniversario.atYear(referencia.getYear());
+        return candidato.isBefore(referencia) ? aniversario.atYear(referencia.getYear() + 1) : candidato;
+    }
+
+    private static Intervalo intervalo(int inicio, int fim, int ano) {
+        if (fim == VINTE_E_OITO_DE_FEVEREIRO && !Year.isLeap(ano)) {
+            fim = VINTE_E_NOVE_DE_FEVEREIRO;
+        }
+        return new Intervalo(inicio, fim);
+    }
+}
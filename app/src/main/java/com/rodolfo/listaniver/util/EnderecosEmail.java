@@ -0,0 +1,17 @@
+package com.rodolfo.listaniver.util;
+
+import java.util.Locale;
+
+public final class EnderecosEmail {
+
+    private EnderecosEmail() {
+    }
+
+    /**
+     * Forma usada na busca por endereço: sem espaços nas pontas e em minúsculas, sem depender do
+     * idioma da JVM. O endereço gravado continua como foi informado.
+     */
+    public static String normalizar(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
+    }
+}
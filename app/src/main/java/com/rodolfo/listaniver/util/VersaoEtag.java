@@ -0,0 +1,47 @@
+package com.rodolfo.listaniver.util;
+
+import org.springframework.http.ETag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ETags fortes a partir da versão da pessoa, que muda a cada alteração dela ou dos seus emails.
+ */
+public final class VersaoEtag {
+
+    private VersaoEtag() {
+    }
+
+    public static String etag(long versao) {
+        return "\"" + versao + "\"";
+    }
+
+    /**
+     * If-None-Match usa comparação fraca (RFC 9110): {@code W/"3"} também corresponde à versão 3.
+     */
+    public static boolean naoModificado(String ifNoneMatch, long versao) {
+        ETag atual = ETag.create(etag(versao));
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(atual, false));
+    }
+
+    /**
+     * Versões aceitas por um If-Match, com comparação forte. Nulo quando não há cabeçalho ou é
+     * {@code *}, ou seja, sem restrição de versão. Vazio quando nenhuma tag pode corresponder.
+     */
+    public static Set<Long> versoesAceitas(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        return tags.stream()
+                .filter(tag -> !tag.weak() && tag.tag().matches("\\d{1,18}"))
+                .map(tag -> Long.parseLong(tag.tag()))
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,8 +1,10 @@
 package com.rodolfo.listaniver.validator;
 
+import com.rodolfo.listaniver.duplicidade.FiltroDuplicidade;
 import com.rodolfo.listaniver.entity.Pessoa;
 import com.rodolfo.listaniver.exception.DuplicatePessoaException;
 import com.rodolfo.listaniver.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.importacao.ChavePessoa;
 import com.rodolfo.listaniver.repository.PessoaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,16 +16,17 @@ import java.time.LocalDate;
 public class PessoaValidator {
 
     private final PessoaRepository repository;
+    private final FiltroDuplicidade filtroDuplicidade;
 
     public void validateDuplicatePessoa(String nome, LocalDate dataNascimento) {
-        if (repository.existsByNomeAndDataNascimento(nome, dataNascimento)) {
+        if (existe(nome, dataNascimento)) {
             throw new DuplicatePessoaException("Pessoa com nome e data de nascimento já existe");
         }
     }
 
     public void validateDuplicatePessoaForUpdate(Pessoa pessoa, String nome, LocalDate dataNascimento) {
-        if (repository.existsByNomeAndDataNascimento(nome, dataNascimento) &&
-                (!pessoa.getNome().equals(nome) || !pessoa.getDataNascimento().equals(dataNascimento))) {
+        boolean mesmaChave = pessoa.getNome().equals(nome) && pessoa.getDataNascimento().equals(dataNascimento);
+        if (!mesmaChave && existe(nome, dataNascimento)) {
             throw new DuplicatePessoaException("Pessoa com nome e data de nascimento já existe");
         }
     }
@@ -34,6 +37,11 @@ public class PessoaValidator {
         }
     }
 
+    private boolean existe(String nome, LocalDate dataNascimento) {
+        return filtroDuplicidade.existe(new ChavePessoa(nome, dataNascimento),
+                () -> repository.existsByNomeAndDataNascimento(nome, dataNascimento));
+    }
+
     public Pessoa findPessoaById(Long id) {
         return repository.findById(id)
                 .orElseThrow(() -> new RecordNotFoundException("Pessoa", id));
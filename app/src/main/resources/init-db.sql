@@ -0,0 +1,98 @@
+-- Criação do banco de dados (caso não exista)
+CREATE SCHEMA IF NOT EXISTS lista_db;
+
+
+-- Definir o schema como padrão para este script
+SET search_path TO lista_db, public;
+
+-- Criação da tabela pessoa (será criada automaticamente pelo Hibernate, mas deixamos como referência)
+
+-- Remove as tabelas se existirem (para recriar)
+DROP TABLE IF EXISTS saudacao_aniversario;
+DROP TABLE IF EXISTS pessoa_trigrama;
+DROP TABLE IF EXISTS email;
+DROP TABLE IF EXISTS pessoa;
+
+-- Tabela pessoa
+CREATE TABLE pessoa
+(
+    id              BIGSERIAL PRIMARY KEY,
+    nome            VARCHAR(100) NOT NULL,
+    -- Nome em minúsculas, sem acentos e com espaços simples, lido por faixa e comparado na busca por nome
+    -- (preenchido pela aplicação na inicialização)
+    nome_normalizado VARCHAR(100),
+    data_nascimento DATE         NOT NULL,
+    -- Chave mês/dia (MMDD) usada na busca de aniversariantes
+    mes_dia_nascimento INTEGER,
+    -- Versão para controle otimista e ETag, incrementada a cada alteração da pessoa ou dos emails
+    versao          BIGINT       NOT NULL DEFAULT 0
+);
+
+-- Tabela email
+CREATE TABLE email
+(
+    id        BIGSERIAL PRIMARY KEY,
+    email     VARCHAR(100) NOT NULL,
+    -- Email sem espaços nas pontas e em minúsculas, chave da busca por endereço
+    email_normalizado VARCHAR(100),
+    pessoa_id BIGINT       NOT NULL,
+    FOREIGN KEY (pessoa_id) REFERENCES pessoa (id) ON DELETE CASCADE
+);
+
+-- Trigramas do nome normalizado usados na busca por nome (preenchidos pela aplicação na inicialização)
+CREATE TABLE pessoa_trigrama
+(
+    trigrama  VARCHAR(3) NOT NULL,
+    pessoa_id BIGINT     NOT NULL,
+    PRIMARY KEY (pessoa_id, trigrama)
+);
+
+-- Saudações de aniversário já enviadas: o job diário só processa quem ainda não tem registro no dia
+CREATE TABLE saudacao_aniversario
+(
+    pessoa_id  BIGINT                   NOT NULL,
+    dia        DATE                     NOT NULL,
+    enviada_em TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (pessoa_id, dia),
+    FOREIGN KEY (pessoa_id) REFERENCES pessoa (id) ON DELETE CASCADE
+);
+
+-- Índices para melhor performance
+CREATE INDEX idx_pessoa_nome ON pessoa (nome, id);
+CREATE INDEX idx_pessoa_nome_normalizado ON pessoa (nome_normalizado, id);
+CREATE INDEX idx_pessoa_data_nascimento ON pessoa (data_nascimento, id);
+CREATE INDEX idx_pessoa_mes_dia_nascimento ON pessoa (mes_dia_nascimento, id);
+CREATE INDEX idx_pessoa_trigrama_trigrama ON pessoa_trigrama (trigrama, pessoa_id);
+CREATE INDEX idx_email_pessoa_id ON email (pessoa_id);
+CREATE INDEX idx_email_email ON email (email);
+CREATE INDEX idx_email_email_normalizado ON email (email_normalizado, pessoa_id);
+CREATE INDEX idx_saudacao_aniversario_dia ON saudacao_aniversario (dia);
+
+-- Dados de exemplo para teste
+INSERT INTO pessoa (nome, data_nascimento)
+VALUES ('João Silva', '1990-05-15'),
+       ('Maria Santos', '1985-08-22'),
+       ('Carlos Oliveira', '1992-12-10'),
+       ('Ana Costa', '1988-03-07'),
+       ('Pedro Almeida', '1995-11-30')
+ON CONFLICT DO NOTHING;
+
+UPDATE pessoa
+SET mes_dia_nascimento = EXTRACT(MONTH FROM data_nascimento) * 100 + EXTRACT(DAY FROM data_nascimento)
+WHERE mes_dia_nascimento IS NULL;
+
+INSERT INTO email (email, pessoa_id)
+VALUES ('joao.silva@email.com', 1),
+       ('joao.trabalho@empresa.com', 1),
+       ('maria.santos@email.com', 2),
+       ('carlos.oliveira@email.com', 3),
+       ('carlos.pessoal@gmail.com', 3),
+       ('carlos.profissional@empresa.com', 3),
+       ('ana.costa@email.com', 4),
+       ('pedro.almeida@email.com', 5),
+       ('pedro.backup@email.com', 5)
+ON CONFLICT DO NOTHING;
+
+UPDATE email
+SET email_normalizado = LOWER(TRIM(email))
+WHERE email_normalizado IS NULL;
\ No newline at end of file
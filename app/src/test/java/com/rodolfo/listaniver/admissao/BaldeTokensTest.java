@@ -0,0 +1,90 @@
+package com.rodolfo.listaniver.admissao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do balde de tokens")
+public class BaldeTokensTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+    private static final long INICIO = 1_000 * SEGUNDO;
+
+    @Test
+    void deveAceitarRajadaAteACapacidadeERecusarASeguinte() {
+        // Given
+        BaldeTokens balde = new BaldeTokens(3, 1);
+
+        // When & Then
+        assertThat(balde.consumir(INICIO)).isZero();
+        assertThat(balde.consumir(INICIO)).isZero();
+        assertThat(balde.consumir(INICIO)).isZero();
+        assertThat(balde.consumir(INICIO)).isEqualTo(SEGUNDO);
+    }
+
+    @Test
+    void deveReporUmTokenPorIntervalo() {
+        // Given
+        BaldeTokens balde = new BaldeTokens(2, 4);
+        balde.consumir(INICIO);
+        balde.consumir(INICIO);
+
+        // When
+        long antesDoIntervalo = balde.consumir(INICIO + SEGUNDO / 8);
+        long depoisDoIntervalo = balde.consumir(INICIO + SEGUNDO / 4);
+
+        // Then
+        assertThat(antesDoIntervalo).isEqualTo(SEGUNDO / 8);
+        assertThat(depoisDoIntervalo).isZero();
+        assertThat(balde.consumir(INICIO + SEGUNDO / 4)).isPositive();
+    }
+
+    @Test
+    void naoDeveAcumularAlemDaCapacidadeParado() {
+        // Given
+        BaldeTokens balde = new BaldeTokens(2, 1);
+        balde.consumir(INICIO);
+
+        // When
+        long depois = INICIO + 60 * SEGUNDO;
+
+        // Then
+        assertThat(balde.consumir(depois)).isZero();
+        assertThat(balde.consumir(depois)).isZero();
+        assertThat(balde.consumir(depois)).isPositive();
+    }
+
+    @Test
+    void deveAceitarExatamenteACapacidadeComConsumoConcorrente() throws InterruptedException {
+        // Given
+        BaldeTokens balde = new BaldeTokens(500, 1);
+        AtomicInteger aceitas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    largada.await();
+                    for (int j = 0; j < 1_000; j++) {
+                        if (balde.consumir(INICIO) == 0) {
+                            aceitas.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            largada.countDown();
+        }
+
+        // Then
+        assertThat(aceitas).hasValue(500);
+    }
+}
@@ -0,0 +1,84 @@
+package com.rodolfo.listaniver.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do cache de leitura com invalidação")
+public class CacheLeituraTest {
+
+    private Cache<Object, Object> nativo;
+    private CacheLeitura<String> cache;
+    private AtomicInteger leituras;
+
+    @BeforeEach
+    void setUp() {
+        nativo = Caffeine.newBuilder().maximumSize(100).build();
+        cache = new CacheLeitura<>(nativo);
+        leituras = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    void deveCarregarUmaVezERetornarDoCache() {
+        assertThat(cache.obter(1L, () -> carregar("João"))).isEqualTo("João");
+        assertThat(cache.obter(1L, () -> carregar("Outro"))).isEqualTo("João");
+        assertThat(leituras).hasValue(1);
+    }
+
+    @Test
+    void naoDeveGuardarValorLidoAntesDeUmaInvalidacaoConcorrente() {
+        // Uma escrita confirma e invalida enquanto a leitura ainda estava no banco
+        String lido = cache.obter(1L, () -> {
+            cache.invalidar(1L);
+            return carregar("Valor antigo");
+        });
+
+        assertThat(lido).isEqualTo("Valor antigo");
+        assertThat(nativo.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void deveIgnorarCacheNaTransacaoQueAlterouDadosEInvalidarAoFinal() {
+        // Given
+        cache.obter(1L, () -> carregar("Antes"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.invalidar(1L);
+        String dentroDaTransacao = cache.obter(1L, () -> carregar("Não confirmado"));
+
+        // Then
+        assertThat(dentroDaTransacao).isEqualTo("Não confirmado");
+        assertThat(nativo.getIfPresent(1L)).isNull();
+
+        // Rollback: nada do que a transação leu pode ter ficado no cache
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+        assertThat(cache.obter(1L, () -> carregar("Depois"))).isEqualTo("Depois");
+    }
+
+    private String carregar(String valor) {
+        leituras.incrementAndGet();
+        return valor;
+    }
+}
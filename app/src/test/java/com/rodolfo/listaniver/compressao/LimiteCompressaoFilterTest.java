@@ -0,0 +1,77 @@
+package com.rodolfo.listaniver.compressao;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Testes da escrita bufferizada do limite de compressão")
+public class LimiteCompressaoFilterTest {
+
+    private final HttpServletResponse response = mock(HttpServletResponse.class);
+    private final ServletOutputStream saidaTomcat = mock(ServletOutputStream.class);
+    private LimiteCompressaoFilter.RespostaBufferizada resposta;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(response.getOutputStream()).thenReturn(saidaTomcat);
+        resposta = new LimiteCompressaoFilter.RespostaBufferizada(response, 1024);
+    }
+
+    @Test
+    void setWriteListenerDeveEscreverOBufferEDelegarAoTomcat() throws IOException {
+        // Given
+        WriteListener listener = mock(WriteListener.class);
+        ServletOutputStream saida = resposta.getOutputStream();
+        saida.write(new byte[]{1, 2, 3});
+
+        // When
+        saida.setWriteListener(listener);
+
+        // Then
+        InOrder ordem = inOrder(saidaTomcat);
+        ordem.verify(saidaTomcat).write(any(byte[].class), eq(0), eq(3));
+        ordem.verify(saidaTomcat).setWriteListener(listener);
+    }
+
+    @Test
+    void isReadyDeveSerODoTomcatDepoisDoWriteListener() throws IOException {
+        // Given
+        ServletOutputStream saida = resposta.getOutputStream();
+        when(saidaTomcat.isReady()).thenReturn(false);
+
+        // When
+        boolean antes = saida.isReady();
+        saida.setWriteListener(mock(WriteListener.class));
+        boolean depois = saida.isReady();
+
+        // Then
+        assertThat(antes).isTrue();
+        assertThat(depois).isFalse();
+    }
+
+    @Test
+    void escritaAbaixoDoLimiteDeveFicarNoBuffer() throws IOException {
+        // When
+        resposta.getOutputStream().write(new byte[100]);
+
+        // Then
+        verify(saidaTomcat, never()).write(any(byte[].class), anyInt(), anyInt());
+        assertThat(resposta.getOutputStream().isReady()).isTrue();
+    }
+}
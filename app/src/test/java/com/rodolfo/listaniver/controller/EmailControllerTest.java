@@ -2,9 +2,15 @@ package com.rodolfo.listaniver.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailLoteInputDTO;
 import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.EmailsVersionadosDTO;
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
 import com.rodolfo.listaniver.exception.RecordNotFoundException;
 import com.rodolfo.listaniver.service.EmailService;
+import com.rodolfo.listaniver.service.PessoaService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -12,14 +18,19 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +43,9 @@ public class EmailControllerTest {
     @MockitoBean
     private EmailService emailService;
 
+    @MockitoBean
+    private PessoaService pessoaService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -84,6 +98,39 @@ public class EmailControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void adicionarEmails_DeveRetornarEmailsCriados() throws Exception {
+        // Given
+        Long pessoaId = 1L;
+        List<EmailInputDTO> emails = List.of(new EmailInputDTO("a@email.com"), new EmailInputDTO("b@email.com"));
+        given(emailService.adicionarEmails(pessoaId, emails))
+                .willReturn(List.of(new EmailOutputDTO(10L, "a@email.com", pessoaId), new EmailOutputDTO(11L, "b@email.com", pessoaId)));
+
+        // When & Then
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", pessoaId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new EmailLoteInputDTO(emails))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(11L))
+                .andExpect(jsonPath("$[1].email").value("b@email.com"));
+    }
+
+    @Test
+    void adicionarEmails_DeveRetornarUnprocessableEntityQuandoAlgumEmailInvalido() throws Exception {
+        // Given
+        Long pessoaId = 1L;
+        EmailLoteInputDTO lote = new EmailLoteInputDTO(List.of(new EmailInputDTO("a@email.com"), new EmailInputDTO("email-invalido")));
+
+        // When & Then
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", pessoaId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lote)))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(emailService, never()).adicionarEmails(any(), any());
+    }
+
     @Test
     void listarEmailsPorPessoa_DeveRetornarListaEmailsQuandoPessoaExiste() throws Exception {
         // Given
@@ -93,11 +140,12 @@ public class EmailControllerTest {
                 new EmailOutputDTO(2L, "email2@test.com", pessoaId)
         );
 
-        given(emailService.listarEmailsPorPessoa(pessoaId)).willReturn(emails);
+        given(emailService.listarEmailsVersionados(pessoaId)).willReturn(new EmailsVersionadosDTO(4L, emails));
 
         // When & Then
         mockMvc.perform(get("/api/emails/pessoa/{pessoaId}", pessoaId))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].id").value(1L))
@@ -106,12 +154,27 @@ public class EmailControllerTest {
                 .andExpect(jsonPath("$[1].email").value("email2@test.com"));
     }
 
+    @Test
+    void listarEmailsPorPessoa_DeveRetornarNotModifiedSemCarregarEmailsQuandoEtagCorresponde() throws Exception {
+        // Given
+        Long pessoaId = 1L;
+        given(pessoaService.buscarVersao(pessoaId)).willReturn(4L);
+
+        // When & Then
+        mockMvc.perform(get("/api/emails/pessoa/{pessoaId}", pessoaId)
+                        .header("If-None-Match", "\"3\", W/\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(emailService, never()).listarEmailsVersionados(pessoaId);
+    }
+
     @Test
     void listarEmailsPorPessoa_DeveRetornarNotFoundQuandoPessoaNaoExiste() throws Exception {
         // Given
         Long pessoaId = 999L;
 
-        given(emailService.listarEmailsPorPessoa(pessoaId))
+        given(emailService.listarEmailsVersionados(pessoaId))
                 .willThrow(new RecordNotFoundException("Pessoa", pessoaId));
 
         // When & Then
@@ -148,6 +211,33 @@ public class EmailControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void buscarPorEndereco_DeveRetornarEmailComAPessoa() throws Exception {
+        // Given
+        EmailOutputDTO email = new EmailOutputDTO(1L, "joao@email.com", 2L);
+        PessoaOutputDTO pessoa = new PessoaOutputDTO(2L, "João Silva", LocalDate.of(1990, 1, 1), Set.of(email), 0L);
+        given(emailService.buscarPorEndereco("Joao@Email.com")).willReturn(List.of(new EmailPessoaOutputDTO(email, pessoa)));
+
+        // When & Then
+        mockMvc.perform(get("/api/emails").param("address", "Joao@Email.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].email.id").value(1L))
+                .andExpect(jsonPath("$[0].pessoa.id").value(2L))
+                .andExpect(jsonPath("$[0].pessoa.nome").value("João Silva"));
+    }
+
+    @Test
+    void buscarPorEndereco_DeveRetornarBadRequestQuandoEnderecoEmBranco() throws Exception {
+        // Given
+        given(emailService.buscarPorEndereco(" "))
+                .willThrow(new InvalidPageRequestException("Informe o endereço de email"));
+
+        // When & Then
+        mockMvc.perform(get("/api/emails").param("address", " "))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void atualizarEmail_DeveRetornarEmailAtualizadoQuandoDadosValidos() throws Exception {
         // Given
@@ -0,0 +1,357 @@
+package com.rodolfo.listaniver.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.controller.impl.PessoaControllerImpl;
+import com.rodolfo.listaniver.dto.*;
+import com.rodolfo.listaniver.pagination.OrdenacaoPessoa;
+import com.rodolfo.listaniver.exception.VersionMismatchException;
+import com.rodolfo.listaniver.exportacao.FormatoExportacao;
+import com.rodolfo.listaniver.service.PessoaExportacaoService;
+import com.rodolfo.listaniver.service.PessoaImportacaoService;
+import com.rodolfo.listaniver.service.PessoaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(PessoaControllerImpl.class)
+@DisplayName("Testes do Controller de Pessoa")
+public class PessoaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PessoaService service;
+
+    @MockitoBean
+    private PessoaImportacaoService importacaoService;
+
+    @MockitoBean
+    private PessoaExportacaoService exportacaoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private PessoaInputDTO inputDTO;
+    private PessoaOutputDTO outputDTO;
+    private PessoaUpdateDTO updateDTO;
+
+    @BeforeEach
+    void setUp() {
+        Set<EmailInputDTO> emailsInput = Set.of(new EmailInputDTO("joao@email.com"));
+        Set<EmailOutputDTO> emailsOutput = Set.of(new EmailOutputDTO(1L, "joao@email.com", 1L));
+        
+        inputDTO = new PessoaInputDTO("João Silva", LocalDate.of(1990, 5, 15), emailsInput);
+        outputDTO = new PessoaOutputDTO(1L, "João Silva", LocalDate.of(1990, 5, 15), emailsOutput, 2L);
+        updateDTO = new PessoaUpdateDTO("João Santos", LocalDate.of(1990, 5, 15), emailsInput);
+    }
+
+    @Test
+    void deveCriarPessoaComSucesso() throws Exception {
+        // Given
+        when(service.criar(any(PessoaInputDTO.class))).thenReturn(outputDTO);
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.nome").value("João Silva"))
+                .andExpect(jsonPath("$.dataNascimento").value("1990-05-15"));
+    }
+
+    @Test
+    void deveRetornarUnprocessableEntityParaDadosInvalidos() throws Exception {
+        // Given
+        PessoaInputDTO invalidDTO = new PessoaInputDTO("", LocalDate.now().plusDays(1), Set.of(new EmailInputDTO("invalid@email.com")));
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(invalidDTO)))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void deveBuscarPessoaPorIdComSucesso() throws Exception {
+        // Given
+        when(service.buscarPorId(anyLong())).thenReturn(outputDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.nome").value("João Silva"));
+    }
+
+    @Test
+    void deveRetornarNotModifiedSemCarregarPessoaQuandoEtagCorresponde() throws Exception {
+        // Given
+        when(service.buscarVersao(1L)).thenReturn(2L);
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(content().string(""));
+
+        verify(service, never()).buscarPorId(anyLong());
+    }
+
+    @Test
+    void deveRetornarPessoaQuandoEtagEstaDesatualizado() throws Exception {
+        // Given
+        when(service.buscarVersao(1L)).thenReturn(2L);
+        when(service.buscarPorId(1L)).thenReturn(outputDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.versao").value(2));
+    }
+
+    @Test
+    void deveRetornarServiceUnavailableQuandoPoolDeConexoesEsgotar() throws Exception {
+        // Given
+        when(service.buscarPorId(anyLong())).thenThrow(new CannotCreateTransactionException("Connection is not available, request timed out"));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void deveListarTodasPessoasComSucesso() throws Exception {
+        // Given
+        when(service.listarTodos(null, 20, OrdenacaoPessoa.ID)).thenReturn(new PessoaPageOutputDTO(List.of(outputDTO), "cursor"));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas").isArray())
+                .andExpect(jsonPath("$.pessoas[0].id").value(1))
+                .andExpect(jsonPath("$.pessoas[0].nome").value("João Silva"))
+                .andExpect(jsonPath("$.proximoCursor").value("cursor"));
+    }
+
+    @Test
+    void deveListarPessoasComCursorEOrdenacao() throws Exception {
+        // Given
+        when(service.listarTodos("abc", 10, OrdenacaoPessoa.DATA_NASCIMENTO)).thenReturn(new PessoaPageOutputDTO(List.of(outputDTO), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas")
+                        .param("cursor", "abc")
+                        .param("tamanho", "10")
+                        .param("ordenacao", "dataNascimento"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas[0].id").value(1))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+    }
+
+    @Test
+    void deveRetornarBadRequestParaOrdenacaoInvalida() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/pessoas")
+                        .param("ordenacao", "email"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveAtualizarPessoaComSucesso() throws Exception {
+        // Given
+        Set<EmailOutputDTO> emailsOutput = Set.of(new EmailOutputDTO(1L, "joao@email.com", 1L));
+        PessoaOutputDTO updatedOutput = new PessoaOutputDTO(1L, "João Santos", LocalDate.of(1990, 5, 15), emailsOutput, 3L);
+        when(service.atualizar(anyLong(), any(PessoaUpdateDTO.class), isNull())).thenReturn(updatedOutput);
+
+        // When & Then
+        mockMvc.perform(put("/api/pessoas/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.nome").value("João Santos"));
+    }
+
+    @Test
+    void deveRepassarVersoesDoIfMatchAoAtualizar() throws Exception {
+        // Given
+        when(service.atualizar(eq(1L), any(PessoaUpdateDTO.class), eq(Set.of(2L)))).thenReturn(outputDTO);
+
+        // When & Then
+        mockMvc.perform(put("/api/pessoas/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deveRetornarPreconditionFailedQuandoIfMatchNaoCorresponde() throws Exception {
+        // Given
+        when(service.atualizar(eq(1L), any(PessoaUpdateDTO.class), eq(Set.of())))
+                .thenThrow(new VersionMismatchException("Pessoa", 1L));
+
+        // When & Then
+        mockMvc.perform(put("/api/pessoas/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.type").value("errors/precondition-failed"));
+    }
+
+    @Test
+    void deveDeletarPessoaComSucesso() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/pessoas/1"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void deveBuscarPessoasPorIdsComSucesso() throws Exception {
+        // Given
+        when(service.buscarPorIds(List.of(1L, 7L))).thenReturn(new PessoaLoteOutputDTO(List.of(outputDTO), List.of(7L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas")
+                        .param("ids", "1,7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas[0].nome").value("João Silva"))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(7));
+
+        verify(service, never()).listarTodos(any(), anyInt(), any());
+    }
+
+    @Test
+    void deveBuscarLoteDePessoasPeloCorpo() throws Exception {
+        // Given
+        when(service.buscarPorIds(List.of(1L, 7L))).thenReturn(new PessoaLoteOutputDTO(List.of(outputDTO), List.of(7L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1, 7]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas[0].id").value(1))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(7));
+    }
+
+    @Test
+    void deveRejeitarLoteDePessoasVazio() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(service, never()).buscarPorIds(any());
+    }
+
+    @Test
+    void deveBuscarPessoasPorNomeComSucesso() throws Exception {
+        // Given
+        when(service.buscarPorNome("João", 0, 20)).thenReturn(List.of(outputDTO));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/buscar")
+                        .param("nome", "João"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].nome").value("João Silva"));
+    }
+
+    @Test
+    void deveListarAniversariantesComSucesso() throws Exception {
+        // Given
+        when(service.listarAniversariantes(30)).thenReturn(List.of(outputDTO));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/aniversariantes")
+                        .param("dias", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].nome").value("João Silva"));
+    }
+
+    @Test
+    void deveImportarPessoasComSucesso() throws Exception {
+        // Given
+        ImportacaoResultadoDTO resultado = new ImportacaoResultadoDTO(2, 1, 1, List.of(new ErroImportacaoDTO(2, "nome: Nome é obrigatório")));
+        when(importacaoService.importar(any(InputStream.class), argThat(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype))).thenReturn(resultado);
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importadas").value(1))
+                .andExpect(jsonPath("$.erros[0].linha").value(2));
+    }
+
+    @Test
+    void deveExportarPessoasNoFormatoDoAccept() throws Exception {
+        // Given
+        when(exportacaoService.exportar(eq(FormatoExportacao.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,nome,dataNascimento,emails\n".getBytes());
+            return 0L;
+        });
+
+        // When
+        MvcResult resultado = mockMvc.perform(get("/api/pessoas/exportar")
+                        .accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"pessoas.csv\""))
+                .andExpect(content().string("id,nome,dataNascimento,emails\n"));
+    }
+
+    @Test
+    void deveRecusarExportacaoEmFormatoNaoSuportado() throws Exception {
+        mockMvc.perform(get("/api/pessoas/exportar")
+                        .accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+}
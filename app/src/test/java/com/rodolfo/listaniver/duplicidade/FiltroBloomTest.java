@@ -0,0 +1,63 @@
+package com.rodolfo.listaniver.duplicidade;
+
+import com.rodolfo.listaniver.importacao.ChavePessoa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Testes do filtro de Bloom de duplicidade")
+public class FiltroBloomTest {
+
+    private static final LocalDate DATA = LocalDate.of(1990, 5, 15);
+
+    @Test
+    void naoDeveTerFalsosNegativos() {
+        // Given
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filtro.adicionar(chave(i)));
+
+        // When & Then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filtro.talvezContenha(chave(i)))).isTrue();
+    }
+
+    @Test
+    void deveManterTaxaDeFalsosPositivosPertoDaConfigurada() {
+        // Given
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filtro.adicionar(chave(i)));
+
+        // When
+        long falsosPositivos = IntStream.range(10_000, 110_000).filter(i -> filtro.talvezContenha(chave(i))).count();
+
+        // Then
+        assertThat(falsosPositivos / 100_000.0).isLessThan(0.02);
+        assertThat(filtro.taxaFalsosPositivosEstimada()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    void deveDiferenciarMesmoNomeComDatasDiferentes() {
+        // Given
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.001);
+        filtro.adicionar(new ChavePessoa("João Silva", DATA));
+
+        // When & Then
+        assertThat(filtro.talvezContenha(new ChavePessoa("João Silva", DATA))).isTrue();
+        assertThat(filtro.talvezContenha(new ChavePessoa("João Silva", DATA.plusDays(1)))).isFalse();
+        assertThat(filtro.talvezContenha(new ChavePessoa("joão silva", DATA))).isFalse();
+    }
+
+    @Test
+    void deveRejeitarParametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(1_000, 1));
+    }
+
+    private static ChavePessoa chave(int i) {
+        return new ChavePessoa("Pessoa " + i, DATA.plusDays(i % 365));
+    }
+}
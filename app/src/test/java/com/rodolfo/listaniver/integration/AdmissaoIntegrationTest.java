@@ -0,0 +1,138 @@
+package com.rodolfo.listaniver.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Reposição lenta (um token a cada 2 s nos endpoints caros) para o teste não depender do relógio;
+// cada teste usa o próprio endereço de cliente, já que os baldes vivem enquanto o contexto vive
+@SpringBootTest(properties = {
+        "lista-niver.admissao.habilitado=true",
+        "lista-niver.admissao.capacidade-caro=2",
+        "lista-niver.admissao.por-segundo-caro=0.5",
+        "lista-niver.admissao.capacidade-barato=5",
+        "lista-niver.admissao.por-segundo-barato=0.5"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do controle de admissão")
+public class AdmissaoIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void deveRecusarEndpointCaroAcimaDaCotaComRetryAfter() throws Exception {
+        // Given
+        mockMvc.perform(buscar("10.0.0.1")).andExpect(status().isOk());
+        mockMvc.perform(buscar("10.0.0.1")).andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(buscar("10.0.0.1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.title").value("Too Many Requests"));
+    }
+
+    @Test
+    void deveManterCotaSeparadaPorCliente() throws Exception {
+        // Given
+        esgotar(buscar("10.0.0.2"));
+
+        // When & Then
+        mockMvc.perform(buscar("10.0.0.3")).andExpect(status().isOk());
+    }
+
+    @Test
+    void deveManterCotaSeparadaPorEndpoint() throws Exception {
+        // Given
+        esgotar(buscar("10.0.0.4"));
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/aniversariantes").with(cliente("10.0.0.4"))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/pessoas/{id}", 999_999L).with(cliente("10.0.0.4"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deveDarCotaMaiorAosEndpointsBaratos() throws Exception {
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/pessoas/{id}", 999_999L).with(cliente("10.0.0.5"))).andExpect(status().isNotFound());
+        }
+        mockMvc.perform(get("/api/pessoas/{id}", 999_999L).with(cliente("10.0.0.5"))).andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void deveContarDecisoesPorEndpointECusto() throws Exception {
+        // Given
+        double recusadasAntes = recusadas();
+
+        // When
+        esgotar(buscar("10.0.0.6"));
+
+        // Then
+        assertThat(recusadas() - recusadasAntes).isEqualTo(1);
+        assertThat(meterRegistry.get("lista.niver.admissao.decisoes")
+                .tag("uri", "/api/pessoas/buscar").tag("custo", "caro").tag("resultado", "aceita").counter().count())
+                .isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void naoDeveLimitarForaDaApi() throws Exception {
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(get("/actuator/health").with(cliente("10.0.0.7"))).andExpect(status().isOk());
+        }
+    }
+
+    // Consome a cota inteira e confere que a requisição seguinte foi recusada
+    private void esgotar(MockHttpServletRequestBuilder requisicao) throws Exception {
+        mockMvc.perform(requisicao).andExpect(status().isOk());
+        mockMvc.perform(requisicao).andExpect(status().isOk());
+        mockMvc.perform(requisicao).andExpect(status().isTooManyRequests());
+    }
+
+    private static MockHttpServletRequestBuilder buscar(String endereco) {
+        return get("/api/pessoas/buscar").param("nome", "Maria").with(cliente(endereco));
+    }
+
+    private static RequestPostProcessor cliente(String endereco) {
+        return requisicao -> {
+            requisicao.setRemoteAddr(endereco);
+            return requisicao;
+        };
+    }
+
+    private double recusadas() {
+        return meterRegistry.get("lista.niver.admissao.decisoes")
+                .tag("uri", "/api/pessoas/buscar").tag("resultado", "recusada").counter().count();
+    }
+}
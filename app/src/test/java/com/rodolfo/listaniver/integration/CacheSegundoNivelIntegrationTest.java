@@ -0,0 +1,208 @@
+package com.rodolfo.listaniver.integration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.service.EmailService;
+import com.rodolfo.listaniver.service.PessoaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sem transação no teste: cada leitura abre a própria sessão, e só o cache de segundo nível
+// sobrevive entre elas
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Cache de segundo nível do Hibernate para Pessoa e emails")
+public class CacheSegundoNivelIntegrationTest {
+
+    private static final String REGIAO_PESSOA = "pessoa";
+    private static final String REGIAO_EMAILS_DA_PESSOA = "pessoa-emails";
+    private static final String REGIAO_EMAIL = "email";
+    private static final String COLECAO_EMAILS = Pessoa.class.getName() + ".emails";
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SessionFactory sessionFactory;
+    private Statistics estatisticas;
+    private Long pessoaId;
+
+    @BeforeEach
+    void setUp() {
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+        trigramaRepository.deleteAllInBatch();
+
+        pessoaId = pessoaService.criar(new PessoaInputDTO("Maria Cache", LocalDate.of(1988, 7, 20),
+                Set.of(new EmailInputDTO("maria@email.com"), new EmailInputDTO("maria.cache@email.com")))).id();
+
+        // O insert já deixa a pessoa no cache; os testes partem do cache vazio
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        estatisticas = sessionFactory.getStatistics();
+        estatisticas.clear();
+    }
+
+    @Test
+    void deveLerPessoaEEmailsDoCacheNaSegundaSessao() {
+        // Given
+        List<String> primeiraLeitura = enderecos(pessoaId);
+        long comandosAntes = estatisticas.getPrepareStatementCount();
+
+        // When
+        List<String> segundaLeitura = enderecos(pessoaId);
+
+        // Then
+        assertThat(segundaLeitura).containsExactlyInAnyOrderElementsOf(primeiraLeitura).hasSize(2);
+        assertThat(estatisticas.getPrepareStatementCount()).isEqualTo(comandosAntes);
+        assertThat(estatisticas.getDomainDataRegionStatistics(REGIAO_PESSOA).getHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getDomainDataRegionStatistics(REGIAO_EMAILS_DA_PESSOA).getHitCount()).isEqualTo(1);
+        assertThat(estatisticas.getDomainDataRegionStatistics(REGIAO_EMAIL).getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void deleteByPessoaIdDeveTirarOsEmailsDaPessoaDoCache() {
+        // Given
+        List<Long> emailIds = transactionTemplate.execute(status -> pessoaRepository.findById(pessoaId).orElseThrow()
+                .getEmails().stream().map(Email::getId).toList());
+        assertThat(sessionFactory.getCache().containsCollection(COLECAO_EMAILS, pessoaId)).isTrue();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> emailRepository.deleteByPessoaId(pessoaId));
+
+        // Then
+        assertThat(sessionFactory.getCache().containsCollection(COLECAO_EMAILS, pessoaId)).isFalse();
+        assertThat(emailIds).noneMatch(id -> sessionFactory.getCache().containsEntity(Email.class, id));
+        assertThat(enderecos(pessoaId)).isEmpty();
+    }
+
+    @Test
+    void deveEnxergarEmailsInseridosViaJdbc() {
+        // Given
+        enderecos(pessoaId);
+
+        // When
+        emailService.adicionarEmails(pessoaId, List.of(new EmailInputDTO("maria.lote@email.com")));
+
+        // Then
+        assertThat(enderecos(pessoaId)).contains("maria.lote@email.com").hasSize(3);
+    }
+
+    @Test
+    void escritasDeEmailNaoDevemTirarOutraPessoaDoCache() {
+        // Given
+        Long outraId = pessoaService.criar(new PessoaInputDTO("João Cache", LocalDate.of(1975, 2, 3),
+                Set.of(new EmailInputDTO("joao@email.com")))).id();
+        enderecos(outraId);
+
+        // When
+        Long emailId = emailService.adicionarEmail(pessoaId, new EmailInputDTO("maria.nova@email.com")).id();
+        emailService.adicionarEmails(pessoaId, List.of(new EmailInputDTO("maria.lote@email.com")));
+        emailService.atualizarEmail(emailId, new EmailInputDTO("maria.outra@email.com"));
+        emailService.removerEmail(emailId);
+
+        // Then
+        assertThat(sessionFactory.getCache().containsEntity(Pessoa.class, outraId)).isTrue();
+        assertThat(sessionFactory.getCache().containsCollection(COLECAO_EMAILS, outraId)).isTrue();
+    }
+
+    @Test
+    void deveManterVersaoEEmailsDaPessoaCoerentesAposEscritasDeEmail() {
+        // Given
+        enderecos(pessoaId);
+
+        // When
+        Long emailId = emailService.adicionarEmail(pessoaId, new EmailInputDTO("maria.nova@email.com")).id();
+        List<String> aposAdicionar = enderecos(pessoaId);
+        emailService.atualizarEmail(emailId, new EmailInputDTO("maria.outra@email.com"));
+        List<String> aposAtualizar = enderecos(pessoaId);
+        emailService.removerEmail(emailId);
+        List<String> aposRemover = enderecos(pessoaId);
+
+        // Then
+        assertThat(aposAdicionar).contains("maria.nova@email.com").hasSize(3);
+        assertThat(aposAtualizar).contains("maria.outra@email.com").doesNotContain("maria.nova@email.com");
+        assertThat(aposRemover).containsExactlyInAnyOrder("maria@email.com", "maria.cache@email.com");
+        assertThat(versao(pessoaId)).isEqualTo(pessoaRepository.findVersaoById(pessoaId).orElseThrow());
+    }
+
+    @Test
+    void deveExporAcertosEFaltasPorRegiao() {
+        // When
+        enderecos(pessoaId);
+        enderecos(pessoaId);
+
+        // Then
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", REGIAO_PESSOA).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", REGIAO_PESSOA).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void deveLimitarAsRegioesComAConfiguracaoDoCaffeine() {
+        // When
+        var cacheManager = ((JCacheRegionFactory) sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getCache().getRegionFactory()).getCacheManager();
+
+        // Then
+        assertThat(cacheManager.getCache(REGIAO_PESSOA).getConfiguration(CaffeineConfiguration.class).getMaximumSize())
+                .isEqualTo(OptionalLong.of(10_000));
+        assertThat(cacheManager.getCache(REGIAO_EMAIL).getConfiguration(CaffeineConfiguration.class).getMaximumSize())
+                .isEqualTo(OptionalLong.of(30_000));
+    }
+
+    // Lida pela entidade, que vem do cache quando está nele
+    private Long versao(Long id) {
+        return transactionTemplate.execute(status -> pessoaRepository.findById(id).orElseThrow().getVersao());
+    }
+
+    private List<String> enderecos(Long id) {
+        return transactionTemplate.execute(status -> pessoaRepository.findById(id).orElseThrow()
+                .getEmails().stream().map(Email::getEmail).toList());
+    }
+}
@@ -0,0 +1,235 @@
+package com.rodolfo.listaniver.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.rodolfo.listaniver.config.FormatosBinariosConfig;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailLoteInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaIdsInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Porta real: a compressão é feita pelo Tomcat, fora do alcance do MockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração dos formatos de resposta (CBOR, Smile e gzip)")
+public class FormatosRespostaIntegrationTest {
+
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    private static final MediaType SMILE = MediaType.parseMediaType(FormatosBinariosConfig.SMILE_VALUE);
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private MockMvc mockMvc;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+
+        ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome("Pessoa " + i);
+            pessoa.setDataNascimento(LocalDate.of(1990, 1, 1).plusDays(i));
+            pessoa.setEmails(Set.of(
+                    new Email(null, "pessoa" + i + ".1@email.com", pessoa),
+                    new Email(null, "pessoa" + i + ".2@email.com", pessoa)));
+            ids.add(pessoaRepository.save(pessoa).getId());
+        }
+    }
+
+    @Test
+    void deveListarPessoasEmCborESmileComOsMesmosDadosDoJson() throws Exception {
+        // When
+        byte[] json = listar(MediaType.APPLICATION_JSON);
+        byte[] cbor = listar(CBOR);
+        byte[] smile = listar(SMILE);
+
+        // Then
+        PessoaPageOutputDTO esperado = objectMapper.readValue(json, PessoaPageOutputDTO.class);
+        assertThat(esperado.pessoas()).hasSize(20);
+        assertThat(cborMapper.readValue(cbor, PessoaPageOutputDTO.class)).isEqualTo(esperado);
+        assertThat(smileMapper.readValue(smile, PessoaPageOutputDTO.class)).isEqualTo(esperado);
+        // Datas continuam ISO, como no JSON
+        assertThat(cborMapper.readTree(cbor).at("/pessoas/0/dataNascimento").asText()).isEqualTo("1990-01-01");
+        // O Smile não repete os nomes de campo a cada elemento
+        assertThat(smile.length).isLessThan(json.length * 3 / 4);
+    }
+
+    @Test
+    void deveBuscarLoteDePessoasComCorpoEmCbor() throws Exception {
+        // Given
+        byte[] corpo = cborMapper.writeValueAsBytes(new PessoaIdsInputDTO(List.of(ids.get(0), ids.get(1), -1L)));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/pessoas/lote")
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CBOR))
+                .andReturn();
+
+        // Then
+        PessoaLoteOutputDTO lote = cborMapper.readValue(result.getResponse().getContentAsByteArray(), PessoaLoteOutputDTO.class);
+        assertThat(lote.pessoas()).extracting("id").containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+        assertThat(lote.naoEncontrados()).containsExactly(-1L);
+    }
+
+    @Test
+    void deveAdicionarEmailsEmLoteComCorpoEmSmile() throws Exception {
+        // Given
+        byte[] corpo = smileMapper.writeValueAsBytes(new EmailLoteInputDTO(List.of(
+                new EmailInputDTO("novo.1@email.com"), new EmailInputDTO("novo.2@email.com"))));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", ids.getFirst())
+                        .contentType(SMILE)
+                        .accept(SMILE)
+                        .content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(SMILE))
+                .andReturn();
+
+        // Then
+        EmailOutputDTO[] emails = smileMapper.readValue(result.getResponse().getContentAsByteArray(), EmailOutputDTO[].class);
+        assertThat(emails).extracting(EmailOutputDTO::email).containsExactlyInAnyOrder("novo.1@email.com", "novo.2@email.com");
+        assertThat(emailRepository.findByPessoaId(ids.getFirst())).hasSize(4);
+    }
+
+    @Test
+    void deveResponderErroEmProblemJsonMesmoPedindoCbor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/{id}", -1L).accept(CBOR))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    void deveComprimirComGzipListagemAcimaDoLimite() throws Exception {
+        // When
+        HttpResponse<byte[]> response = requisitar("/api/pessoas?tamanho=30", MediaType.APPLICATION_JSON_VALUE);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        PessoaPageOutputDTO pagina = objectMapper.readValue(descomprimir(response.body()), PessoaPageOutputDTO.class);
+        assertThat(pagina.pessoas()).hasSize(30);
+    }
+
+    @Test
+    void deveComprimirComGzipRespostaEmSmile() throws Exception {
+        // When
+        HttpResponse<byte[]> response = requisitar("/api/pessoas?tamanho=30", FormatosBinariosConfig.SMILE_VALUE);
+
+        // Then
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        PessoaPageOutputDTO pagina = smileMapper.readValue(descomprimir(response.body()), PessoaPageOutputDTO.class);
+        assertThat(pagina.pessoas()).hasSize(30);
+    }
+
+    @Test
+    void naoDeveComprimirRespostaAbaixoDoLimite() throws Exception {
+        // When
+        HttpResponse<byte[]> response = requisitar("/api/pessoas?tamanho=1", MediaType.APPLICATION_JSON_VALUE);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+        assertThat(objectMapper.readValue(response.body(), PessoaPageOutputDTO.class).pessoas()).hasSize(1);
+    }
+
+    @Test
+    void deveComprimirExportacaoEmFluxo() throws Exception {
+        // When
+        HttpResponse<byte[]> response = requisitar("/api/pessoas/exportar", MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(new String(descomprimir(response.body()), StandardCharsets.UTF_8).lines()).hasSize(30);
+    }
+
+    private byte[] listar(MediaType formato) throws Exception {
+        return mockMvc.perform(get("/api/pessoas").accept(formato))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(formato))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private HttpResponse<byte[]> requisitar(String caminho, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] descomprimir(byte[] corpo) throws IOException {
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(corpo))) {
+            return entrada.readAllBytes();
+        }
+    }
+}
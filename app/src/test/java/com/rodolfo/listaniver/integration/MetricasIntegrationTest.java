@@ -0,0 +1,94 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração das Métricas")
+public class MetricasIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository repository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        repository.deleteAll();
+    }
+
+    @Test
+    void deveMedirChamadasAosServicosPorOperacaoEResultado() throws Exception {
+        // Given
+        long antes = chamadas("buscarPorId", "erro");
+
+        // When
+        mockMvc.perform(get("/api/pessoas/999999"))
+                .andExpect(status().isNotFound());
+
+        // Then
+        assertThat(chamadas("buscarPorId", "erro")).isEqualTo(antes + 1);
+        assertThat(meterRegistry.get("lista.niver.servico")
+                .tags("servico", "PessoaService", "operacao", "buscarPorId", "resultado", "erro")
+                .timer().getId().getTag("excecao")).isEqualTo("RecordNotFoundException");
+    }
+
+    @Test
+    void deveExporServicosRepositoriosPoolEHibernateNoEndpointPrometheus() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"nome\": \"João Silva\", \"dataNascimento\": \"1990-05-15\"}"))
+                .andExpect(status().isOk());
+
+        // When
+        String metricas = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(metricas)
+                .contains("lista_niver_servico_seconds_bucket{")
+                .contains("operacao=\"importar\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{")
+                .contains("repository=\"PessoaJdbcRepository\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_sessions_open");
+    }
+
+    private long chamadas(String operacao, String resultado) {
+        var timer = meterRegistry.find("lista.niver.servico")
+                .tags("servico", "PessoaService", "operacao", operacao, "resultado", resultado)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
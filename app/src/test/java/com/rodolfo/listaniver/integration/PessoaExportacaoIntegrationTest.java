@@ -0,0 +1,122 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.support.SqlBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da Exportação de Pessoas")
+public class PessoaExportacaoIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    private MockMvc mockMvc;
+    private Pessoa joao;
+    private Pessoa maria;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        limparDados();
+
+        // Sem transação no teste: a exportação roda em outra thread e só enxerga dados confirmados
+        joao = new Pessoa(null, "Silva, João", LocalDate.of(1990, 5, 15), new LinkedHashSet<>());
+        joao.getEmails().add(new Email(null, "joao@email.com", joao));
+        joao.getEmails().add(new Email(null, "joao@empresa.com", joao));
+        joao = pessoaRepository.save(joao);
+        maria = pessoaRepository.save(new Pessoa(null, "Maria Santos", LocalDate.of(1985, 8, 22), Set.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparDados();
+    }
+
+    @Test
+    @SqlBudget(1)
+    void deveExportarNdjsonComUmaUnicaConsulta() throws Exception {
+        // When
+        String corpo = exportar(MediaType.APPLICATION_NDJSON_VALUE);
+
+        // Then
+        String[] linhas = corpo.split("\n");
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas[0])
+                .startsWith("{\"id\":" + joao.getId() + ",\"nome\":\"Silva, João\",\"dataNascimento\":\"1990-05-15\"")
+                .contains("\"email\":\"joao@email.com\"", "\"email\":\"joao@empresa.com\"");
+        assertThat(linhas[1]).isEqualTo("{\"id\":" + maria.getId() + ",\"nome\":\"Maria Santos\",\"dataNascimento\":\"1985-08-22\",\"emails\":[]}");
+    }
+
+    @Test
+    void deveExportarCsvQuandoSolicitadoNoAccept() throws Exception {
+        // When
+        String corpo = exportar("text/csv");
+
+        // Then
+        assertThat(corpo).isEqualTo("""
+                id,nome,dataNascimento,emails
+                %d,"Silva, João",1990-05-15,joao@email.com;joao@empresa.com
+                %d,Maria Santos,1985-08-22,
+                """.formatted(joao.getId(), maria.getId()));
+    }
+
+    private String exportar(String accept) throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/api/pessoas/exportar").header("Accept", accept))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", startsWith("attachment")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private void limparDados() {
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+        trigramaRepository.deleteAllInBatch();
+    }
+}
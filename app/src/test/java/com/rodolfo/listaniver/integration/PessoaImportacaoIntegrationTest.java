@@ -0,0 +1,156 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "lista-niver.importacao.tamanho-lote=2")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração da Importação de Pessoas")
+public class PessoaImportacaoIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository repository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        repository.deleteAll();
+    }
+
+    @Test
+    void deveImportarNdjsonEmLotesERelatarLinhasRejeitadas() throws Exception {
+        // Given
+        repository.save(new Pessoa(null, "Ana Costa", LocalDate.of(1988, 3, 7), Set.of()));
+        String corpo = """
+                {"nome": "João Silva", "dataNascimento": "1990-05-15", "emails": [{"email": "joao@email.com"}, {"email": "joao@empresa.com"}]}
+                {"nome": "Ana Costa", "dataNascimento": "1988-03-07"}
+                {"nome": "", "dataNascimento": "1990-05-15"}
+
+                {"nome": "Maria Santos", "dataNascimento": "1985-08-22", "emails": [{"email": "maria@email.com"}]}
+                {"nome": "Maria Santos", "dataNascimento": "1985-08-22"}
+                {"nome": "Pedro Almeida",
+                {"nome": "Carlos Oliveira", "dataNascimento": "1992-12-10"}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhasProcessadas").value(7))
+                .andExpect(jsonPath("$.importadas").value(3))
+                .andExpect(jsonPath("$.rejeitadas").value(4))
+                .andExpect(jsonPath("$.erros[0].linha").value(2))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Pessoa com nome e data de nascimento já existe"))
+                .andExpect(jsonPath("$.erros[1].linha").value(3))
+                .andExpect(jsonPath("$.erros[2].linha").value(6))
+                .andExpect(jsonPath("$.erros[3].linha").value(7));
+
+        assertThat(repository.count()).isEqualTo(4);
+        assertThat(emailRepository.count()).isEqualTo(3);
+        assertThat(repository.existsByNomeAndDataNascimento("Carlos Oliveira", LocalDate.of(1992, 12, 10))).isTrue();
+
+        // Pessoas importadas entram no índice de busca por nome
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "joao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].emails.length()").value(2));
+    }
+
+    @Test
+    void deveRejeitarLinhasNdjsonQueNaoSaoObjetoSemInterromperAImportacao() throws Exception {
+        // Given: lote de 2, então a primeira pessoa já foi gravada quando as linhas inválidas chegam
+        String corpo = """
+                {"nome": "João Silva", "dataNascimento": "1990-05-15"}
+                {"nome": "Maria Santos", "dataNascimento": "1985-08-22"}
+                null
+                []
+                "Pedro Almeida"
+                {"nome": "Carlos Oliveira", "dataNascimento": "1992-12-10"}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhasProcessadas").value(6))
+                .andExpect(jsonPath("$.importadas").value(3))
+                .andExpect(jsonPath("$.rejeitadas").value(3))
+                .andExpect(jsonPath("$.erros[0].linha").value(3))
+                .andExpect(jsonPath("$.erros[0].mensagem").value("Registro vazio"))
+                .andExpect(jsonPath("$.erros[1].linha").value(4))
+                .andExpect(jsonPath("$.erros[1].mensagem").value("Esperado um objeto JSON"))
+                .andExpect(jsonPath("$.erros[2].linha").value(5))
+                .andExpect(jsonPath("$.erros[2].mensagem").value("Esperado um objeto JSON"));
+
+        assertThat(repository.existsByNomeAndDataNascimento("Carlos Oliveira", LocalDate.of(1992, 12, 10))).isTrue();
+    }
+
+    @Test
+    void deveImportarCsvComCabecalhoECamposEntreAspas() throws Exception {
+        // Given
+        String corpo = """
+                nome,dataNascimento,emails
+                "Silva, João",1990-05-15,joao@email.com;joao@empresa.com
+                Maria Santos,1985-08-22,
+                Pedro Almeida,15/11/1995,pedro@email.com
+                Ana Costa,1988-03-07,email-invalido
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType("text/csv")
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhasProcessadas").value(4))
+                .andExpect(jsonPath("$.importadas").value(2))
+                .andExpect(jsonPath("$.rejeitadas").value(2))
+                .andExpect(jsonPath("$.erros[0].linha").value(4))
+                .andExpect(jsonPath("$.erros[1].linha").value(5))
+                .andExpect(jsonPath("$.erros[1].mensagem").value("emails[].email: Email deve ter formato válido"));
+
+        assertThat(repository.existsByNomeAndDataNascimento("Silva, João", LocalDate.of(1990, 5, 15))).isTrue();
+        assertThat(emailRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void deveRejeitarFormatoNaoSuportado() throws Exception {
+        mockMvc.perform(post("/api/pessoas/importar")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content("João Silva"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
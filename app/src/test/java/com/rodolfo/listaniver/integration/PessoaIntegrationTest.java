@@ -0,0 +1,363 @@
+package com.rodolfo.listaniver.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.PessoaJdbcRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.search.NomePessoa;
+import com.rodolfo.listaniver.search.PessoaTrigramaIndexer;
+import com.rodolfo.listaniver.search.TermoBusca;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Testes de Integração Pessoa")
+public class PessoaIntegrationTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository repository;
+
+    @Autowired
+    private PessoaJdbcRepository jdbcRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    @Autowired
+    private PessoaTrigramaIndexer trigramaIndexer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        repository.deleteAll();
+    }
+
+    @Test
+    void deveRealizarCrudCompletoComSucesso() throws Exception {
+        // CREATE
+        Set<EmailInputDTO> emailsInput = Set.of(new EmailInputDTO("joao@email.com"));
+        PessoaInputDTO inputDTO = new PessoaInputDTO("João Silva", LocalDate.of(1990, 5, 15), emailsInput);
+
+        String createResponse = mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.nome").value("João Silva"))
+                .andExpect(jsonPath("$.dataNascimento").value("1990-05-15"))
+                .andReturn().getResponse().getContentAsString();
+
+        PessoaOutputDTO created = objectMapper.readValue(createResponse, PessoaOutputDTO.class);
+
+        // READ
+        mockMvc.perform(get("/api/pessoas/" + created.id()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(created.id()))
+                .andExpect(jsonPath("$.nome").value("João Silva"));
+
+        // UPDATE
+        Set<EmailInputDTO> emailsUpdate = Set.of(new EmailInputDTO("joao.santos@email.com"));
+        PessoaUpdateDTO updateDTO = new PessoaUpdateDTO("João Santos", LocalDate.of(1990, 5, 15), emailsUpdate);
+
+        mockMvc.perform(put("/api/pessoas/" + created.id())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("João Santos"));
+
+        // DELETE
+        mockMvc.perform(delete("/api/pessoas/" + created.id()))
+                .andExpect(status().isNoContent());
+
+        // Verificar se foi deletado
+        mockMvc.perform(get("/api/pessoas/" + created.id()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deveRetornarConflictParaPessoaDuplicada() throws Exception {
+        // Criar primeira pessoa
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome("João Silva");
+        pessoa.setDataNascimento(LocalDate.of(1990, 5, 15));
+        repository.save(pessoa);
+
+        // Tentar criar pessoa duplicada
+        Set<EmailInputDTO> emailsInput = Set.of(new EmailInputDTO("joao@email.com"));
+        PessoaInputDTO inputDTO = new PessoaInputDTO("João Silva", LocalDate.of(1990, 5, 15), emailsInput);
+
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(inputDTO)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void deveReconstruirFiltroDeDuplicidadeSemPerderPessoasGravadas() throws Exception {
+        // Pessoa gravada antes da reconstrução
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome("Maria Santos");
+        pessoa.setDataNascimento(LocalDate.of(1985, 8, 20));
+        repository.save(pessoa);
+
+        mockMvc.perform(post("/actuator/duplicidade")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"capacidade\": 5000, \"taxaFalsosPositivos\": 0.001}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pronto").value(true))
+                .andExpect(jsonPath("$.capacidade").value(5000));
+
+        double ausentesAntes = consultasDoFiltro("ausente");
+
+        PessoaInputDTO duplicada = new PessoaInputDTO("Maria Santos", LocalDate.of(1985, 8, 20), Set.of());
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(duplicada)))
+                .andExpect(status().isConflict());
+
+        PessoaInputDTO nova = new PessoaInputDTO("Maria Souza", LocalDate.of(1985, 8, 20), Set.of());
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nova)))
+                .andExpect(status().isCreated());
+
+        // A pessoa nova foi descartada pelo filtro sem consultar o banco
+        assertThat(consultasDoFiltro("ausente") - ausentesAntes).isEqualTo(1);
+    }
+
+    @Test
+    void deveRejeitarReconstrucaoDoFiltroComTaxaInvalida() throws Exception {
+        mockMvc.perform(post("/actuator/duplicidade")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taxaFalsosPositivos\": 2}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveBuscarPessoasPorNome() throws Exception {
+        // Criar pessoas
+        Pessoa pessoa1 = new Pessoa(null, "João Silva", LocalDate.of(1990, 5, 15), Set.of());
+        Pessoa pessoa2 = new Pessoa(null, "João Santos", LocalDate.of(1985, 3, 10), Set.of());
+        Pessoa pessoa3 = new Pessoa(null, "Maria Silva", LocalDate.of(1992, 8, 20), Set.of());
+        repository.save(pessoa1);
+        repository.save(pessoa2);
+        repository.save(pessoa3);
+
+        // Buscar por nome
+        mockMvc.perform(get("/api/pessoas/buscar")
+                        .param("nome", "João"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void deveBuscarPorTrechoDoNomeOrdenandoPorRelevancia() throws Exception {
+        // Criar pessoas
+        repository.save(new Pessoa(null, "Ana Costa", LocalDate.of(1988, 3, 7), Set.of()));
+        repository.save(new Pessoa(null, "Mariana Souza", LocalDate.of(1991, 4, 2), Set.of()));
+        repository.save(new Pessoa(null, "Luana Ândrade", LocalDate.of(1993, 6, 18), Set.of()));
+        repository.save(new Pessoa(null, "Pedro Almeida", LocalDate.of(1995, 11, 30), Set.of()));
+
+        // Início do nome primeiro, depois início de palavra, depois qualquer posição
+        mockMvc.perform(get("/api/pessoas/buscar")
+                        .param("nome", "AN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].nome").value("Ana Costa"))
+                .andExpect(jsonPath("$[1].nome").value("Luana Ândrade"))
+                .andExpect(jsonPath("$[2].nome").value("Mariana Souza"));
+
+        // Paginação
+        mockMvc.perform(get("/api/pessoas/buscar")
+                        .param("nome", "an")
+                        .param("pagina", "1")
+                        .param("tamanho", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Mariana Souza"));
+    }
+
+    @Test
+    void deveTrazerONomeExatoPrimeiroMesmoComMaisCandidatosQueOLimite() throws Exception {
+        // Criar mais candidatos que o limite, com o trecho no meio do nome, e o nome exato com o maior ID
+        List<PessoaInputDTO> parecidas = IntStream.range(0, TermoBusca.LIMITE_RESULTADOS + 100)
+                .mapToObj(i -> new PessoaInputDTO("Mariana " + i, LocalDate.of(1990, 1, 1), Set.of()))
+                .toList();
+        List<Long> ids = jdbcRepository.inserir(parecidas);
+        trigramaIndexer.inserir(IntStream.range(0, ids.size())
+                .mapToObj(i -> new NomePessoa(ids.get(i), parecidas.get(i).nome()))
+                .toList());
+        Pessoa exata = repository.save(new Pessoa(null, "Ana", LocalDate.of(1988, 3, 7), Set.of()));
+
+        // Nome igual pelos trigramas e início do nome pelo prefixo
+        for (String termo : List.of("ana", "an")) {
+            mockMvc.perform(get("/api/pessoas/buscar")
+                            .param("nome", termo)
+                            .param("tamanho", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(2))
+                    .andExpect(jsonPath("$[0].id").value(exata.getId()));
+        }
+    }
+
+    @Test
+    void deveLerNoMaximoOLimiteDeCandidatosQuandoOTermoCasaComQuaseTodos() throws Exception {
+        // Mais pessoas que o limite em cada consulta: nomes que começam pelo termo e que o têm no meio
+        List<PessoaInputDTO> pessoas = IntStream.range(0, TermoBusca.LIMITE_RESULTADOS + 100)
+                .boxed()
+                .flatMap(i -> Stream.of(
+                        new PessoaInputDTO("Ana " + i, LocalDate.of(1990, 1, 1), Set.of()),
+                        new PessoaInputDTO("Mariana " + i, LocalDate.of(1990, 1, 1), Set.of())))
+                .toList();
+        List<Long> ids = jdbcRepository.inserir(pessoas);
+        trigramaIndexer.inserir(IntStream.range(0, ids.size())
+                .mapToObj(i -> new NomePessoa(ids.get(i), pessoas.get(i).nome()))
+                .toList());
+
+        for (String termo : List.of("ana", "a")) {
+            TermoBusca busca = TermoBusca.de(termo, 0, 20).orElseThrow();
+            TermoBusca.Faixa nome = busca.faixaNome();
+            TermoBusca.Faixa trigramas = busca.faixaTrigramas();
+            Limit limite = Limit.of(TermoBusca.LIMITE_RESULTADOS);
+
+            assertThat(trigramaRepository.findCandidatosPorInicioDoNome(nome.de(), nome.ate(), busca.like(), limite))
+                    .hasSize(TermoBusca.LIMITE_RESULTADOS)
+                    .allMatch(candidato -> candidato.nomeNormalizado().startsWith(termo));
+            assertThat(trigramaRepository.findCandidatosPorTrigrama(trigramas.de(), trigramas.ate(), TermoBusca.LIMITE_LEITURA_TRIGRAMAS, busca.like(), limite))
+                    .hasSize(TermoBusca.LIMITE_RESULTADOS)
+                    .noneMatch(candidato -> candidato.nomeNormalizado().startsWith(termo));
+
+            mockMvc.perform(get("/api/pessoas/buscar")
+                            .param("nome", termo)
+                            .param("tamanho", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].nome").value("Ana 0"))
+                    .andExpect(jsonPath("$[1].nome").value("Ana 1"));
+        }
+    }
+
+    @Test
+    void deveBuscarPessoaGravadaPorSqlDepoisDaIndexacaoNaInicializacao() throws Exception {
+        // Gravar sem passar pela entidade, como um script SQL
+        jdbcTemplate.update("INSERT INTO pessoa (nome, data_nascimento, versao) VALUES ('Ângela  Prado', DATE '1980-02-29', 0)");
+
+        // Rotinas que rodam quando a aplicação sobe
+        trigramaIndexer.reindexarPendentes();
+        trigramaIndexer.preencherNomesNormalizados();
+
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "angela p"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].nome").value("Ângela  Prado"));
+    }
+
+    @Test
+    void deveAtualizarIndiceDeBuscaAoAlterarEDeletarPessoa() throws Exception {
+        // Criar pessoa
+        Pessoa pessoa = repository.save(new Pessoa(null, "Carlos Oliveira", LocalDate.of(1992, 12, 10), Set.of()));
+
+        // Alterar nome
+        PessoaUpdateDTO updateDTO = new PessoaUpdateDTO("Carla Oliveira", LocalDate.of(1992, 12, 10), Set.of());
+        mockMvc.perform(put("/api/pessoas/{id}", pessoa.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "carlos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "carla oli"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        // Deletar pessoa
+        mockMvc.perform(delete("/api/pessoas/{id}", pessoa.getId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "oliveira"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void devePaginarListagemPorCursor() throws Exception {
+        // Criar pessoas
+        repository.save(new Pessoa(null, "Carlos Oliveira", LocalDate.of(1992, 12, 10), Set.of()));
+        repository.save(new Pessoa(null, "Ana Costa", LocalDate.of(1988, 3, 7), Set.of()));
+        repository.save(new Pessoa(null, "Pedro Almeida", LocalDate.of(1995, 11, 30), Set.of()));
+
+        // Primeira página
+        String primeiraPagina = mockMvc.perform(get("/api/pessoas")
+                        .param("tamanho", "2")
+                        .param("ordenacao", "nome"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas.length()").value(2))
+                .andExpect(jsonPath("$.pessoas[0].nome").value("Ana Costa"))
+                .andExpect(jsonPath("$.pessoas[1].nome").value("Carlos Oliveira"))
+                .andExpect(jsonPath("$.proximoCursor").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+
+        PessoaPageOutputDTO pagina = objectMapper.readValue(primeiraPagina, PessoaPageOutputDTO.class);
+
+        // Segunda página
+        mockMvc.perform(get("/api/pessoas")
+                        .param("tamanho", "2")
+                        .param("ordenacao", "nome")
+                        .param("cursor", pagina.proximoCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas.length()").value(1))
+                .andExpect(jsonPath("$.pessoas[0].nome").value("Pedro Almeida"))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+    }
+
+    private double consultasDoFiltro(String resultado) {
+        return meterRegistry.get("pessoa.duplicidade.consultas").tag("resultado", resultado).counter().count();
+    }
+}
@@ -0,0 +1,383 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.cache.CacheConsultas;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.support.SqlBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@DisplayName("Orçamento de comandos SQL das leituras de Pessoa")
+public class PessoaQueryBudgetIntegrationTest {
+
+    private static final int TOTAL_PESSOAS = 30;
+    private static final int EMAILS_POR_PESSOA = 3;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private Pessoa primeiraPessoa;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        limparDados();
+
+        // Sem transação no teste: cada requisição abre a própria sessão, como em produção
+        for (int i = 0; i < TOTAL_PESSOAS; i++) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome("Pessoa Teste " + i);
+            pessoa.setDataNascimento(LocalDate.of(1990, 1, 1).plusDays(i));
+
+            Set<Email> emails = new HashSet<>();
+            for (int j = 0; j < EMAILS_POR_PESSOA; j++) {
+                emails.add(new Email(null, "pessoa" + i + "." + j + "@email.com", pessoa));
+            }
+            pessoa.setEmails(emails);
+
+            Pessoa salva = pessoaRepository.save(pessoa);
+            if (primeiraPessoa == null) {
+                primeiraPessoa = salva;
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparDados();
+    }
+
+    @Test
+    @SqlBudget(2)
+    void listarTodosDeveCarregarPessoasEEmailsEmLote() throws Exception {
+        mockMvc.perform(get("/api/pessoas").param("tamanho", String.valueOf(TOTAL_PESSOAS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas.length()").value(TOTAL_PESSOAS))
+                .andExpect(jsonPath("$.pessoas[0].emails.length()").value(EMAILS_POR_PESSOA));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void buscarPorIdDeveCarregarEmailsNaMesmaConsulta() throws Exception {
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.emails.length()").value(EMAILS_POR_PESSOA));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void buscarPorIdRepetidoDeveSerAtendidoPeloCache() throws Exception {
+        double acertosAntes = acertosNoCacheDePessoas();
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.emails.length()").value(EMAILS_POR_PESSOA));
+        }
+
+        assertThat(acertosNoCacheDePessoas() - acertosAntes).isEqualTo(2);
+    }
+
+    @Test
+    void atualizarDeveInvalidarCacheAposCommit() throws Exception {
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId()))
+                .andExpect(jsonPath("$.nome").value(primeiraPessoa.getNome()));
+
+        mockMvc.perform(put("/api/pessoas/{id}", primeiraPessoa.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Nome Alterado\", \"dataNascimento\": \"1990-01-01\", \"emails\": []}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId()))
+                .andExpect(jsonPath("$.nome").value("Nome Alterado"))
+                .andExpect(jsonPath("$.emails.length()").value(0));
+    }
+
+    @Test
+    void atualizarDeveManterIdsDosEmailsInalterados() throws Exception {
+        Map<String, Long> antes = idsPorEmail(primeiraPessoa.getId());
+
+        mockMvc.perform(put("/api/pessoas/{id}", primeiraPessoa.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Nome Alterado\", \"dataNascimento\": \"1990-01-01\", \"emails\": ["
+                                + "{\"email\": \"pessoa0.0@email.com\"}, {\"email\": \"pessoa0.1@email.com\"}, {\"email\": \"novo@email.com\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.emails.length()").value(EMAILS_POR_PESSOA));
+
+        Map<String, Long> depois = idsPorEmail(primeiraPessoa.getId());
+        assertThat(depois).containsOnlyKeys("pessoa0.0@email.com", "pessoa0.1@email.com", "novo@email.com");
+        assertThat(depois.get("pessoa0.0@email.com")).isEqualTo(antes.get("pessoa0.0@email.com"));
+        assertThat(depois.get("pessoa0.1@email.com")).isEqualTo(antes.get("pessoa0.1@email.com"));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void buscarPorIdsDeveCarregarTodasAsPessoasEEmailsNaMesmaConsulta() throws Exception {
+        // IDs em ordem decrescente e um inexistente no meio
+        long primeiroId = primeiraPessoa.getId();
+        long inexistente = primeiroId + TOTAL_PESSOAS + 1000;
+        String ids = LongStream.range(0, TOTAL_PESSOAS)
+                .map(i -> primeiroId + TOTAL_PESSOAS - 1 - i)
+                .mapToObj(id -> id == primeiroId + 10 ? id + "," + inexistente : String.valueOf(id))
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/api/pessoas").param("ids", ids))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pessoas.length()").value(TOTAL_PESSOAS))
+                .andExpect(jsonPath("$.pessoas[0].id").value(primeiroId + TOTAL_PESSOAS - 1))
+                .andExpect(jsonPath("$.pessoas[%d].id", TOTAL_PESSOAS - 1).value(primeiroId))
+                .andExpect(jsonPath("$.pessoas[0].emails.length()").value(EMAILS_POR_PESSOA))
+                .andExpect(jsonPath("$.naoEncontrados.length()").value(1))
+                .andExpect(jsonPath("$.naoEncontrados[0]").value(inexistente));
+    }
+
+    @Test
+    @SqlBudget(3)
+    void buscarPorNomeDeveUsarIndiceDeTrigramasECarregarEmailsNaMesmaConsulta() throws Exception {
+        // Candidatos no índice, nomes para ordenar e a página com os emails
+        mockMvc.perform(get("/api/pessoas/buscar").param("nome", "pessoa teste").param("tamanho", String.valueOf(TOTAL_PESSOAS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(TOTAL_PESSOAS))
+                .andExpect(jsonPath("$[0].emails.length()").value(EMAILS_POR_PESSOA));
+    }
+
+    @Test
+    @SqlBudget(2)
+    void listarEmailsPorPessoaNaoDeveCarregarPessoa() throws Exception {
+        mockMvc.perform(get("/api/emails/pessoa/{pessoaId}", primeiraPessoa.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(EMAILS_POR_PESSOA));
+    }
+
+    @Test
+    @SqlBudget(3)
+    void adicionarEmailsEmLoteDeveInserirTodosNumSoInsert() throws Exception {
+        // Versão da pessoa, endereços existentes e o INSERT com várias linhas
+        String existente = primeiraPessoa.getEmails().iterator().next().getEmail();
+        String lote = IntStream.range(0, 20)
+                .mapToObj(i -> "{\"email\": \"lote" + i + "@email.com\"}")
+                .collect(Collectors.joining(", ", "{\"emails\": [{\"email\": \"" + existente + "\"}, ", ", {\"email\": \"lote0@email.com\"}]}"));
+
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", primeiraPessoa.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(lote))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(20))
+                .andExpect(jsonPath("$[0].email").value("lote0@email.com"))
+                .andExpect(jsonPath("$[19].email").value("lote19@email.com"))
+                .andExpect(jsonPath("$[19].id").isNumber());
+    }
+
+    @Test
+    void adicionarEmailsEmLoteDeveGravarEMudarVersao() throws Exception {
+        Long id = primeiraPessoa.getId();
+
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\": [{\"email\": \"x@email.com\"}, {\"email\": \"y@email.com\"}]}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/pessoas/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.emails.length()").value(EMAILS_POR_PESSOA + 2));
+        assertThat(emailRepository.findByPessoaId(id))
+                .extracting(Email::getEmail)
+                .contains("x@email.com", "y@email.com");
+    }
+
+    @Test
+    @SqlBudget(2)
+    void buscarPorEnderecoDeveUsarOIndiceEUmaConsultaDePessoas() throws Exception {
+        // Endereços pelo índice normalizado e a pessoa com os emails
+        mockMvc.perform(get("/api/emails").param("address", " PESSOA0.1@Email.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].email.email").value("pessoa0.1@email.com"))
+                .andExpect(jsonPath("$[0].pessoa.id").value(primeiraPessoa.getId()))
+                .andExpect(jsonPath("$[0].pessoa.emails.length()").value(EMAILS_POR_PESSOA));
+    }
+
+    @Test
+    void buscarPorEnderecoDeveEncontrarEmailsGravadosEmLote() throws Exception {
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}/lote", primeiraPessoa.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\": [{\"email\": \"Lote.Caixa@Email.com\"}]}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/emails").param("address", "lote.caixa@email.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email.email").value("Lote.Caixa@Email.com"))
+                .andExpect(jsonPath("$[0].pessoa.id").value(primeiraPessoa.getId()));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void buscarPorIdCondicionalDeveConsultarSoAVersao() throws Exception {
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void buscarPorIdCondicionalDeveUsarVersaoDaPessoaEmCache() throws Exception {
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/pessoas/{id}", primeiraPessoa.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void alterarEmailsDeveMudarEtagDaPessoaEDaListaDeEmails() throws Exception {
+        Long id = primeiraPessoa.getId();
+
+        mockMvc.perform(post("/api/emails/pessoa/{pessoaId}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"novo@email.com\"}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.emails.length()").value(EMAILS_POR_PESSOA + 1));
+        mockMvc.perform(get("/api/emails/pessoa/{pessoaId}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified());
+
+        // Só os emails mudam: a coleção alterada também incrementa a versão
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Pessoa Teste 0\", \"dataNascimento\": \"1990-01-01\", \"emails\": [{\"email\": \"novo@email.com\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.versao").value(2));
+        mockMvc.perform(get("/api/emails/pessoa/{pessoaId}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void atualizarComIfMatchDesatualizadoDeveFalharSemAlterarPessoa() throws Exception {
+        Long id = primeiraPessoa.getId();
+        String corpo = "{\"nome\": \"Nome Alterado\", \"dataNascimento\": \"1990-01-01\", \"emails\": []}";
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo.replace("Nome Alterado", "Outro Nome")))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(pessoaRepository.findById(id).orElseThrow().getNome()).isEqualTo("Nome Alterado");
+    }
+
+    @Test
+    void atualizarSemMudarNomeNaoDeveReindexarTrigramas() throws Exception {
+        Long id = primeiraPessoa.getId();
+        // Trigrama que a indexação nunca geraria: some se o índice da pessoa for refeito
+        jdbcTemplate.update("INSERT INTO pessoa_trigrama (trigrama, pessoa_id) VALUES ('zzz', ?)", id);
+        // Pessoa no cache de segundo nível, para o PUT carregá-la de lá
+        mockMvc.perform(get("/api/pessoas/{id}", id)).andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Pessoa Teste 0\", \"dataNascimento\": \"1985-05-05\", \"emails\": []}"))
+                .andExpect(status().isOk());
+
+        assertThat(trigramasDa(id)).contains("zzz");
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Nome Alterado\", \"dataNascimento\": \"1985-05-05\", \"emails\": []}"))
+                .andExpect(status().isOk());
+
+        assertThat(trigramasDa(id)).doesNotContain("zzz").contains("nom", "alt");
+    }
+
+    private List<String> trigramasDa(Long pessoaId) {
+        return jdbcTemplate.queryForList("SELECT trigrama FROM pessoa_trigrama WHERE pessoa_id = ?", String.class, pessoaId);
+    }
+
+    private Map<String, Long> idsPorEmail(Long pessoaId) {
+        return emailRepository.findByPessoaId(pessoaId).stream()
+                .collect(Collectors.toMap(Email::getEmail, Email::getId));
+    }
+
+    private double acertosNoCacheDePessoas() {
+        return meterRegistry.get("cache.gets").tag("cache", CacheConsultas.PESSOAS).tag("result", "hit").functionCounter().count();
+    }
+
+    private void limparDados() {
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+        trigramaRepository.deleteAllInBatch();
+        primeiraPessoa = null;
+    }
+}
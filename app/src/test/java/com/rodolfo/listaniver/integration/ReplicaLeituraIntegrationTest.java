@@ -0,0 +1,153 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.service.PessoaService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Dois H2 em memória no papel de primário e réplica, sem replicação entre eles: o que cada consulta
+// enxerga mostra para qual banco ela foi
+@SpringBootTest(properties = {
+        "lista-niver.replicas.habilitado=true",
+        "lista-niver.replicas.fontes[0].url=" + ReplicaLeituraIntegrationTest.URL_REPLICA,
+        "lista-niver.replicas.fontes[0].username=sa",
+        "lista-niver.replicas.fontes[0].password="
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração das leituras em réplica")
+public class ReplicaLeituraIntegrationTest {
+
+    static final String URL_REPLICA = "jdbc:h2:mem:replica-leitura;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private HikariDataSource primarioDataSource;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private MockMvc mockMvc;
+    private JdbcTemplate primario;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        primario = new JdbcTemplate(primarioDataSource);
+        replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", ""));
+
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+        trigramaRepository.deleteAllInBatch();
+        // Uma busca por ID servida pelo cache não chega a pedir conexão
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+
+        // A réplica recebe só o esquema do primário; os dados de cada teste são gravados nela à parte
+        replica.execute("DROP ALL OBJECTS");
+        primario.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void deveLerDaReplicaNasConsultasSomenteLeitura() throws Exception {
+        // Given
+        replica.update("INSERT INTO pessoa (id, nome, data_nascimento, mes_dia_nascimento, versao) VALUES (?, ?, ?, ?, 0)",
+                9001L, "Só na Réplica", LocalDate.of(1990, 5, 15), 515);
+        double leiturasAntes = leiturasReplica();
+
+        // When & Then
+        mockMvc.perform(get("/api/pessoas/{id}", 9001L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Só na Réplica"));
+        assertThat(primario.queryForObject("SELECT COUNT(*) FROM pessoa", Long.class)).isZero();
+        assertThat(leiturasReplica() - leiturasAntes).isEqualTo(1);
+    }
+
+    @Test
+    void deveGravarNoPrimario() throws Exception {
+        // When
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Gravada no Primário\",\"dataNascimento\":\"1985-03-10\",\"emails\":[{\"email\":\"primario@email.com\"}]}"))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertThat(primario.queryForObject("SELECT COUNT(*) FROM pessoa WHERE nome = 'Gravada no Primário'", Long.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM pessoa", Long.class)).isZero();
+    }
+
+    @Test
+    void deveLerDoPrimarioNaMesmaRequisicaoDepoisDeUmaEscrita() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        PessoaOutputDTO criada = pessoaService.criar(new PessoaInputDTO("Lida Depois de Gravar", LocalDate.of(1970, 1, 1),
+                Set.of(new EmailInputDTO("lida@email.com"))));
+
+        // When
+        PessoaLoteOutputDTO mesmaRequisicao = pessoaService.buscarPorIds(List.of(criada.id()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        PessoaLoteOutputDTO outraRequisicao = pessoaService.buscarPorIds(List.of(criada.id()));
+
+        // Then
+        assertThat(mesmaRequisicao.pessoas()).extracting(PessoaOutputDTO::id).containsExactly(criada.id());
+        assertThat(outraRequisicao.naoEncontrados()).containsExactly(criada.id());
+    }
+
+    private double leiturasReplica() {
+        return meterRegistry.get("lista.niver.replicas.leituras").tag("destino", "replica").counter().count();
+    }
+}
@@ -0,0 +1,217 @@
+package com.rodolfo.listaniver.integration;
+
+import com.rodolfo.listaniver.aniversario.EnvioSaudacaoMemoria;
+import com.rodolfo.listaniver.aniversario.SaudacoesAniversarioJob;
+import com.rodolfo.listaniver.aniversario.SaudacoesAniversarioJob.ResumoSaudacoes;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.entity.SaudacaoAniversario;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.repository.PessoaTrigramaRepository;
+import com.rodolfo.listaniver.repository.SaudacaoAniversarioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "lista-niver.aniversarios.tamanho-lote=3",
+        "lista-niver.aniversarios.paralelismo=2"
+})
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração do job de saudações de aniversário")
+public class SaudacoesAniversarioIntegrationTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2025, 5, 15);
+    private static final Instant HORARIO = Instant.parse("2025-05-15T11:00:00Z");
+
+    @Autowired
+    private SaudacoesAniversarioJob job;
+
+    @MockitoSpyBean
+    private EnvioSaudacaoMemoria envio;
+
+    @Autowired
+    private SaudacaoAniversarioRepository saudacaoRepository;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private EmailRepository emailRepository;
+
+    @Autowired
+    private PessoaTrigramaRepository trigramaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        saudacaoRepository.deleteAllInBatch();
+        emailRepository.deleteAllInBatch();
+        pessoaRepository.deleteAllInBatch();
+        trigramaRepository.deleteAllInBatch();
+        envio.limpar();
+        Mockito.reset(envio);
+    }
+
+    @Test
+    void deveSaudarAniversariantesDoDiaEmLotesComOsEmails() {
+        // Given
+        List<Long> aniversariantes = criarPessoas(7, LocalDate.of(1990, 5, 15));
+        criarPessoas(2, LocalDate.of(1990, 5, 16));
+        double enviadasAntes = contador("enviada");
+        long lotesAntes = meterRegistry.get("lista.niver.aniversarios.lote").timer().count();
+
+        // When
+        ResumoSaudacoes resumo = job.executar(HOJE, HORARIO);
+
+        // Then
+        assertThat(resumo).isEqualTo(new ResumoSaudacoes(HOJE, 7, 0));
+        assertThat(envio.saudacoes())
+                .extracting(EnvioSaudacaoMemoria.Saudacao::pessoaId)
+                .containsExactlyInAnyOrderElementsOf(aniversariantes);
+        assertThat(envio.saudacoes().getFirst().emails()).hasSize(2);
+        assertThat(saudacaoRepository.count()).isEqualTo(7);
+        assertThat(contador("enviada") - enviadasAntes).isEqualTo(7);
+        assertThat(meterRegistry.get("lista.niver.aniversarios.lote").timer().count() - lotesAntes).isEqualTo(3);
+        assertThat(meterRegistry.get("lista.niver.aniversarios.pendentes").gauge().value()).isZero();
+    }
+
+    @Test
+    void deveRetomarSemSaudarNovamenteQuemJaTemRegistroNoDia() {
+        // Given
+        List<Long> aniversariantes = criarPessoas(5, LocalDate.of(1985, 5, 15));
+        aniversariantes.subList(0, 3).forEach(id -> saudacaoRepository.registrar(id, HOJE, HORARIO));
+
+        // When
+        ResumoSaudacoes resumo = job.executar(HOJE, HORARIO);
+        ResumoSaudacoes repeticao = job.executar(HOJE, HORARIO);
+
+        // Then
+        assertThat(resumo.enviadas()).isEqualTo(2);
+        assertThat(repeticao.enviadas()).isZero();
+        assertThat(envio.saudacoes())
+                .extracting(EnvioSaudacaoMemoria.Saudacao::pessoaId)
+                .containsExactlyInAnyOrderElementsOf(aniversariantes.subList(3, 5));
+    }
+
+    @Test
+    void deveSaudarNascidosEm29DeFevereiroEm28DeFevereiroDeAnoNaoBissexto() {
+        // Given
+        List<Long> bissextos = criarPessoas(1, LocalDate.of(1992, 2, 29));
+        List<Long> vinteEOito = criarPessoas(1, LocalDate.of(1990, 2, 28));
+
+        // When
+        ResumoSaudacoes naoBissexto = job.executar(LocalDate.of(2025, 2, 28), HORARIO);
+        ResumoSaudacoes bissexto = job.executar(LocalDate.of(2028, 2, 28), HORARIO);
+
+        // Then
+        assertThat(naoBissexto.enviadas()).isEqualTo(2);
+        assertThat(bissexto.enviadas()).isEqualTo(1);
+        assertThat(envio.saudacoes())
+                .extracting(EnvioSaudacaoMemoria.Saudacao::pessoaId)
+                .containsExactly(bissextos.getFirst(), vinteEOito.getFirst(), vinteEOito.getFirst());
+    }
+
+    @Test
+    void deveManterPendenteQuemFalhouNoEnvioParaAProximaExecucao() {
+        // Given
+        List<Long> aniversariantes = criarPessoas(4, LocalDate.of(2000, 5, 15));
+        Long falha = aniversariantes.get(1);
+        doThrow(new IllegalStateException("servidor de email fora do ar"))
+                .when(envio).enviar(argThat(pessoa -> pessoa.id().equals(falha)), any());
+        double falhasAntes = contador("falha");
+
+        // When
+        ResumoSaudacoes primeira = job.executar(HOJE, HORARIO);
+        boolean reservadaAposFalha = saudacaoRepository.existsById(new SaudacaoAniversario.Chave(falha, HOJE));
+        Mockito.reset(envio);
+        ResumoSaudacoes segunda = job.executar(HOJE, HORARIO);
+
+        // Then
+        assertThat(primeira).isEqualTo(new ResumoSaudacoes(HOJE, 3, 1));
+        assertThat(reservadaAposFalha).isFalse();
+        assertThat(segunda).isEqualTo(new ResumoSaudacoes(HOJE, 1, 0));
+        assertThat(contador("falha") - falhasAntes).isEqualTo(1);
+        assertThat(envio.saudacoes().getLast().pessoaId()).isEqualTo(falha);
+        assertThat(saudacaoRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void naoDeveSaudarQuemOutraInstanciaReservouDepoisDaPaginacao() {
+        // Given: enquanto saúda a primeira pessoa do lote, outra instância reserva a segunda
+        List<Long> aniversariantes = criarPessoas(3, LocalDate.of(1995, 5, 15));
+        Long primeira = aniversariantes.get(0);
+        Long reservada = aniversariantes.get(1);
+        doAnswer(invocation -> {
+            saudacaoRepository.registrar(reservada, HOJE, HORARIO);
+            return invocation.callRealMethod();
+        }).when(envio).enviar(argThat(pessoa -> pessoa.id().equals(primeira)), any());
+        double ignoradasAntes = contador("ignorada");
+
+        // When
+        ResumoSaudacoes resumo = job.executar(HOJE, HORARIO);
+
+        // Then
+        assertThat(resumo).isEqualTo(new ResumoSaudacoes(HOJE, 2, 0));
+        assertThat(envio.saudacoes())
+                .extracting(EnvioSaudacaoMemoria.Saudacao::pessoaId)
+                .containsExactly(primeira, aniversariantes.get(2));
+        assertThat(contador("ignorada") - ignoradasAntes).isEqualTo(1);
+        assertThat(saudacaoRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void deveRemoverRegistrosAnterioresARetencao() {
+        // Given
+        Long pessoa = criarPessoas(1, LocalDate.of(1970, 1, 1)).getFirst();
+        saudacaoRepository.registrar(pessoa, HOJE.minusDays(8), HORARIO);
+        saudacaoRepository.registrar(pessoa, HOJE.minusDays(7), HORARIO);
+
+        // When
+        job.executar(HOJE, HORARIO);
+
+        // Then
+        assertThat(saudacaoRepository.findAll())
+                .extracting(SaudacaoAniversario::getDia)
+                .containsExactly(HOJE.minusDays(7));
+    }
+
+    private List<Long> criarPessoas(int quantidade, LocalDate dataNascimento) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome("Aniversariante " + dataNascimento + " " + i);
+            pessoa.setDataNascimento(dataNascimento);
+            pessoa.setEmails(Set.of(
+                    new Email(null, "pessoa" + i + "@email.com", pessoa),
+                    new Email(null, "pessoa" + i + "@trabalho.com", pessoa)));
+            ids.add(pessoaRepository.save(pessoa).getId());
+        }
+        return ids;
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.get("lista.niver.aniversarios.saudacoes").tag("resultado", resultado).counter().count();
+    }
+}
@@ -0,0 +1,88 @@
+package com.rodolfo.listaniver.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do limite de taxa dos logs")
+public class LimiteTaxaLogFilterTest {
+
+    private final AtomicLong agora = new AtomicLong(1_000_000);
+    private final LoggerContext contexto = new LoggerContext();
+    private LimiteTaxaLogFilter filtro;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filtro = new LimiteTaxaLogFilter(agora::get);
+        filtro.setEventosPorSegundo(3);
+        filtro.setAmostragem(0);
+        filtro.start();
+        logger = contexto.getLogger("com.rodolfo.listaniver.Teste");
+        logger.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    void deveDescartarEventosAcimaDoLimiteNoMesmoSegundo() {
+        // Given
+        long descartesAntes = DescartesLog.limiteTaxa();
+
+        // When
+        long aceitos = IntStream.range(0, 10).filter(i -> decidir(logger, Level.INFO) == FilterReply.NEUTRAL).count();
+
+        // Then
+        assertThat(aceitos).isEqualTo(3);
+        assertThat(DescartesLog.limiteTaxa() - descartesAntes).isEqualTo(7);
+    }
+
+    @Test
+    void deveLiberarNovaCotaNoSegundoSeguinte() {
+        // Given
+        IntStream.range(0, 5).forEach(i -> decidir(logger, Level.INFO));
+
+        // When
+        agora.addAndGet(1000);
+
+        // Then
+        assertThat(decidir(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void deveAmostrarEventosAcimaDoLimite() {
+        // Given
+        filtro.setAmostragem(4);
+
+        // When
+        long aceitos = IntStream.range(0, 11).filter(i -> decidir(logger, Level.DEBUG) == FilterReply.NEUTRAL).count();
+
+        // Then
+        assertThat(aceitos).isEqualTo(5);
+    }
+
+    @Test
+    void naoDeveLimitarWarnNemEventosDesabilitadosOuDeOutrosLoggers() {
+        // Given
+        logger.setLevel(Level.INFO);
+        IntStream.range(0, 3).forEach(i -> decidir(logger, Level.INFO));
+
+        // When & Then
+        assertThat(decidir(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(contexto.getLogger("outro"), Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decidir(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+    }
+
+    private FilterReply decidir(Logger alvo, Level nivel) {
+        return filtro.decide(null, alvo, nivel, "mensagem", null, null);
+    }
+}
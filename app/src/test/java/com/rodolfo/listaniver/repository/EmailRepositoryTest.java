@@ -1,11 +1,13 @@
 package com.rodolfo.listaniver.repository;
 
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
 import com.rodolfo.listaniver.entity.Email;
 import com.rodolfo.listaniver.entity.Pessoa;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -125,4 +127,54 @@ public class EmailRepositoryTest {
         assertThat(emailsPessoa2).hasSize(1);
         assertThat(emailsPessoa2.getFirst().getEmail()).isEqualTo("maria@email.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByEmailNormalizadoDeveEncontrarEnderecoSemDiferenciarCaixaEmTodasAsPessoas() {
+        // Given
+        Pessoa pessoa1 = new Pessoa();
+        pessoa1.setNome("João Silva");
+        pessoa1.setDataNascimento(LocalDate.of(1990, 1, 1));
+        entityManager.persist(pessoa1);
+
+        Pessoa pessoa2 = new Pessoa();
+        pessoa2.setNome("Maria Santos");
+        pessoa2.setDataNascimento(LocalDate.of(1985, 5, 10));
+        entityManager.persist(pessoa2);
+
+        Email email1 = new Email(null, "Familia.Silva@Email.com", pessoa1);
+        Email email2 = new Email(null, "familia.silva@email.com ", pessoa2);
+        entityManager.persist(email1);
+        entityManager.persist(email2);
+        entityManager.persistAndFlush(new Email(null, "joao@email.com", pessoa1));
+
+        // When
+        List<EmailOutputDTO> result = repository.findByEmailNormalizado("familia.silva@email.com", Limit.of(10));
+
+        // Then
+        assertThat(result).containsExactly(
+                new EmailOutputDTO(email1.getId(), "Familia.Silva@Email.com", pessoa1.getId()),
+                new EmailOutputDTO(email2.getId(), "familia.silva@email.com ", pessoa2.getId()));
+    }
+
+    @Test
+    void preencherEmailNormalizadoDevePreencherSomenteEmailsSemONormalizado() {
+        // Given
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome("João Silva");
+        pessoa.setDataNascimento(LocalDate.of(1990, 1, 1));
+        entityManager.persistAndFlush(pessoa);
+        entityManager.getEntityManager()
+                .createNativeQuery("INSERT INTO email (email, pessoa_id) VALUES ('Joao@Email.com', :pessoaId)")
+                .setParameter("pessoaId", pessoa.getId())
+                .executeUpdate();
+
+        // When
+        int atualizados = repository.preencherEmailNormalizado();
+
+        // Then
+        assertThat(atualizados).isEqualTo(1);
+        assertThat(repository.findByEmailNormalizado("joao@email.com", Limit.of(10)))
+                .extracting(EmailOutputDTO::email)
+                .containsExactly("Joao@Email.com");
+    }
+}
@@ -0,0 +1,111 @@
+package com.rodolfo.listaniver.repository;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.leitura.PosicaoPessoa;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class PessoaLeituraRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PessoaLeituraRepository repository;
+
+    @Test
+    void findLinhasByIdInDeveMontarPessoasComEmailsSemCarregarEntidades() {
+        // Given
+        Pessoa joao = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15), "joao@email.com", "joao.silva@email.com");
+        Pessoa maria = persistirPessoa("Maria Santos", LocalDate.of(1985, 8, 22));
+        entityManager.clear();
+
+        // When
+        Map<Long, PessoaOutputDTO> pessoas = LinhaPessoa.agrupar(repository.findLinhasByIdIn(List.of(joao.getId(), maria.getId())));
+
+        // Then
+        assertThat(pessoas).hasSize(2);
+        assertThat(pessoas.get(joao.getId()).emails()).extracting(EmailOutputDTO::email)
+                .containsExactlyInAnyOrder("joao@email.com", "joao.silva@email.com");
+        assertThat(pessoas.get(joao.getId()).versao()).isZero();
+        assertThat(pessoas.get(maria.getId()).emails()).isEmpty();
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void findPosicoesAposNomeDeveRetornarPessoasAposCursor() {
+        // Given
+        Pessoa ana = persistirPessoa("Ana Costa", LocalDate.of(1988, 3, 7));
+        Pessoa joao1 = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15));
+        Pessoa joao2 = persistirPessoa("João Silva", LocalDate.of(1991, 6, 16));
+        Pessoa maria = persistirPessoa("Maria Santos", LocalDate.of(1985, 8, 22));
+
+        // When
+        List<PosicaoPessoa> primeiraPagina = repository.findPosicoesOrdenadasPorNome(Limit.of(2));
+        List<PosicaoPessoa> segundaPagina = repository.findPosicoesAposNome(joao1.getNome(), joao1.getId(), Limit.of(2));
+
+        // Then
+        assertThat(primeiraPagina).containsExactly(
+                new PosicaoPessoa(ana.getId(), "Ana Costa"), new PosicaoPessoa(joao1.getId(), "João Silva"));
+        assertThat(segundaPagina).extracting(PosicaoPessoa::id).containsExactly(joao2.getId(), maria.getId());
+    }
+
+    @Test
+    void findPosicoesAposDataNascimentoDeveDesempatarPeloId() {
+        // Given
+        Pessoa pessoa1 = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15));
+        Pessoa pessoa2 = persistirPessoa("Maria Santos", LocalDate.of(1990, 5, 15));
+        Pessoa pessoa3 = persistirPessoa("Ana Costa", LocalDate.of(1980, 1, 1));
+
+        // When
+        List<PosicaoPessoa> primeiraPagina = repository.findPosicoesOrdenadasPorDataNascimento(Limit.of(2));
+        List<PosicaoPessoa> segundaPagina = repository.findPosicoesAposDataNascimento(pessoa1.getDataNascimento(), pessoa1.getId(), Limit.of(2));
+
+        // Then
+        assertThat(primeiraPagina).containsExactly(
+                new PosicaoPessoa(pessoa3.getId(), "1980-01-01"), new PosicaoPessoa(pessoa1.getId(), "1990-05-15"));
+        assertThat(segundaPagina).extracting(PosicaoPessoa::id).containsExactly(pessoa2.getId());
+    }
+
+    @Test
+    void findPosicoesAposIdDeveRespeitarLimite() {
+        // Given
+        Pessoa pessoa1 = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15));
+        Pessoa pessoa2 = persistirPessoa("Maria Santos", LocalDate.of(1985, 8, 22));
+        Pessoa pessoa3 = persistirPessoa("Ana Costa", LocalDate.of(1988, 3, 7));
+
+        // When
+        List<PosicaoPessoa> result = repository.findPosicoesAposId(pessoa1.getId(), Limit.of(1));
+
+        // Then
+        assertThat(result).containsExactly(new PosicaoPessoa(pessoa2.getId()));
+        assertThat(pessoa3.getId()).isGreaterThan(pessoa2.getId());
+    }
+
+    private Pessoa persistirPessoa(String nome, LocalDate dataNascimento, String... emails) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome(nome);
+        pessoa.setDataNascimento(dataNascimento);
+        pessoa.setEmails(new HashSet<>());
+        for (String email : emails) {
+            pessoa.getEmails().add(new Email(null, email, pessoa));
+        }
+        return entityManager.persistAndFlush(pessoa);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,34 +22,22 @@ public class PessoaRepositoryTest {
     private PessoaRepository repository;
 
     @Test
-    void findByNomeContainingIgnoreCaseDeveRetornarPessoasComNomeContendo() {
+    void existsByNomeAndDataNascimentoDeveRetornarTrueQuandoExistir() {
         // Given
-        Pessoa pessoa1 = new Pessoa();
-        pessoa1.setNome("João Silva");
-        pessoa1.setDataNascimento(LocalDate.of(1990, 1, 1));
-        entityManager.persistAndFlush(pessoa1);
-
-        Pessoa pessoa2 = new Pessoa();
-        pessoa2.setNome("Maria João");
-        pessoa2.setDataNascimento(LocalDate.of(1985, 5, 10));
-        entityManager.persistAndFlush(pessoa2);
-
-        Pessoa pessoa3 = new Pessoa();
-        pessoa3.setNome("Pedro Santos");
-        pessoa3.setDataNascimento(LocalDate.of(1992, 3, 15));
-        entityManager.persistAndFlush(pessoa3);
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome("João Silva");
+        pessoa.setDataNascimento(LocalDate.of(1990, 1, 1));
+        entityManager.persistAndFlush(pessoa);
 
         // When
-        List<Pessoa> result = repository.findByNomeContainingIgnoreCase("joão");
+        boolean exists = repository.existsByNomeAndDataNascimento("João Silva", LocalDate.of(1990, 1, 1));
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result).extracting(Pessoa::getNome)
-                .containsExactlyInAnyOrder("João Silva", "Maria João");
+        assertThat(exists).isTrue();
     }
 
     @Test
-    void findByNomeContainingIgnoreCaseDeveRetornarListaVaziaQuandoNaoEncontrar() {
+    void existsByNomeAndDataNascimentoDeveRetornarFalseQuandoNaoExistir() {
         // Given
         Pessoa pessoa = new Pessoa();
         pessoa.setNome("João Silva");
@@ -56,14 +45,14 @@ public class PessoaRepositoryTest {
         entityManager.persistAndFlush(pessoa);
 
         // When
-        List<Pessoa> result = repository.findByNomeContainingIgnoreCase("inexistente");
+        boolean exists = repository.existsByNomeAndDataNascimento("Maria Santos", LocalDate.of(1990, 1, 1));
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(exists).isFalse();
     }
 
     @Test
-    void existsByNomeAndDataNascimentoDeveRetornarTrueQuandoExistir() {
+    void existsByNomeAndDataNascimentoDeveRetornarFalseQuandoNomeIgualMasDataDiferente() {
         // Given
         Pessoa pessoa = new Pessoa();
         pessoa.setNome("João Silva");
@@ -71,39 +60,48 @@ public class PessoaRepositoryTest {
         entityManager.persistAndFlush(pessoa);
 
         // When
-        boolean exists = repository.existsByNomeAndDataNascimento("João Silva", LocalDate.of(1990, 1, 1));
+        boolean exists = repository.existsByNomeAndDataNascimento("João Silva", LocalDate.of(1991, 1, 1));
 
         // Then
-        assertThat(exists).isTrue();
+        assertThat(exists).isFalse();
     }
 
     @Test
-    void existsByNomeAndDataNascimentoDeveRetornarFalseQuandoNaoExistir() {
+    void findByMesDiaNascimentoDeveRetornarAniversariantesEmOrdemCronologica() {
         // Given
-        Pessoa pessoa = new Pessoa();
-        pessoa.setNome("João Silva");
-        pessoa.setDataNascimento(LocalDate.of(1990, 1, 1));
-        entityManager.persistAndFlush(pessoa);
+        Pessoa maio20 = persistirPessoa("Maria Santos", LocalDate.of(1985, 5, 20));
+        Pessoa maio15 = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15));
+        persistirPessoa("Ana Costa", LocalDate.of(1988, 3, 7));
 
         // When
-        boolean exists = repository.existsByNomeAndDataNascimento("Maria Santos", LocalDate.of(1990, 1, 1));
+        List<Pessoa> result = repository.findByMesDiaNascimentoBetweenOrderByMesDiaNascimentoAscIdAsc(510, 531, Limit.of(10));
 
         // Then
-        assertThat(exists).isFalse();
+        assertThat(result).extracting(Pessoa::getId).containsExactly(maio15.getId(), maio20.getId());
     }
 
     @Test
-    void existsByNomeAndDataNascimentoDeveRetornarFalseQuandoNomeIgualMasDataDiferente() {
+    void preencherMesDiaNascimentoDeveCalcularChaveDasPessoasSemChave() {
         // Given
-        Pessoa pessoa = new Pessoa();
-        pessoa.setNome("João Silva");
-        pessoa.setDataNascimento(LocalDate.of(1990, 1, 1));
-        entityManager.persistAndFlush(pessoa);
+        Pessoa pessoa = persistirPessoa("João Silva", LocalDate.of(1990, 5, 15));
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE pessoa SET mes_dia_nascimento = NULL")
+                .executeUpdate();
+        entityManager.clear();
 
         // When
-        boolean exists = repository.existsByNomeAndDataNascimento("João Silva", LocalDate.of(1991, 1, 1));
+        int atualizadas = repository.preencherMesDiaNascimento();
+        entityManager.clear();
 
         // Then
-        assertThat(exists).isFalse();
+        assertThat(atualizadas).isEqualTo(1);
+        assertThat(repository.findById(pessoa.getId()).orElseThrow().getMesDiaNascimento()).isEqualTo(515);
+    }
+
+    private Pessoa persistirPessoa(String nome, LocalDate dataNascimento) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome(nome);
+        pessoa.setDataNascimento(dataNascimento);
+        return entityManager.persistAndFlush(pessoa);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,186 @@
+package com.rodolfo.listaniver.roteamento;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do roteamento entre primário e réplicas")
+public class RoteamentoDataSourceTest {
+
+    private static final Instant AGORA = Instant.parse("2025-05-15T11:00:00Z");
+
+    @Mock
+    private DataSource primario;
+
+    @Mock
+    private DataSource replica1;
+
+    @Mock
+    private DataSource replica2;
+
+    @Mock
+    private Clock clock;
+
+    private final Connection conexaoPrimario = mock(Connection.class);
+    private final Connection conexaoReplica1 = mock(Connection.class);
+    private final Connection conexaoReplica2 = mock(Connection.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void deveUsarPrimarioForaDeTransacaoSomenteLeitura() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(true, replica1);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        transacao(false);
+
+        // When
+        Connection conexao = roteamento.getConnection();
+
+        // Then
+        assertThat(conexao).isSameAs(conexaoPrimario);
+        verify(replica1, never()).getConnection();
+    }
+
+    @Test
+    void deveAlternarEntreReplicasNasTransacoesSomenteLeitura() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(true, replica1, replica2);
+        when(clock.instant()).thenReturn(AGORA);
+        when(replica1.getConnection()).thenReturn(conexaoReplica1);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+        transacao(true);
+
+        // When & Then
+        assertThat(roteamento.getConnection()).isSameAs(conexaoReplica1);
+        assertThat(roteamento.getConnection()).isSameAs(conexaoReplica2);
+        assertThat(roteamento.getConnection()).isSameAs(conexaoReplica1);
+        assertThat(leituras("replica", "rodizio")).isEqualTo(3);
+    }
+
+    @Test
+    void deveCairNoPrimarioQuandoNenhumaReplicaEntregaConexao() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(true, replica1, replica2);
+        when(clock.instant()).thenReturn(AGORA);
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(replica2.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        transacao(true);
+
+        // When
+        Connection conexao = roteamento.getConnection();
+
+        // Then
+        assertThat(conexao).isSameAs(conexaoPrimario);
+        assertThat(roteamento.disponiveis()).isZero();
+        assertThat(leituras("primario", "failover")).isEqualTo(1);
+    }
+
+    @Test
+    void deveDeixarReplicaComFalhaForaDoRodizioAteAEsperaPassar() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(true, replica1, replica2);
+        when(clock.instant()).thenReturn(AGORA);
+        when(replica1.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(conexaoReplica1);
+        when(replica2.getConnection()).thenReturn(conexaoReplica2);
+        transacao(true);
+
+        // When
+        Connection primeira = roteamento.getConnection();
+        Connection segunda = roteamento.getConnection();
+        Connection terceira = roteamento.getConnection();
+        when(clock.instant()).thenReturn(AGORA.plusSeconds(30));
+        List<Connection> aposEspera = List.of(roteamento.getConnection(), roteamento.getConnection());
+
+        // Then
+        assertThat(List.of(primeira, segunda, terceira)).containsOnly(conexaoReplica2);
+        assertThat(aposEspera).containsExactly(conexaoReplica2, conexaoReplica1);
+        assertThat(roteamento.disponiveis()).isEqualTo(2);
+    }
+
+    @Test
+    void deveLerDoPrimarioNaMesmaRequisicaoDepoisDeUmaEscrita() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(true, replica1);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        transacao(false);
+        roteamento.getConnection();
+
+        // When
+        transacao(true);
+        Connection leitura = roteamento.getConnection();
+
+        // Then
+        assertThat(leitura).isSameAs(conexaoPrimario);
+        verify(replica1, never()).getConnection();
+        assertThat(leituras("primario", "apos-escrita")).isEqualTo(1);
+    }
+
+    @Test
+    void deveLerDaReplicaDepoisDeUmaEscritaSemAderencia() throws SQLException {
+        // Given
+        RoteamentoDataSource roteamento = roteamento(false, replica1);
+        when(clock.instant()).thenReturn(AGORA);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replica1.getConnection()).thenReturn(conexaoReplica1);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        transacao(false);
+        roteamento.getConnection();
+
+        // When
+        transacao(true);
+        Connection leitura = roteamento.getConnection();
+
+        // Then
+        assertThat(leitura).isSameAs(conexaoReplica1);
+    }
+
+    private RoteamentoDataSource roteamento(boolean aderirAposEscrita, DataSource... replicas) {
+        return new RoteamentoDataSource(primario, List.of(replicas), aderirAposEscrita, Duration.ofSeconds(30), clock, registry);
+    }
+
+    private static void transacao(boolean somenteLeitura) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(somenteLeitura);
+    }
+
+    private double leituras(String destino, String motivo) {
+        return registry.get("lista.niver.replicas.leituras").tag("destino", destino).tag("motivo", motivo).counter().count();
+    }
+}
@@ -1,27 +1,40 @@
 package com.rodolfo.listaniver.service;
 
 
+import com.rodolfo.listaniver.cache.CacheConsultas;
 import com.rodolfo.listaniver.dto.EmailInputDTO;
 import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.EmailPessoaOutputDTO;
 import com.rodolfo.listaniver.entity.Email;
 import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
 import com.rodolfo.listaniver.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
 import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaJdbcRepository;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
 import com.rodolfo.listaniver.repository.PessoaRepository;
 import com.rodolfo.listaniver.service.impl.EmailServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -35,6 +48,18 @@ public class EmailServiceTest {
     @Mock
     private PessoaRepository pessoaRepository;
 
+    @Mock
+    private PessoaJdbcRepository jdbcRepository;
+
+    @Mock
+    private PessoaLeituraRepository leitura;
+
+    @Mock
+    private CacheConsultas cache;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private EmailServiceImpl emailService;
 
@@ -72,6 +97,7 @@ public class EmailServiceTest {
 
         verify(pessoaRepository).findById(pessoaId);
         verify(emailRepository).save(any(Email.class));
+        verify(entityManager).lock(pessoa, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
     }
 
     @Test
@@ -91,6 +117,77 @@ public class EmailServiceTest {
         verify(emailRepository, never()).save(any(Email.class));
     }
 
+    @Test
+    void adicionarEmailsDeveInserirSoOsEnderecosNovosNaOrdemRecebida() {
+        // Given
+        Long pessoaId = 1L;
+        List<EmailInputDTO> emails = List.of(new EmailInputDTO("c@email.com"), new EmailInputDTO("a@email.com"),
+                new EmailInputDTO("b@email.com"), new EmailInputDTO("c@email.com"));
+        Pessoa pessoa = new Pessoa();
+        given(entityManager.find(Pessoa.class, pessoaId, LockModeType.PESSIMISTIC_WRITE)).willReturn(pessoa);
+        given(emailRepository.findEnderecosByPessoaId(pessoaId)).willReturn(List.of("a@email.com"));
+        given(jdbcRepository.inserirEmails(pessoaId, List.of("c@email.com", "b@email.com")))
+                .willReturn(Map.of("b@email.com", 11L, "c@email.com", 10L));
+
+        // When
+        List<EmailOutputDTO> result = emailService.adicionarEmails(pessoaId, emails);
+
+        // Then
+        assertThat(result).containsExactly(
+                new EmailOutputDTO(10L, "c@email.com", pessoaId),
+                new EmailOutputDTO(11L, "b@email.com", pessoaId));
+        verify(entityManager).lock(pessoa, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        verify(cache).invalidarPessoa(pessoaId);
+    }
+
+    @Test
+    void adicionarEmailsDeveIgnorarEnderecosQueSoDiferemNaCaixaOuNosEspacos() {
+        // Given
+        Long pessoaId = 1L;
+        List<EmailInputDTO> emails = List.of(new EmailInputDTO("Novo@Email.com"), new EmailInputDTO(" A@EMAIL.com"),
+                new EmailInputDTO("novo@email.com "));
+        given(entityManager.find(Pessoa.class, pessoaId, LockModeType.PESSIMISTIC_WRITE)).willReturn(new Pessoa());
+        given(emailRepository.findEnderecosByPessoaId(pessoaId)).willReturn(List.of("a@email.com"));
+        given(jdbcRepository.inserirEmails(pessoaId, List.of("Novo@Email.com"))).willReturn(Map.of("Novo@Email.com", 10L));
+
+        // When
+        List<EmailOutputDTO> result = emailService.adicionarEmails(pessoaId, emails);
+
+        // Then
+        assertThat(result).containsExactly(new EmailOutputDTO(10L, "Novo@Email.com", pessoaId));
+    }
+
+    @Test
+    void adicionarEmailsNaoDeveMudarAVersaoQuandoNenhumEnderecoENovo() {
+        // Given
+        Long pessoaId = 1L;
+        given(entityManager.find(Pessoa.class, pessoaId, LockModeType.PESSIMISTIC_WRITE)).willReturn(new Pessoa());
+        given(emailRepository.findEnderecosByPessoaId(pessoaId)).willReturn(List.of("a@email.com"));
+
+        // When
+        List<EmailOutputDTO> result = emailService.adicionarEmails(pessoaId, List.of(new EmailInputDTO("A@email.com")));
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(entityManager, never()).lock(any(), any());
+        verify(jdbcRepository, never()).inserirEmails(any(), any());
+        verify(cache, never()).invalidarPessoa(any());
+    }
+
+    @Test
+    void adicionarEmailsDeveLancarRecordNotFoundExceptionQuandoPessoaNaoExiste() {
+        // Given
+        Long pessoaId = 999L;
+        given(entityManager.find(Pessoa.class, pessoaId, LockModeType.PESSIMISTIC_WRITE)).willReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> emailService.adicionarEmails(pessoaId, List.of(new EmailInputDTO("a@email.com"))))
+                .isInstanceOf(RecordNotFoundException.class)
+                .hasMessage("Pessoa not found with id: " + pessoaId);
+
+        verify(jdbcRepository, never()).inserirEmails(any(), any());
+    }
+
     @Test
     void listarEmailsPorPessoaDeveRetornarListaEmailsQuandoPessoaExiste() {
         // Given
@@ -111,7 +208,7 @@ public class EmailServiceTest {
 
         List<Email> emails = List.of(email1, email2);
 
-        given(pessoaRepository.existsById(pessoaId)).willReturn(true);
+        given(pessoaRepository.findVersaoById(pessoaId)).willReturn(Optional.of(3L));
         given(emailRepository.findByPessoaId(pessoaId)).willReturn(emails);
 
         // When
@@ -124,7 +221,7 @@ public class EmailServiceTest {
         assertThat(result.get(1).id()).isEqualTo(2L);
         assertThat(result.get(1).email()).isEqualTo("email2@test.com");
 
-        verify(pessoaRepository).existsById(pessoaId);
+        verify(pessoaRepository).findVersaoById(pessoaId);
         verify(emailRepository).findByPessoaId(pessoaId);
     }
 
@@ -133,14 +230,14 @@ public class EmailServiceTest {
         // Given
         Long pessoaId = 999L;
 
-        given(pessoaRepository.existsById(pessoaId)).willReturn(false);
+        given(pessoaRepository.findVersaoById(pessoaId)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> emailService.listarEmailsPorPessoa(pessoaId))
                 .isInstanceOf(RecordNotFoundException.class)
                 .hasMessage("Pessoa not found with id: " + pessoaId);
 
-        verify(pessoaRepository).existsById(pessoaId);
+        verify(pessoaRepository).findVersaoById(pessoaId);
         verify(emailRepository, never()).findByPessoaId(pessoaId);
     }
 
@@ -158,6 +255,7 @@ public class EmailServiceTest {
         email.setPessoa(pessoa);
 
         given(emailRepository.findById(emailId)).willReturn(Optional.of(email));
+        repassarCache(emailId);
 
         // When
         EmailOutputDTO result = emailService.buscarPorId(emailId);
@@ -177,6 +275,7 @@ public class EmailServiceTest {
         Long emailId = 999L;
 
         given(emailRepository.findById(emailId)).willReturn(Optional.empty());
+        repassarCache(emailId);
 
         // When & Then
         assertThatThrownBy(() -> emailService.buscarPorId(emailId))
@@ -244,14 +343,22 @@ public class EmailServiceTest {
         // Given
         Long emailId = 1L;
 
-        given(emailRepository.existsById(emailId)).willReturn(true);
+        Pessoa pessoa = new Pessoa();
+        pessoa.setId(2L);
+
+        Email email = new Email();
+        email.setId(emailId);
+        email.setPessoa(pessoa);
+
+        given(emailRepository.findById(emailId)).willReturn(Optional.of(email));
 
         // When
         emailService.removerEmail(emailId);
 
         // Then
-        verify(emailRepository).existsById(emailId);
-        verify(emailRepository).deleteById(emailId);
+        verify(emailRepository).findById(emailId);
+        verify(emailRepository).delete(email);
+        verify(cache).invalidarEmail(emailId, 2L);
     }
 
     @Test
@@ -259,14 +366,61 @@ public class EmailServiceTest {
         // Given
         Long emailId = 999L;
 
-        given(emailRepository.existsById(emailId)).willReturn(false);
+        given(emailRepository.findById(emailId)).willReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> emailService.removerEmail(emailId))
                 .isInstanceOf(RecordNotFoundException.class)
                 .hasMessage("Email not found with id: " + emailId);
 
-        verify(emailRepository).existsById(emailId);
-        verify(emailRepository, never()).deleteById(emailId);
+        verify(emailRepository).findById(emailId);
+        verify(emailRepository, never()).delete(any(Email.class));
+        verify(cache, never()).invalidarEmail(any(), any());
+    }
+
+    @Test
+    void buscarPorEnderecoDeveNormalizarEnderecoERetornarEmailComAPessoa() {
+        // Given
+        EmailOutputDTO email = new EmailOutputDTO(10L, "Joao@Email.com", 1L);
+        given(emailRepository.findByEmailNormalizado("joao@email.com", Limit.of(100))).willReturn(List.of(email));
+        given(leitura.findLinhasByIdIn(any())).willReturn(List.of(
+                new LinhaPessoa(1L, "João Silva", LocalDate.of(1990, 1, 1), 3L, 10L, "Joao@Email.com"),
+                new LinhaPessoa(1L, "João Silva", LocalDate.of(1990, 1, 1), 3L, 11L, "joao@trabalho.com")));
+
+        // When
+        List<EmailPessoaOutputDTO> result = emailService.buscarPorEndereco("  JOAO@email.com ");
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().email()).isEqualTo(email);
+        assertThat(result.getFirst().pessoa().nome()).isEqualTo("João Silva");
+        assertThat(result.getFirst().pessoa().emails()).hasSize(2);
+    }
+
+    @Test
+    void buscarPorEnderecoDeveRetornarListaVaziaSemConsultarPessoasQuandoEnderecoNaoExiste() {
+        // Given
+        given(emailRepository.findByEmailNormalizado(anyString(), any(Limit.class))).willReturn(List.of());
+
+        // When
+        List<EmailPessoaOutputDTO> result = emailService.buscarPorEndereco("ninguem@email.com");
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(leitura, never()).findLinhasByIdIn(any());
+    }
+
+    @Test
+    void buscarPorEnderecoDeveLancarInvalidPageRequestExceptionQuandoEnderecoEmBranco() {
+        // When & Then
+        assertThatThrownBy(() -> emailService.buscarPorEndereco("   "))
+                .isInstanceOf(InvalidPageRequestException.class);
+
+        verify(emailRepository, never()).findByEmailNormalizado(anyString(), any(Limit.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void repassarCache(Long emailId) {
+        given(cache.email(eq(emailId), any())).willAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
     }
-}
\ No newline at end of file
+}
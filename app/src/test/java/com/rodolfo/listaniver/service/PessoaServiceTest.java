@@ -0,0 +1,527 @@
+package com.rodolfo.listaniver.service;
+
+import com.rodolfo.listaniver.cache.CacheConsultas;
+import com.rodolfo.listaniver.dto.EmailInputDTO;
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaInputDTO;
+import com.rodolfo.listaniver.dto.PessoaLoteOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaPageOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaUpdateDTO;
+import com.rodolfo.listaniver.entity.Email;
+import com.rodolfo.listaniver.entity.Pessoa;
+import com.rodolfo.listaniver.exception.DuplicatePessoaException;
+import com.rodolfo.listaniver.exception.InvalidPageRequestException;
+import com.rodolfo.listaniver.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.exception.VersionMismatchException;
+import com.rodolfo.listaniver.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.leitura.PosicaoPessoa;
+import com.rodolfo.listaniver.mapper.PessoaMapper;
+import com.rodolfo.listaniver.pagination.OrdenacaoPessoa;
+import com.rodolfo.listaniver.pagination.PessoaCursor;
+import com.rodolfo.listaniver.repository.EmailRepository;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepository;
+import com.rodolfo.listaniver.repository.PessoaRepository;
+import com.rodolfo.listaniver.search.PessoaBusca;
+import com.rodolfo.listaniver.service.impl.PessoaServiceImpl;
+import com.rodolfo.listaniver.validator.PessoaValidator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do Services de Pessoa")
+public class PessoaServiceTest {
+
+    @Mock
+    private PessoaRepository repository;
+
+    @Mock
+    private PessoaLeituraRepository leitura;
+
+    @Mock
+    private EmailRepository emailRepository;
+
+    @Mock
+    private PessoaMapper mapper;
+
+    @Mock
+    private PessoaValidator validator;
+
+    @Mock
+    private PessoaBusca busca;
+
+    @Mock
+    private CacheConsultas cache;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private PessoaServiceImpl service;
+
+    private Pessoa pessoa;
+    private PessoaInputDTO inputDTO;
+    private PessoaUpdateDTO updateDTO;
+
+    @BeforeEach
+    void setUp() {
+        Email email = new Email();
+        email.setId(1L);
+        email.setEmail("joao@email.com");
+        
+        pessoa = new Pessoa();
+        pessoa.setId(1L);
+        pessoa.setNome("João Silva");
+        pessoa.setDataNascimento(LocalDate.of(1990, 5, 15));
+        pessoa.setEmails(new HashSet<>(Set.of(email)));
+        email.setPessoa(pessoa);
+
+        Set<EmailInputDTO> emailsInput = Set.of(new EmailInputDTO("joao@email.com"));
+        inputDTO = new PessoaInputDTO("João Silva", LocalDate.of(1990, 5, 15), emailsInput);
+        updateDTO = new PessoaUpdateDTO("João Santos", LocalDate.of(1990, 5, 15), emailsInput);
+    }
+
+    @Test
+    void deveCriarPessoaComSucesso() {
+        // Given
+        doNothing().when(validator).validateDuplicatePessoa(anyString(), any(LocalDate.class));
+        when(mapper.toEntity(any(PessoaInputDTO.class))).thenReturn(pessoa);
+        when(repository.save(any(Pessoa.class))).thenReturn(pessoa);
+
+        // When
+        PessoaOutputDTO result = service.criar(inputDTO);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(pessoa.getId(), result.id());
+        assertEquals(pessoa.getNome(), result.nome());
+        assertEquals(pessoa.getDataNascimento(), result.dataNascimento());
+        assertEquals(1, result.emails().size());
+        assertEquals("joao@email.com", result.emails().iterator().next().email());
+
+        verify(validator).validateDuplicatePessoa(inputDTO.nome(), inputDTO.dataNascimento());
+        verify(mapper).toEntity(inputDTO);
+        verify(repository).save(any(Pessoa.class));
+    }
+
+    @Test
+    void deveLancarExcecaoAoCriarPessoaDuplicada() {
+        // Given
+        doThrow(new DuplicatePessoaException("Pessoa duplicada")).when(validator).validateDuplicatePessoa(anyString(), any(LocalDate.class));
+
+        // When & Then
+        assertThrows(DuplicatePessoaException.class, () -> service.criar(inputDTO));
+
+        verify(validator).validateDuplicatePessoa(inputDTO.nome(), inputDTO.dataNascimento());
+        verify(repository, never()).save(any(Pessoa.class));
+    }
+
+    @Test
+    void deveBuscarPessoaPorIdComSucesso() {
+        // Given
+        when(leitura.findLinhasById(anyLong())).thenReturn(linhas(pessoa));
+        repassarCache(1L);
+
+        // When
+        PessoaOutputDTO result = service.buscarPorId(1L);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(pessoa.getId(), result.id());
+        assertEquals(pessoa.getNome(), result.nome());
+        assertEquals(pessoa.getDataNascimento(), result.dataNascimento());
+        assertEquals(1, result.emails().size());
+        assertEquals("joao@email.com", result.emails().iterator().next().email());
+
+        verify(leitura).findLinhasById(1L);
+    }
+
+    @Test
+    void deveLancarExcecaoAoBuscarPessoaInexistente() {
+        // Given
+        when(leitura.findLinhasById(anyLong())).thenReturn(List.of());
+        repassarCache(1L);
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> service.buscarPorId(1L));
+
+        verify(leitura).findLinhasById(1L);
+    }
+
+    @Test
+    void deveListarTodasPessoasComSucesso() {
+        // Given
+        when(leitura.findPosicoesOrdenadasPorId(Limit.of(21))).thenReturn(List.of(new PosicaoPessoa(1L)));
+        when(leitura.findLinhasByIdIn(List.of(1L))).thenReturn(linhas(pessoa));
+
+        // When
+        PessoaPageOutputDTO result = service.listarTodos(null, 20, OrdenacaoPessoa.ID);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(1, result.pessoas().size());
+        assertEquals(pessoa.getId(), result.pessoas().getFirst().id());
+        assertEquals(1, result.pessoas().getFirst().emails().size());
+        assertNull(result.proximoCursor());
+
+        verify(leitura).findPosicoesOrdenadasPorId(Limit.of(21));
+    }
+
+    @Test
+    void deveRetornarProximoCursorQuandoExistirMaisPessoas() {
+        // Given
+        when(leitura.findPosicoesOrdenadasPorNome(Limit.of(2)))
+                .thenReturn(List.of(new PosicaoPessoa(1L, "João Silva"), new PosicaoPessoa(2L, "Maria Santos")));
+        when(leitura.findLinhasByIdIn(List.of(1L))).thenReturn(linhas(pessoa));
+
+        // When
+        PessoaPageOutputDTO result = service.listarTodos(null, 1, OrdenacaoPessoa.NOME);
+
+        // Then
+        assertEquals(1, result.pessoas().size());
+        assertEquals(new PessoaCursor(OrdenacaoPessoa.NOME, 1L, "João Silva").encode(), result.proximoCursor());
+    }
+
+    @Test
+    void deveContinuarListagemAPartirDoCursor() {
+        // Given
+        String cursor = new PessoaCursor(OrdenacaoPessoa.DATA_NASCIMENTO, 1L, "1990-05-15").encode();
+        when(leitura.findPosicoesAposDataNascimento(LocalDate.of(1990, 5, 15), 1L, Limit.of(11))).thenReturn(List.of());
+
+        // When
+        PessoaPageOutputDTO result = service.listarTodos(cursor, 10, OrdenacaoPessoa.DATA_NASCIMENTO);
+
+        // Then
+        assertTrue(result.pessoas().isEmpty());
+        assertNull(result.proximoCursor());
+    }
+
+    @Test
+    void deveAvancarCursorMesmoQuandoUltimaPessoaDaPaginaFoiRemovida() {
+        // Given: a pessoa 3 some entre a consulta da página e a carga dos dados
+        pessoa.setId(2L);
+        when(leitura.findPosicoesAposId(1L, Limit.of(3)))
+                .thenReturn(List.of(new PosicaoPessoa(2L), new PosicaoPessoa(3L), new PosicaoPessoa(4L)));
+        when(leitura.findLinhasByIdIn(List.of(2L, 3L))).thenReturn(linhas(pessoa));
+
+        // When
+        PessoaPageOutputDTO result = service.listarTodos(new PessoaCursor(OrdenacaoPessoa.ID, 1L, "1").encode(), 2, OrdenacaoPessoa.ID);
+
+        // Then
+        assertEquals(1, result.pessoas().size());
+        assertEquals(new PessoaCursor(OrdenacaoPessoa.ID, 3L, "3").encode(), result.proximoCursor());
+    }
+
+    @Test
+    void deveRetornarPaginaVaziaComCursorQuandoTodasAsPessoasDaPaginaForamRemovidas() {
+        // Given
+        when(leitura.findPosicoesOrdenadasPorNome(Limit.of(2)))
+                .thenReturn(List.of(new PosicaoPessoa(1L, "Ana Costa"), new PosicaoPessoa(2L, "João Silva")));
+        when(leitura.findLinhasByIdIn(List.of(1L))).thenReturn(List.of());
+
+        // When
+        PessoaPageOutputDTO result = service.listarTodos(null, 1, OrdenacaoPessoa.NOME);
+
+        // Then
+        assertTrue(result.pessoas().isEmpty());
+        assertEquals(new PessoaCursor(OrdenacaoPessoa.NOME, 1L, "Ana Costa").encode(), result.proximoCursor());
+    }
+
+    @Test
+    void deveLancarExcecaoParaCursorDeOutraOrdenacao() {
+        // Given
+        String cursor = new PessoaCursor(OrdenacaoPessoa.ID, 1L, "1").encode();
+
+        // When & Then
+        assertThrows(InvalidPageRequestException.class, () -> service.listarTodos(cursor, 10, OrdenacaoPessoa.NOME));
+    }
+
+    @Test
+    void deveLancarExcecaoParaCursorMalformado() {
+        // When & Then
+        assertThrows(InvalidPageRequestException.class, () -> service.listarTodos("nao-e-um-cursor", 10, OrdenacaoPessoa.ID));
+    }
+
+    @Test
+    void deveAtualizarPessoaComSucesso() {
+        // Given
+        when(validator.findPessoaById(anyLong())).thenReturn(pessoa);
+        doNothing().when(validator).validateDuplicatePessoaForUpdate(any(Pessoa.class), anyString(), any(LocalDate.class));
+        when(repository.save(any(Pessoa.class))).thenReturn(pessoa);
+
+        // When
+        PessoaOutputDTO result = service.atualizar(1L, updateDTO, null);
+
+        // Then
+        assertNotNull(result);
+        assertEquals("João Santos", result.nome());
+        assertEquals(Set.of(new EmailOutputDTO(1L, "joao@email.com", 1L)), result.emails());
+        verify(validator).findPessoaById(1L);
+        verify(validator).validateDuplicatePessoaForUpdate(pessoa, updateDTO.nome(), updateDTO.dataNascimento());
+        verify(repository).save(any(Pessoa.class));
+        verify(cache).invalidarPessoa(1L);
+        verify(cache, never()).invalidarEmails(any());
+        verifyNoInteractions(emailRepository, mapper);
+    }
+
+    @Test
+    void deveAtualizarApenasEmailsAlteradosDaPessoa() {
+        // Given
+        Email repetido = new Email(2L, "joao@email.com", pessoa);
+        Email antigo = new Email(3L, "antigo@email.com", pessoa);
+        pessoa.getEmails().addAll(Set.of(repetido, antigo));
+        Email novo = new Email(null, "novo@email.com", pessoa);
+        Set<EmailInputDTO> emailsInput = Set.of(new EmailInputDTO("joao@email.com"), new EmailInputDTO("novo@email.com"));
+        PessoaUpdateDTO dto = new PessoaUpdateDTO("João Silva", LocalDate.of(1990, 5, 15), emailsInput);
+        when(validator.findPessoaById(anyLong())).thenReturn(pessoa);
+        when(mapper.convertEmailInputDTOsToEmails(Set.of(new EmailInputDTO("novo@email.com")), pessoa)).thenReturn(Set.of(novo));
+        when(repository.save(any(Pessoa.class))).thenReturn(pessoa);
+
+        // When
+        service.atualizar(1L, dto, null);
+
+        // Then
+        assertEquals(Set.of("joao@email.com", "novo@email.com"), pessoa.getEmails().stream().map(Email::getEmail).collect(Collectors.toSet()));
+        assertTrue(pessoa.getEmails().stream().anyMatch(email -> Long.valueOf(1L).equals(email.getId())));
+        verify(cache).invalidarEmails(List.of(2L, 3L));
+        verifyNoInteractions(emailRepository);
+    }
+
+    @Test
+    void deveRemoverTodosEmailsQuandoAtualizacaoNaoInformaEmails() {
+        // Given
+        PessoaUpdateDTO dto = new PessoaUpdateDTO("João Silva", LocalDate.of(1990, 5, 15), null);
+        when(validator.findPessoaById(anyLong())).thenReturn(pessoa);
+        when(repository.save(any(Pessoa.class))).thenReturn(pessoa);
+
+        // When
+        PessoaOutputDTO result = service.atualizar(1L, dto, null);
+
+        // Then
+        assertTrue(result.emails().isEmpty());
+        verify(cache).invalidarEmails(List.of(1L));
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void deveRecusarAtualizacaoQuandoVersaoNaoCorrespondeAoIfMatch() {
+        // Given
+        ReflectionTestUtils.setField(pessoa, "versao", 4L);
+        when(validator.findPessoaById(1L)).thenReturn(pessoa);
+
+        // When & Then
+        assertThrows(VersionMismatchException.class, () -> service.atualizar(1L, updateDTO, Set.of(3L)));
+
+        assertEquals("João Silva", pessoa.getNome());
+        verify(repository, never()).save(any(Pessoa.class));
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    void deveBuscarVersaoNoCacheSemConsultarBanco() {
+        // Given
+        when(cache.pessoaEmCache(1L)).thenReturn(new PessoaOutputDTO(1L, "João Silva", LocalDate.of(1990, 5, 15), Set.of(), 7L));
+
+        // When
+        long versao = service.buscarVersao(1L);
+
+        // Then
+        assertEquals(7L, versao);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveBuscarVersaoNoBancoQuandoPessoaNaoEstaNoCache() {
+        // Given
+        when(repository.findVersaoById(1L)).thenReturn(Optional.of(2L));
+
+        // When & Then
+        assertEquals(2L, service.buscarVersao(1L));
+    }
+
+    @Test
+    void deveLancarExcecaoAoBuscarVersaoDePessoaInexistente() {
+        // Given
+        when(repository.findVersaoById(1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> service.buscarVersao(1L));
+    }
+
+    @Test
+    void deveBuscarPessoasPorIdsNaOrdemPedidaComCacheENaoEncontrados() {
+        // Given
+        PessoaOutputDTO emCache = new PessoaOutputDTO(5L, "Maria Santos", LocalDate.of(1985, 3, 1), Set.of(), 0L);
+        when(cache.pessoaEmCache(anyLong())).thenReturn(null);
+        when(cache.pessoaEmCache(5L)).thenReturn(emCache);
+        when(leitura.findLinhasByIdIn(List.of(9L, 1L))).thenReturn(linhas(pessoa));
+
+        // When
+        PessoaLoteOutputDTO result = service.buscarPorIds(List.of(9L, 5L, 1L, 5L));
+
+        // Then
+        assertEquals(List.of(5L, 1L), result.pessoas().stream().map(PessoaOutputDTO::id).toList());
+        assertEquals(List.of(9L), result.naoEncontrados());
+    }
+
+    @Test
+    void deveConsultarIdsEmFatias() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 1000).boxed().toList();
+        when(leitura.findLinhasByIdIn(anyList())).thenReturn(List.of());
+
+        // When
+        PessoaLoteOutputDTO result = service.buscarPorIds(ids);
+
+        // Then
+        assertEquals(ids, result.naoEncontrados());
+        verify(leitura).findLinhasByIdIn(ids.subList(0, 500));
+        verify(leitura).findLinhasByIdIn(ids.subList(500, 1000));
+    }
+
+    @Test
+    void deveRejeitarLoteAcimaDoLimite() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // When & Then
+        assertThrows(InvalidPageRequestException.class, () -> service.buscarPorIds(ids));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void deveLancarExcecaoAoAtualizarPessoaInexistente() {
+        // Given
+        when(validator.findPessoaById(anyLong())).thenThrow(new RecordNotFoundException("Pessoa", 1L));
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> service.atualizar(1L, updateDTO, null));
+
+        verify(validator).findPessoaById(1L);
+        verify(repository, never()).save(any(Pessoa.class));
+    }
+
+    @Test
+    void deveDeletarPessoaComSucesso() {
+        // Given
+        doNothing().when(validator).validatePessoaExists(anyLong());
+        doNothing().when(repository).deleteById(anyLong());
+
+        // When
+        service.deletar(1L);
+
+        // Then
+        verify(validator).validatePessoaExists(1L);
+        verify(repository).deleteById(1L);
+        verify(cache).invalidarPessoa(1L);
+    }
+
+    @Test
+    void deveLancarExcecaoAoDeletarPessoaInexistente() {
+        // Given
+        doThrow(new RecordNotFoundException("Pessoa", 1L)).when(validator).validatePessoaExists(anyLong());
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> service.deletar(1L));
+
+        verify(validator).validatePessoaExists(1L);
+        verify(repository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void deveBuscarPessoasPorNomeComSucesso() {
+        // Given
+        Pessoa outraPessoa = new Pessoa(2L, "Maria João", LocalDate.of(1985, 8, 22), Set.of());
+        when(busca.buscarIds("João", 0, 20)).thenReturn(List.of(1L, 2L));
+        List<LinhaPessoa> linhas = new ArrayList<>(linhas(outraPessoa));
+        linhas.addAll(linhas(pessoa));
+        when(leitura.findLinhasByIdIn(List.of(1L, 2L))).thenReturn(linhas);
+
+        // When
+        List<PessoaOutputDTO> result = service.buscarPorNome("João", 0, 20);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(2, result.size());
+        assertEquals(pessoa.getId(), result.getFirst().id());
+        assertEquals(outraPessoa.getId(), result.get(1).id());
+
+        verify(busca).buscarIds("João", 0, 20);
+    }
+
+    @Test
+    void deveLimitarTamanhoDaPaginaNaBuscaPorNome() {
+        // Given
+        when(busca.buscarIds("João", 0, 100)).thenReturn(List.of());
+
+        // When
+        List<PessoaOutputDTO> result = service.buscarPorNome("João", -1, 5000);
+
+        // Then
+        assertTrue(result.isEmpty());
+
+        verify(leitura, never()).findLinhasByIdIn(anyList());
+    }
+
+    @Test
+    void deveListarAniversariantesNaVirada() {
+        // Given
+        when(clock.instant()).thenReturn(Instant.parse("2025-12-30T12:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        Pessoa aniversarianteDezembro = new Pessoa(2L, "Maria Santos", LocalDate.of(1985, 12, 31), Set.of());
+        Pessoa aniversarianteJaneiro = new Pessoa(3L, "Ana Costa", LocalDate.of(1988, 1, 2), Set.of());
+        when(repository.findByMesDiaNascimentoBetweenOrderByMesDiaNascimentoAscIdAsc(1230, 1231, Limit.of(1000)))
+                .thenReturn(List.of(aniversarianteDezembro));
+        when(repository.findByMesDiaNascimentoBetweenOrderByMesDiaNascimentoAscIdAsc(101, 106, Limit.of(999)))
+                .thenReturn(List.of(aniversarianteJaneiro));
+
+        // When
+        List<PessoaOutputDTO> result = service.listarAniversariantes(7);
+
+        // Then
+        assertEquals(List.of(2L, 3L), result.stream().map(PessoaOutputDTO::id).toList());
+    }
+
+    // Linhas do LEFT JOIN pessoa/email, como a projeção de leitura devolve
+    private static List<LinhaPessoa> linhas(Pessoa pessoa) {
+        if (pessoa.getEmails().isEmpty()) {
+            return List.of(new LinhaPessoa(pessoa.getId(), pessoa.getNome(), pessoa.getDataNascimento(), pessoa.getVersao(), null, null));
+        }
+        return pessoa.getEmails().stream()
+                .map(email -> new LinhaPessoa(pessoa.getId(), pessoa.getNome(), pessoa.getDataNascimento(), pessoa.getVersao(), email.getId(), email.getEmail()))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void repassarCache(Long id) {
+        when(cache.pessoa(eq(id), any())).thenAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+    }
+}
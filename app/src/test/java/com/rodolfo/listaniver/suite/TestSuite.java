@@ -0,0 +1,62 @@
+package com.rodolfo.listaniver.suite;
+
+import com.rodolfo.listaniver.admissao.BaldeTokensTest;
+import com.rodolfo.listaniver.cache.CacheLeituraTest;
+import com.rodolfo.listaniver.compressao.LimiteCompressaoFilterTest;
+import com.rodolfo.listaniver.controller.EmailControllerTest;
+import com.rodolfo.listaniver.controller.PessoaControllerTest;
+import com.rodolfo.listaniver.duplicidade.FiltroBloomTest;
+import com.rodolfo.listaniver.integration.AdmissaoIntegrationTest;
+import com.rodolfo.listaniver.integration.CacheSegundoNivelIntegrationTest;
+import com.rodolfo.listaniver.integration.EmailIntegrationTest;
+import com.rodolfo.listaniver.integration.FormatosRespostaIntegrationTest;
+import com.rodolfo.listaniver.integration.MetricasIntegrationTest;
+import com.rodolfo.listaniver.integration.PessoaExportacaoIntegrationTest;
+import com.rodolfo.listaniver.integration.PessoaImportacaoIntegrationTest;
+import com.rodolfo.listaniver.integration.PessoaIntegrationTest;
+import com.rodolfo.listaniver.integration.PessoaQueryBudgetIntegrationTest;
+import com.rodolfo.listaniver.integration.ReplicaLeituraIntegrationTest;
+import com.rodolfo.listaniver.integration.SaudacoesAniversarioIntegrationTest;
+import com.rodolfo.listaniver.log.LimiteTaxaLogFilterTest;
+import com.rodolfo.listaniver.repository.EmailRepositoryTest;
+import com.rodolfo.listaniver.repository.PessoaLeituraRepositoryTest;
+import com.rodolfo.listaniver.repository.PessoaRepositoryTest;
+import com.rodolfo.listaniver.roteamento.RoteamentoDataSourceTest;
+import com.rodolfo.listaniver.service.EmailServiceTest;
+import com.rodolfo.listaniver.service.PessoaServiceTest;
+import com.rodolfo.listaniver.util.AniversariosTest;
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+import org.junit.platform.suite.api.SuiteDisplayName;
+
+@Suite
+@SuiteDisplayName("Suite de Testes")
+@SelectClasses({
+        PessoaControllerTest.class,
+        PessoaServiceTest.class,
+        PessoaIntegrationTest.class,
+        PessoaQueryBudgetIntegrationTest.class,
+        PessoaImportacaoIntegrationTest.class,
+        PessoaExportacaoIntegrationTest.class,
+        EmailControllerTest.class,
+        EmailServiceTest.class,
+        EmailIntegrationTest.class,
+        EmailRepositoryTest.class,
+        PessoaRepositoryTest.class,
+        PessoaLeituraRepositoryTest.class,
+        AniversariosTest.class,
+        CacheLeituraTest.class,
+        FiltroBloomTest.class,
+        MetricasIntegrationTest.class,
+        LimiteTaxaLogFilterTest.class,
+        SaudacoesAniversarioIntegrationTest.class,
+        FormatosRespostaIntegrationTest.class,
+        LimiteCompressaoFilterTest.class,
+        RoteamentoDataSourceTest.class,
+        ReplicaLeituraIntegrationTest.class,
+        CacheSegundoNivelIntegrationTest.class,
+        BaldeTokensTest.class,
+        AdmissaoIntegrationTest.class
+})
+public class TestSuite {
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.rodolfo.listaniver.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declara o número máximo de comandos SQL que o corpo do teste pode executar.
+ * A contagem usa as estatísticas do Hibernate e ignora o que roda em métodos {@code @BeforeEach}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    long value();
+}
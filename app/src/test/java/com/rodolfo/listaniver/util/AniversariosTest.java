@@ -0,0 +1,65 @@
+package com.rodolfo.listaniver.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do cálculo de janelas de aniversário")
+public class AniversariosTest {
+
+    @Test
+    void mesDiaDeveCombinarMesEDia() {
+        assertThat(Aniversarios.mesDia(LocalDate.of(1990, 5, 15))).isEqualTo(515);
+        assertThat(Aniversarios.mesDia(LocalDate.of(1992, 12, 1))).isEqualTo(1201);
+        assertThat(Aniversarios.mesDia(null)).isNull();
+    }
+
+    @Test
+    void intervalosDeveRetornarUmIntervaloQuandoJanelaNoMesmoAno() {
+        assertThat(Aniversarios.intervalos(LocalDate.of(2025, 5, 10), 7))
+                .containsExactly(new Aniversarios.Intervalo(510, 517));
+    }
+
+    @Test
+    void intervalosDeveQuebrarJanelaNaVirada() {
+        assertThat(Aniversarios.intervalos(LocalDate.of(2025, 12, 28), 7))
+                .containsExactly(new Aniversarios.Intervalo(1228, 1231), new Aniversarios.Intervalo(101, 104));
+    }
+
+    @Test
+    void intervalosDeveIncluirNascidosEm29DeFevereiroEmAnoNaoBissexto() {
+        assertThat(Aniversarios.intervalos(LocalDate.of(2025, 2, 21), 7))
+                .containsExactly(new Aniversarios.Intervalo(221, 229));
+    }
+
+    @Test
+    void intervalosNaoDeveEstenderFevereiroEmAnoBissexto() {
+        assertThat(Aniversarios.intervalos(LocalDate.of(2024, 2, 21), 7))
+                .containsExactly(new Aniversarios.Intervalo(221, 228));
+    }
+
+    @Test
+    void intervalosNaoDeveRepetirDiasEmJanelaDeUmAno() {
+        assertThat(Aniversarios.intervalos(LocalDate.of(2025, 3, 15), 400))
+                .containsExactly(new Aniversarios.Intervalo(315, 1231), new Aniversarios.Intervalo(101, 314));
+    }
+
+    @Test
+    void chavesDoDiaDeveIncluir29DeFevereiroSomenteEm28DeFevereiroDeAnoNaoBissexto() {
+        assertThat(Aniversarios.chavesDoDia(LocalDate.of(2025, 2, 28))).containsExactly(228, 229);
+        assertThat(Aniversarios.chavesDoDia(LocalDate.of(2024, 2, 28))).containsExactly(228);
+        assertThat(Aniversarios.chavesDoDia(LocalDate.of(2024, 2, 29))).containsExactly(229);
+        assertThat(Aniversarios.chavesDoDia(LocalDate.of(2025, 3, 1))).containsExactly(301);
+    }
+
+    @Test
+    void proximoAniversarioDeveConsiderarVirada() {
+        assertThat(Aniversarios.proximoAniversario(LocalDate.of(1990, 1, 2), LocalDate.of(2025, 12, 30)))
+                .isEqualTo(LocalDate.of(2026, 1, 2));
+        assertThat(Aniversarios.proximoAniversario(LocalDate.of(1992, 2, 29), LocalDate.of(2025, 2, 1)))
+                .isEqualTo(LocalDate.of(2025, 2, 28));
+    }
+}
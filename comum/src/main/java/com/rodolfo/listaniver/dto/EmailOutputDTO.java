@@ -1,9 +1,9 @@
 package com.rodolfo.listaniver.dto;
 
-import com.rodolfo.listaniver.entity.Email;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+// Mesmo JSON nas duas APIs; a conversão da entidade fica no PessoaMapper da API principal
 public record EmailOutputDTO(
         @NotNull
         @Positive
@@ -16,11 +16,4 @@ public record EmailOutputDTO(
         @Positive
         Long pessoaId
 ) {
-    public static EmailOutputDTO fromEntity(Email email) {
-        return new EmailOutputDTO(
-                email.getId(),
-                email.getEmail(),
-                email.getPessoa().getId()
-        );
-    }
 }
\ No newline at end of file
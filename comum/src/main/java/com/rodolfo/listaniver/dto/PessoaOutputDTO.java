@@ -0,0 +1,28 @@
+package com.rodolfo.listaniver.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// Mesmo JSON nas duas APIs; a conversão da entidade fica no PessoaMapper da API principal
+public record PessoaOutputDTO(
+        @NotNull
+        @Positive
+        Long id,
+
+        @NotNull
+        String nome,
+
+        @NotNull
+        LocalDate dataNascimento,
+
+        Set<EmailOutputDTO> emails,
+
+        // Fora da exportação, que não carrega a versão
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long versao
+) {
+}
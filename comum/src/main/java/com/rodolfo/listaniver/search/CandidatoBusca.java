@@ -0,0 +1,8 @@
+package com.rodolfo.listaniver.search;
+
+/**
+ * Pessoa encontrada por uma das consultas da busca por nome, com o nome normalizado que
+ * {@link TermoBusca#ordenar} usa para calcular a relevância.
+ */
+public record CandidatoBusca(Long id, String nomeNormalizado) {
+}
@@ -0,0 +1,122 @@
+package com.rodolfo.listaniver.search;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Termo da busca por nome como as consultas das duas APIs o recebem: normalizado como na
+ * indexação e escapado para {@code LIKE ... ESCAPE '!'}. Termos com menos de
+ * {@link Trigramas#TAMANHO} caracteres não geram trigramas.
+ * <p>
+ * A relevância é calculada aqui, e não no banco, sobre dois conjuntos limitados de candidatos,
+ * para que o custo não cresça com a tabela:
+ * <ul>
+ *     <li>nome igual ou que começa pelo termo: faixa {@link #faixaNome()} no índice de
+ *     {@code nome_normalizado}, no máximo {@link #LIMITE_RESULTADOS} na ordem do índice;</li>
+ *     <li>termo em outra posição do nome: pessoas das primeiras {@link #LIMITE_LEITURA_TRIGRAMAS}
+ *     entradas da faixa {@link #faixaTrigramas()} no índice de trigramas, no máximo
+ *     {@link #LIMITE_RESULTADOS}.</li>
+ * </ul>
+ * Quando um desses conjuntos bate no limite, o restante fica de fora da busca: a ordem por tamanho
+ * do nome vale entre os candidatos lidos, e os trechos no meio do nome de quem está depois das
+ * entradas lidas não aparecem.
+ */
+public record TermoBusca(String normalizado, String like) {
+
+    // Só as primeiras posições são paginadas; também é o máximo de candidatos de cada consulta
+    public static final int LIMITE_RESULTADOS = 1000;
+
+    // Entradas do índice de trigramas lidas, no máximo, para achar o termo fora do início do nome
+    public static final int LIMITE_LEITURA_TRIGRAMAS = 10 * LIMITE_RESULTADOS;
+
+    /**
+     * Intervalo {@code [de, ate)} dos textos que começam por {@code de}, para ser lido por faixa
+     * no índice em vez de {@code LIKE}.
+     */
+    public record Faixa(String de, String ate) {
+
+        static Faixa comPrefixo(String prefixo) {
+            int ultimo = prefixo.codePointBefore(prefixo.length());
+            return new Faixa(prefixo, prefixo.substring(0, prefixo.length() - Character.charCount(ultimo))
+                    + Character.toString(ultimo + 1));
+        }
+    }
+
+    /**
+     * Vazio quando não há o que buscar: termo em branco ou página que começa depois de
+     * {@link #LIMITE_RESULTADOS} posições.
+     */
+    public static Optional<TermoBusca> de(String termo, int pagina, int tamanho) {
+        String normalizado = Trigramas.normalizar(termo);
+        if (normalizado.isEmpty() || (long) pagina * tamanho >= LIMITE_RESULTADOS) {
+            return Optional.empty();
+        }
+        return Optional.of(new TermoBusca(normalizado, escaparLike(normalizado)));
+    }
+
+    public boolean porPrefixo() {
+        return normalizado.length() < Trigramas.TAMANHO;
+    }
+
+    public Set<String> trigramas() {
+        return Trigramas.doTermo(normalizado);
+    }
+
+    public Faixa faixaNome() {
+        return Faixa.comPrefixo(normalizado);
+    }
+
+    /**
+     * Trigramas que começam pelo termo curto, ou o primeiro trigrama do termo; o banco confere o
+     * termo inteiro no nome normalizado.
+     */
+    public Faixa faixaTrigramas() {
+        return Faixa.comPrefixo(porPrefixo() ? normalizado : trigramas().iterator().next());
+    }
+
+    /**
+     * Menor é melhor: nome igual, início do nome, início de uma palavra, qualquer posição. Nomes
+     * sem o termo ficam com -1.
+     */
+    public int relevancia(String nomeNormalizado) {
+        if (nomeNormalizado.equals(normalizado)) {
+            return 0;
+        }
+        if (nomeNormalizado.startsWith(normalizado)) {
+            return 1;
+        }
+        if (nomeNormalizado.contains(" " + normalizado)) {
+            return 2;
+        }
+        return nomeNormalizado.contains(normalizado) ? 3 : -1;
+    }
+
+    /**
+     * IDs da página pedida, com os candidatos das duas consultas ordenados por relevância e, no
+     * empate, pelo nome mais curto.
+     */
+    public List<Long> ordenar(Collection<CandidatoBusca> candidatos, int pagina, int tamanho) {
+        Map<Long, CandidatoBusca> porId = new LinkedHashMap<>();
+        candidatos.forEach(candidato -> porId.putIfAbsent(candidato.id(), candidato));
+
+        return porId.values().stream()
+                .filter(candidato -> relevancia(candidato.nomeNormalizado()) >= 0)
+                .sorted(Comparator.comparingInt((CandidatoBusca candidato) -> relevancia(candidato.nomeNormalizado()))
+                        .thenComparingInt(candidato -> candidato.nomeNormalizado().length())
+                        .thenComparing(CandidatoBusca::nomeNormalizado)
+                        .thenComparing(CandidatoBusca::id))
+                .skip((long) pagina * tamanho)
+                .limit(tamanho)
+                .map(CandidatoBusca::id)
+                .toList();
+    }
+
+    private static String escaparLike(String termo) {
+        return termo.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
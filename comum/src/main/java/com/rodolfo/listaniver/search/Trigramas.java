@@ -0,0 +1,53 @@
+package com.rodolfo.listaniver.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public final class Trigramas {
+
+    public static final int TAMANHO = 3;
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    // Dois espaços no final garantem que todo termo de 1 ou 2 caracteres seja prefixo de algum trigrama
+    private static final String PREENCHIMENTO = "  ";
+
+    private Trigramas() {
+    }
+
+    /**
+     * Forma usada tanto na indexação quanto na consulta: minúsculas, sem acentos e com espaços simples.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return ESPACOS.matcher(semAcentos.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    public static Set<String> doNome(String nome) {
+        String normalizado = normalizar(nome);
+        return normalizado.isEmpty() ? Set.of() : extrair(normalizado + PREENCHIMENTO);
+    }
+
+    /**
+     * Trigramas de um termo já normalizado. Termos com menos de três caracteres não geram trigramas
+     * e devem ser buscados por prefixo.
+     */
+    public static Set<String> doTermo(String termoNormalizado) {
+        return extrair(termoNormalizado);
+    }
+
+    private static Set<String> extrair(String texto) {
+        int[] codePoints = texto.codePoints().toArray();
+        Set<String> trigramas = new LinkedHashSet<>();
+        for (int i = 0; i + TAMANHO <= codePoints.length; i++) {
+            trigramas.add(new String(codePoints, i, TAMANHO));
+        }
+        return trigramas;
+    }
+}
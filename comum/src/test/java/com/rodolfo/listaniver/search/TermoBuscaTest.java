@@ -0,0 +1,61 @@
+package com.rodolfo.listaniver.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do termo da busca por nome")
+public class TermoBuscaTest {
+
+    @Test
+    void deveNormalizarComoAIndexacaoEEscaparCaracteresDoLike() {
+        TermoBusca busca = TermoBusca.de("  JOSÉ_100%! ", 0, 20).orElseThrow();
+
+        assertThat(busca.normalizado()).isEqualTo(Trigramas.normalizar("José_100%!"));
+        assertThat(busca.like()).isEqualTo("jose!_100!%!!");
+        assertThat(busca.porPrefixo()).isFalse();
+        assertThat(busca.trigramas()).isEqualTo(Trigramas.doTermo("jose_100%!"));
+    }
+
+    @Test
+    void termosCurtosDevemSerBuscadosPorPrefixo() {
+        assertThat(TermoBusca.de("Jo", 0, 20)).get().extracting(TermoBusca::porPrefixo).isEqualTo(true);
+    }
+
+    @Test
+    void naoDeveBuscarTermoEmBrancoNemPaginaAlemDoLimite() {
+        assertThat(TermoBusca.de("   ", 0, 20)).isEmpty();
+        assertThat(TermoBusca.de("joao", TermoBusca.LIMITE_RESULTADOS / 20, 20)).isEmpty();
+        assertThat(TermoBusca.de("joao", TermoBusca.LIMITE_RESULTADOS / 20 - 1, 20)).isPresent();
+    }
+
+    @Test
+    void faixasDevemCobrirOsTextosQueComecamPeloTermo() {
+        TermoBusca curto = TermoBusca.de("Jo", 0, 20).orElseThrow();
+        TermoBusca longo = TermoBusca.de("Joana", 0, 20).orElseThrow();
+
+        assertThat(curto.faixaNome()).isEqualTo(new TermoBusca.Faixa("jo", "jp"));
+        assertThat(curto.faixaTrigramas()).isEqualTo(new TermoBusca.Faixa("jo", "jp"));
+        assertThat(longo.faixaNome()).isEqualTo(new TermoBusca.Faixa("joana", "joanb"));
+        assertThat(longo.faixaTrigramas()).isEqualTo(new TermoBusca.Faixa("joa", "job"));
+    }
+
+    @Test
+    void deveOrdenarOsCandidatosPorRelevanciaENomeMaisCurtoEPaginar() {
+        TermoBusca busca = TermoBusca.de("ana", 0, 20).orElseThrow();
+        List<CandidatoBusca> candidatos = List.of(
+                new CandidatoBusca(1L, "mariana souza"),
+                new CandidatoBusca(2L, "luana andrade"),
+                new CandidatoBusca(3L, "ana costa"),
+                new CandidatoBusca(4L, "ana"),
+                new CandidatoBusca(5L, "joao ana"),
+                new CandidatoBusca(3L, "ana costa"),
+                new CandidatoBusca(6L, "joao silva"));
+
+        assertThat(busca.ordenar(candidatos, 0, 20)).containsExactly(4L, 3L, 5L, 2L, 1L);
+        assertThat(busca.ordenar(candidatos, 1, 2)).containsExactly(5L, 2L);
+    }
+}
@@ -0,0 +1,37 @@
+package com.rodolfo.listaniver.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes da extração de trigramas")
+public class TrigramasTest {
+
+    @Test
+    void normalizarDeveRemoverAcentosEspacosEMaiusculas() {
+        assertThat(Trigramas.normalizar("  JOÃO   da Conceição ")).isEqualTo("joao da conceicao");
+        assertThat(Trigramas.normalizar(null)).isEmpty();
+    }
+
+    @Test
+    void doNomeDeveCobrirPrefixosDeUmEDoisCaracteres() {
+        assertThat(Trigramas.doNome("Ana")).containsExactly("ana", "na ", "a  ");
+    }
+
+    @Test
+    void doNomeDeveRetornarVazioParaNomeEmBranco() {
+        assertThat(Trigramas.doNome("   ")).isEmpty();
+    }
+
+    @Test
+    void doTermoNaoDeveUsarPreenchimento() {
+        assertThat(Trigramas.doTermo("silva")).containsExactly("sil", "ilv", "lva");
+        assertThat(Trigramas.doTermo("si")).isEmpty();
+    }
+
+    @Test
+    void doTermoDeveContarCodePoints() {
+        assertThat(Trigramas.doTermo("a😀b")).containsExactly("a😀b");
+    }
+}
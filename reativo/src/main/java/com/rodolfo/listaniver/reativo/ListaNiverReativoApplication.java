@@ -0,0 +1,13 @@
+package com.rodolfo.listaniver.reativo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ListaNiverReativoApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ListaNiverReativoApplication.class, args);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.rodolfo.listaniver.reativo.controller;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.reativo.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/emails")
+@RequiredArgsConstructor
+@Slf4j
+public class EmailController {
+
+    private final EmailService emailService;
+
+    @GetMapping(value = "/pessoa/{pessoaId}", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<EmailOutputDTO> listarEmailsPorPessoa(@PathVariable Long pessoaId) {
+        log.debug("Requisição para listar emails da pessoa ID: {}", pessoaId);
+        return emailService.listarEmailsPorPessoa(pessoaId);
+    }
+
+    @GetMapping("/{emailId}")
+    public Mono<EmailOutputDTO> buscarEmailPorId(@PathVariable Long emailId) {
+        log.debug("Requisição para buscar email ID: {}", emailId);
+        return emailService.buscarPorId(emailId);
+    }
+}
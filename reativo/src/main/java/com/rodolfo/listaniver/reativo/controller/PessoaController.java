@@ -0,0 +1,44 @@
+package com.rodolfo.listaniver.reativo.controller;
+
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.reativo.service.PessoaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leituras de /api/pessoas da API principal. As listas saem em application/x-ndjson, uma pessoa
+ * por linha escrita assim que fica pronta; com Accept: application/json saem como um array.
+ */
+@RestController
+@RequestMapping("/api/pessoas")
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaController {
+
+    private final PessoaService service;
+
+    @GetMapping("/{id}")
+    public Mono<PessoaOutputDTO> buscarPorId(@PathVariable Long id) {
+        log.debug("Requisição para buscar pessoa por ID: {}", id);
+        return service.buscarPorId(id);
+    }
+
+    // Todas as pessoas por ID; aposId retoma um fluxo interrompido a partir da última pessoa recebida
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<PessoaOutputDTO> listarTodos(@RequestParam(defaultValue = "0") Long aposId) {
+        log.debug("Requisição para listar pessoas após o ID {}", aposId);
+        return service.listarTodos(aposId);
+    }
+
+    @GetMapping(value = "/buscar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<PessoaOutputDTO> buscarPorNome(@RequestParam String nome,
+                                               @RequestParam(defaultValue = "0") int pagina,
+                                               @RequestParam(defaultValue = "20") int tamanho) {
+        log.debug("Requisição para buscar pessoas por nome: {}", nome);
+        return service.buscarPorNome(nome, pagina, tamanho);
+    }
+}
@@ -0,0 +1,29 @@
+package com.rodolfo.listaniver.reativo.leitura;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Uma linha do LEFT JOIN pessoa/email. Pessoas sem email vêm com emailId e email nulos.
+ */
+public record LinhaPessoa(Long id, String nome, LocalDate dataNascimento, Long versao, Long emailId, String email) {
+
+    /**
+     * Monta a pessoa a partir das linhas dela, que chegam juntas na consulta ordenada por ID.
+     */
+    public static PessoaOutputDTO pessoa(List<LinhaPessoa> linhas) {
+        LinhaPessoa primeira = linhas.getFirst();
+        Set<EmailOutputDTO> emails = HashSet.newHashSet(linhas.size());
+        for (LinhaPessoa linha : linhas) {
+            if (linha.emailId() != null) {
+                emails.add(new EmailOutputDTO(linha.emailId(), linha.email(), linha.id()));
+            }
+        }
+        return new PessoaOutputDTO(primeira.id(), primeira.nome(), primeira.dataNascimento(), emails, primeira.versao());
+    }
+}
@@ -0,0 +1,44 @@
+package com.rodolfo.listaniver.reativo.repository;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailReativoRepository {
+
+    private static final String SELECT_EMAIL = "SELECT id, email, pessoa_id FROM email";
+
+    private final DatabaseClient client;
+
+    public Mono<EmailOutputDTO> findById(Long id) {
+        return client.sql(SELECT_EMAIL + " WHERE id = :id")
+                .bind("id", id)
+                .map(EmailReativoRepository::email)
+                .one();
+    }
+
+    public Flux<EmailOutputDTO> findByPessoaId(Long pessoaId) {
+        return client.sql(SELECT_EMAIL + " WHERE pessoa_id = :pessoaId ORDER BY id")
+                .bind("pessoaId", pessoaId)
+                .map(EmailReativoRepository::email)
+                .all();
+    }
+
+    public Mono<Boolean> existsPessoaById(Long pessoaId) {
+        return client.sql("SELECT 1 FROM pessoa WHERE id = :id")
+                .bind("id", pessoaId)
+                .map(linha -> true)
+                .first()
+                .defaultIfEmpty(false);
+    }
+
+    private static EmailOutputDTO email(Readable linha) {
+        return new EmailOutputDTO(linha.get("id", Long.class), linha.get("email", String.class), linha.get("pessoa_id", Long.class));
+    }
+}
@@ -0,0 +1,91 @@
+package com.rodolfo.listaniver.reativo.repository;
+
+import com.rodolfo.listaniver.reativo.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.search.CandidatoBusca;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Leituras de pessoa direto em SQL: o R2DBC não tem associações, então pessoa e emails vêm do
+ * mesmo LEFT JOIN ordenado por ID e são agrupados na passagem.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PessoaReativaRepository {
+
+    // Linhas pedidas ao banco por vez; com o cliente lento o driver para de buscar até haver demanda
+    static final int TAMANHO_BUSCA = 500;
+
+    private static final String SELECT_LINHAS = "SELECT p.id, p.nome, p.data_nascimento, p.versao, e.id AS email_id, e.email FROM pessoa p LEFT JOIN email e ON e.pessoa_id = p.id";
+
+    private static final String SELECT_CANDIDATOS = "SELECT p.id, p.nome_normalizado FROM pessoa p";
+
+    private final DatabaseClient client;
+
+    public Flux<LinhaPessoa> findLinhasById(Long id) {
+        return client.sql(SELECT_LINHAS + " WHERE p.id = :id ORDER BY e.id")
+                .bind("id", id)
+                .map(PessoaReativaRepository::linha)
+                .all();
+    }
+
+    public Flux<LinhaPessoa> findLinhasByIdIn(Collection<Long> ids) {
+        return client.sql(SELECT_LINHAS + " WHERE p.id IN (:ids) ORDER BY p.id, e.id")
+                .bind("ids", ids)
+                .map(PessoaReativaRepository::linha)
+                .all();
+    }
+
+    public Flux<LinhaPessoa> findLinhasAposId(Long id) {
+        return client.sql(SELECT_LINHAS + " WHERE p.id > :id ORDER BY p.id, e.id")
+                .bind("id", id)
+                .filter(statement -> statement.fetchSize(TAMANHO_BUSCA))
+                .map(PessoaReativaRepository::linha)
+                .all();
+    }
+
+    // Candidatos da busca por nome, mesmas consultas da API principal; a relevância e os limites estão
+    // em TermoBusca. O termo chega escapado para LIKE (com '!') em termoLike
+
+    public Flux<CandidatoBusca> findCandidatosPorInicioDoNome(String de, String ate, String termoLike, int limite) {
+        return client.sql(SELECT_CANDIDATOS + " WHERE p.nome_normalizado >= :de AND p.nome_normalizado < :ate AND p.nome_normalizado LIKE :termoLike || '%' ESCAPE '!' ORDER BY p.nome_normalizado, p.id LIMIT :limite")
+                .bind("de", de)
+                .bind("ate", ate)
+                .bind("termoLike", termoLike)
+                .bind("limite", limite)
+                .map(PessoaReativaRepository::candidato)
+                .all();
+    }
+
+    public Flux<CandidatoBusca> findCandidatosPorTrigrama(String de, String ate, int leitura, String termoLike, int limite) {
+        return client.sql(SELECT_CANDIDATOS + " WHERE p.id IN (SELECT pessoa_id FROM pessoa_trigrama WHERE trigrama >= :de AND trigrama < :ate ORDER BY trigrama, pessoa_id LIMIT :leitura)"
+                        + " AND p.nome_normalizado LIKE '%' || :termoLike || '%' ESCAPE '!' AND p.nome_normalizado NOT LIKE :termoLike || '%' ESCAPE '!' ORDER BY p.id LIMIT :limite")
+                .bind("de", de)
+                .bind("ate", ate)
+                .bind("leitura", leitura)
+                .bind("termoLike", termoLike)
+                .bind("limite", limite)
+                .map(PessoaReativaRepository::candidato)
+                .all();
+    }
+
+    private static CandidatoBusca candidato(Readable linha) {
+        return new CandidatoBusca(linha.get("id", Long.class), linha.get("nome_normalizado", String.class));
+    }
+
+    private static LinhaPessoa linha(Readable linha) {
+        return new LinhaPessoa(
+                linha.get("id", Long.class),
+                linha.get("nome", String.class),
+                linha.get("data_nascimento", LocalDate.class),
+                linha.get("versao", Long.class),
+                linha.get("email_id", Long.class),
+                linha.get("email", String.class));
+    }
+}
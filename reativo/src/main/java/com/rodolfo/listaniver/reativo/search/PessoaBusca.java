@@ -0,0 +1,37 @@
+package com.rodolfo.listaniver.reativo.search;
+
+import com.rodolfo.listaniver.reativo.repository.PessoaReativaRepository;
+import com.rodolfo.listaniver.search.CandidatoBusca;
+import com.rodolfo.listaniver.search.TermoBusca;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Busca por trecho do nome com as mesmas consultas limitadas e a mesma relevância da API
+ * principal, ambas definidas por {@link TermoBusca}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessoaBusca {
+
+    private final PessoaReativaRepository repository;
+
+    public Mono<List<Long>> buscarIds(String termo, int pagina, int tamanho) {
+        return TermoBusca.de(termo, pagina, tamanho)
+                .map(busca -> buscarCandidatos(busca).collectList()
+                        .map(candidatos -> busca.ordenar(candidatos, pagina, tamanho)))
+                .orElse(Mono.just(List.of()));
+    }
+
+    private Flux<CandidatoBusca> buscarCandidatos(TermoBusca busca) {
+        TermoBusca.Faixa nome = busca.faixaNome();
+        TermoBusca.Faixa trigramas = busca.faixaTrigramas();
+        return Flux.concat(
+                repository.findCandidatosPorInicioDoNome(nome.de(), nome.ate(), busca.like(), TermoBusca.LIMITE_RESULTADOS),
+                repository.findCandidatosPorTrigrama(trigramas.de(), trigramas.ate(), TermoBusca.LIMITE_LEITURA_TRIGRAMAS, busca.like(), TermoBusca.LIMITE_RESULTADOS));
+    }
+}
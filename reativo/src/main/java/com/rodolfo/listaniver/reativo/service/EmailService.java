@@ -0,0 +1,12 @@
+package com.rodolfo.listaniver.reativo.service;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface EmailService {
+
+    Flux<EmailOutputDTO> listarEmailsPorPessoa(Long pessoaId);
+
+    Mono<EmailOutputDTO> buscarPorId(Long emailId);
+}
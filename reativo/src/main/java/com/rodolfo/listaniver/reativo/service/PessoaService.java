@@ -0,0 +1,14 @@
+package com.rodolfo.listaniver.reativo.service;
+
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface PessoaService {
+
+    Mono<PessoaOutputDTO> buscarPorId(Long id);
+
+    Flux<PessoaOutputDTO> listarTodos(Long aposId);
+
+    Flux<PessoaOutputDTO> buscarPorNome(String nome, int pagina, int tamanho);
+}
@@ -0,0 +1,37 @@
+package com.rodolfo.listaniver.reativo.service.impl;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.reativo.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.reativo.repository.EmailReativoRepository;
+import com.rodolfo.listaniver.reativo.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailServiceImpl implements EmailService {
+
+    private final EmailReativoRepository repository;
+
+    @Override
+    public Flux<EmailOutputDTO> listarEmailsPorPessoa(Long pessoaId) {
+        log.debug("Listando emails para pessoa ID: {}", pessoaId);
+
+        return repository.existsPessoaById(pessoaId)
+                .flatMapMany(existe -> existe
+                        ? repository.findByPessoaId(pessoaId)
+                        : Flux.error(new RecordNotFoundException("Pessoa", pessoaId)));
+    }
+
+    @Override
+    public Mono<EmailOutputDTO> buscarPorId(Long emailId) {
+        log.debug("Buscando email por ID: {}", emailId);
+
+        return repository.findById(emailId)
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("Email", emailId)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.rodolfo.listaniver.reativo.service.impl;
+
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.reativo.exception.RecordNotFoundException;
+import com.rodolfo.listaniver.reativo.leitura.LinhaPessoa;
+import com.rodolfo.listaniver.reativo.repository.PessoaReativaRepository;
+import com.rodolfo.listaniver.reativo.search.PessoaBusca;
+import com.rodolfo.listaniver.reativo.service.PessoaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PessoaServiceImpl implements PessoaService {
+
+    static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private final PessoaReativaRepository repository;
+    private final PessoaBusca busca;
+
+    @Override
+    public Mono<PessoaOutputDTO> buscarPorId(Long id) {
+        log.debug("Buscando pessoa por ID: {}", id);
+
+        return repository.findLinhasById(id)
+                .collectList()
+                .filter(linhas -> !linhas.isEmpty())
+                .map(LinhaPessoa::pessoa)
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("Pessoa", id)));
+    }
+
+    // As linhas de cada pessoa chegam juntas: cada pessoa sai assim que a linha da seguinte aparece,
+    // e o banco só é lido conforme o cliente consome
+    @Override
+    public Flux<PessoaOutputDTO> listarTodos(Long aposId) {
+        log.debug("Listando pessoas após o ID {}", aposId);
+
+        return repository.findLinhasAposId(aposId)
+                .bufferUntilChanged(LinhaPessoa::id)
+                .map(LinhaPessoa::pessoa);
+    }
+
+    @Override
+    public Flux<PessoaOutputDTO> buscarPorNome(String nome, int pagina, int tamanho) {
+        log.debug("Buscando pessoas por nome: {}", nome);
+
+        return busca.buscarIds(nome, Math.max(pagina, 0), Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA))
+                .flatMapMany(ids -> ids.isEmpty() ? Flux.empty() : carregarNaOrdem(ids));
+    }
+
+    // Mantém a ordem de relevância devolvida pela busca
+    private Flux<PessoaOutputDTO> carregarNaOrdem(List<Long> ids) {
+        return repository.findLinhasByIdIn(ids)
+                .bufferUntilChanged(LinhaPessoa::id)
+                .map(LinhaPessoa::pessoa)
+                .collectMap(PessoaOutputDTO::id)
+                .flatMapIterable(pessoas -> ids.stream().map(pessoas::get).filter(Objects::nonNull).toList());
+    }
+}
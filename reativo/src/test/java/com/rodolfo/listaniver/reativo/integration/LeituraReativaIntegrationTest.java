@@ -0,0 +1,234 @@
+package com.rodolfo.listaniver.reativo.integration;
+
+import com.rodolfo.listaniver.dto.EmailOutputDTO;
+import com.rodolfo.listaniver.dto.PessoaOutputDTO;
+import com.rodolfo.listaniver.reativo.service.PessoaService;
+import com.rodolfo.listaniver.search.TermoBusca;
+import com.rodolfo.listaniver.search.Trigramas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração da API de leitura reativa")
+public class LeituraReativaIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient client;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        client.sql("DELETE FROM pessoa_trigrama").then()
+                .then(client.sql("DELETE FROM email").then())
+                .then(client.sql("DELETE FROM pessoa").then())
+                .block();
+        ids.clear();
+
+        ids.add(inserirPessoa("João Silva", LocalDate.of(1990, 5, 15), "joao@email.com", "joao.trabalho@empresa.com"));
+        ids.add(inserirPessoa("Maria Santos", LocalDate.of(1985, 8, 22), "maria@email.com"));
+        ids.add(inserirPessoa("Ana Joana Costa", LocalDate.of(1988, 3, 7)));
+        ids.add(inserirPessoa("Joana", LocalDate.of(1995, 11, 30), "joana@email.com"));
+    }
+
+    @Test
+    void buscarPorIdDeveRetornarPessoaComEmails() {
+        webTestClient.get().uri("/api/pessoas/{id}", ids.getFirst())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(ids.getFirst())
+                .jsonPath("$.nome").isEqualTo("João Silva")
+                .jsonPath("$.dataNascimento").isEqualTo("1990-05-15")
+                .jsonPath("$.versao").isEqualTo(0)
+                .jsonPath("$.emails.length()").isEqualTo(2);
+    }
+
+    @Test
+    void buscarPorIdDeveRetornarNotFoundComProblemDetailQuandoPessoaNaoExiste() {
+        webTestClient.get().uri("/api/pessoas/{id}", 999999)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Record Not Found")
+                .jsonPath("$.detail").isEqualTo("Pessoa not found with id: 999999");
+    }
+
+    @Test
+    void listarTodosDeveTransmitirPessoasEmNdjsonNaOrdemDosIds() {
+        // When
+        Flux<PessoaOutputDTO> pessoas = webTestClient.get().uri("/api/pessoas")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PessoaOutputDTO.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(pessoas.map(PessoaOutputDTO::id))
+                .expectNextSequence(ids)
+                .verifyComplete();
+    }
+
+    @Test
+    void listarTodosDeveRetomarAposOIdInformado() {
+        webTestClient.get().uri(uri -> uri.path("/api/pessoas").queryParam("aposId", ids.get(1)).build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo(ids.get(2))
+                .jsonPath("$[0].emails.length()").isEqualTo(0)
+                .jsonPath("$[1].emails[0].email").isEqualTo("joana@email.com");
+    }
+
+    @Test
+    void listarTodosDeveEntregarSomenteOQueFoiPedido() {
+        StepVerifier.create(pessoaService.listarTodos(0L), 1)
+                .assertNext(pessoa -> assertThat(pessoa.emails()).hasSize(2))
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenRequest(2)
+                .expectNextCount(2)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void buscarPorNomeDeveUsarOsTrigramasEOrdenarPorRelevancia() {
+        webTestClient.get().uri(uri -> uri.path("/api/pessoas/buscar").queryParam("nome", "JOANA").build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].nome").isEqualTo("Joana")
+                .jsonPath("$[1].nome").isEqualTo("Ana Joana Costa");
+    }
+
+    @Test
+    void buscarPorNomeDeveBuscarPorPrefixoTermosCurtosSemAcento() {
+        webTestClient.get().uri(uri -> uri.path("/api/pessoas/buscar").queryParam("nome", "jo").queryParam("tamanho", 1).build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].nome").isEqualTo("Joana");
+    }
+
+    @Test
+    void buscarPorNomeDeveTrazerONomeExatoPrimeiroMesmoComMaisCandidatosQueOLimite() {
+        // Given: mais candidatos que o limite, com o trecho no meio do nome, e o nome exato com o maior ID
+        client.sql("INSERT INTO pessoa (nome, nome_normalizado, data_nascimento) SELECT 'Mariana ' || X, 'mariana ' || X, DATE '1990-01-01' FROM SYSTEM_RANGE(1, :quantidade)")
+                .bind("quantidade", TermoBusca.LIMITE_RESULTADOS + 100)
+                .then()
+                .then(client.sql("INSERT INTO pessoa_trigrama (trigrama, pessoa_id) SELECT 'ana', id FROM pessoa WHERE nome LIKE 'Mariana %'").then())
+                .block();
+        Long exata = inserirPessoa("Ana", LocalDate.of(1988, 3, 7));
+
+        // When & Then: nome igual pelos trigramas e início do nome pelo prefixo
+        for (String termo : List.of("ana", "an")) {
+            webTestClient.get().uri(uri -> uri.path("/api/pessoas/buscar").queryParam("nome", termo).queryParam("tamanho", 2).build())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.length()").isEqualTo(2)
+                    .jsonPath("$[0].id").isEqualTo(exata);
+        }
+    }
+
+    @Test
+    void listarEmailsPorPessoaDeveRetornarEmailsDaPessoa() {
+        webTestClient.get().uri("/api/emails/pessoa/{pessoaId}", ids.getFirst())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(EmailOutputDTO.class)
+                .value(emails -> assertThat(emails)
+                        .extracting(EmailOutputDTO::email)
+                        .containsExactly("joao@email.com", "joao.trabalho@empresa.com"));
+    }
+
+    @Test
+    void listarEmailsPorPessoaDeveRetornarNotFoundQuandoPessoaNaoExiste() {
+        webTestClient.get().uri("/api/emails/pessoa/{pessoaId}", 999999)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void buscarEmailPorIdDeveRetornarEmailOuNotFound() {
+        Long emailId = client.sql("SELECT id FROM email WHERE email = 'maria@email.com'")
+                .map(linha -> linha.get("id", Long.class))
+                .one()
+                .block();
+
+        webTestClient.get().uri("/api/emails/{emailId}", emailId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo("maria@email.com")
+                .jsonPath("$.pessoaId").isEqualTo(ids.get(1));
+
+        webTestClient.get().uri("/api/emails/{emailId}", 999999)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private Long inserirPessoa(String nome, LocalDate dataNascimento, String... emails) {
+        Long id = client.sql("INSERT INTO pessoa (nome, nome_normalizado, data_nascimento) VALUES (:nome, :nomeNormalizado, :dataNascimento)")
+                .bind("nome", nome)
+                .bind("nomeNormalizado", Trigramas.normalizar(nome))
+                .bind("dataNascimento", dataNascimento)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(linha -> linha.get("id", Long.class))
+                .one()
+                .block();
+
+        for (String email : emails) {
+            client.sql("INSERT INTO email (email, pessoa_id) VALUES (:email, :pessoaId)")
+                    .bind("email", email)
+                    .bind("pessoaId", id)
+                    .then()
+                    .block();
+        }
+        // O índice de trigramas e o nome normalizado são mantidos pela aplicação principal
+        for (String trigrama : Trigramas.doNome(nome)) {
+            client.sql("INSERT INTO pessoa_trigrama (trigrama, pessoa_id) VALUES (:trigrama, :pessoaId)")
+                    .bind("trigrama", trigrama)
+                    .bind("pessoaId", id)
+                    .then()
+                    .block();
+        }
+        return id;
+    }
+}
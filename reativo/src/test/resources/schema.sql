@@ -0,0 +1,30 @@
+-- Tabelas lidas pela API reativa, como a aplicação principal as cria
+CREATE TABLE pessoa
+(
+    id                 BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nome               VARCHAR(100) NOT NULL,
+    nome_normalizado   VARCHAR(100),
+    data_nascimento    DATE         NOT NULL,
+    mes_dia_nascimento INTEGER,
+    versao             BIGINT       NOT NULL DEFAULT 0
+);
+
+CREATE TABLE email
+(
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email             VARCHAR(100) NOT NULL,
+    email_normalizado VARCHAR(100),
+    pessoa_id         BIGINT       NOT NULL,
+    FOREIGN KEY (pessoa_id) REFERENCES pessoa (id) ON DELETE CASCADE
+);
+
+CREATE TABLE pessoa_trigrama
+(
+    trigrama  VARCHAR(3) NOT NULL,
+    pessoa_id BIGINT     NOT NULL,
+    PRIMARY KEY (pessoa_id, trigrama)
+);
+
+CREATE INDEX idx_pessoa_nome_normalizado ON pessoa (nome_normalizado, id);
+CREATE INDEX idx_pessoa_trigrama_trigrama ON pessoa_trigrama (trigrama, pessoa_id);
+CREATE INDEX idx_email_pessoa_id ON email (pessoa_id);
@@ -1,32 +0,0 @@
-package com.rodolfo.listaniver.entity;
-
-import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.time.LocalDate;
-import java.util.Set;
-
-@Entity
-@Table(name = "pessoa")
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class Pessoa {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(nullable = false, length = 100)
-    private String nome;
-
-    @Column(name = "data_nascimento", nullable = false)
-    private LocalDate dataNascimento;
-
-    @OneToMany(mappedBy = "pessoa", cascade = CascadeType.ALL)
-    private Set<Email> emails;
-}
\ No newline at end of file